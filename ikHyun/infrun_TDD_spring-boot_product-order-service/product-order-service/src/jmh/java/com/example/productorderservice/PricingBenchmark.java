@@ -0,0 +1,72 @@
+package com.example.productorderservice;
+
+import com.example.productorderservice.order.domain.Order;
+import com.example.productorderservice.order.domain.OrderStatus;
+import com.example.productorderservice.payment.domain.Payment;
+import com.example.productorderservice.payment.domain.PaymentView;
+import com.example.productorderservice.product.domain.DiscountPolicy;
+import com.example.productorderservice.product.domain.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문/결제 요청마다 도는 금액 계산 경로.
+ * 주문 생성 시 단가와 할인을 스냅샷하므로 getTotalPrice/getPrice 는 필드 읽기여야 하고, 비용은 주문 생성에 모인다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PricingBenchmark {
+
+    private int price = 12_000;
+    private Product product;
+    private Order order;
+    private PaymentView paymentView;
+    private Payment payment;
+
+    @Setup
+    public void setUp() {
+        product = new Product("상품명", price, DiscountPolicy.FIX_1000_AMOUNT);
+        order = new Order(product, 3);
+        paymentView = new PaymentView(1L, 1L, order.getQuantity(), order.getTotalPrice(), OrderStatus.ORDERED);
+        payment = new Payment(paymentView, "1234-1234-1234-1234");
+    }
+
+    @Benchmark
+    public int applyDiscount() {
+        return DiscountPolicy.FIX_1000_AMOUNT.applyDiscount(price);
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        return new Order(product, 3);
+    }
+
+    @Benchmark
+    public int orderTotalPrice() {
+        return order.getTotalPrice();
+    }
+
+    @Benchmark
+    public Payment createPayment() {
+        return new Payment(paymentView, "1234-1234-1234-1234");
+    }
+
+    @Benchmark
+    public int paymentPrice() {
+        return payment.getPrice();
+    }
+}
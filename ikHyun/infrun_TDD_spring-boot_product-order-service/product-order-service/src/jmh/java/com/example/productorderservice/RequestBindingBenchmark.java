@@ -0,0 +1,88 @@
+package com.example.productorderservice;
+
+import com.example.productorderservice.order.application.service.CreateOrderRequest;
+import com.example.productorderservice.payment.application.service.PaymentRequest;
+import com.example.productorderservice.product.application.service.AddProductRequest;
+import com.example.productorderservice.product.domain.DiscountPolicy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 레코드의 compact 생성자 검증과 Jackson 바인딩 비용.
+ * ObjectMapper 는 스프링 MVC 와 같은 빌더로 만들어 요청 처리 때와 같은 설정을 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RequestBindingBenchmark {
+
+    private static final String ADD_PRODUCT_JSON = """
+            {"name":"상품명","price":12000,"discountPolicy":"FIX_1000_AMOUNT",
+             "discountRules":[{"type":"PERCENTAGE","percent":10}],"stock":100}""";
+    private static final String CREATE_ORDER_JSON = """
+            {"productId":1,"quantity":3}""";
+    private static final String PAYMENT_JSON = """
+            {"orderId":1,"cardNumber":"1234-1234-1234-1234"}""";
+
+    private String name = "상품명";
+    private Long id = 1L;
+    private ObjectReader addProductReader;
+    private ObjectReader createOrderReader;
+    private ObjectReader paymentReader;
+
+    @Setup
+    public void setUp() {
+        final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        addProductReader = objectMapper.readerFor(AddProductRequest.class);
+        createOrderReader = objectMapper.readerFor(CreateOrderRequest.class);
+        paymentReader = objectMapper.readerFor(PaymentRequest.class);
+    }
+
+    @Benchmark
+    public AddProductRequest constructAddProductRequest() {
+        return new AddProductRequest(name, 12_000, DiscountPolicy.FIX_1000_AMOUNT, List.of(), 100);
+    }
+
+    @Benchmark
+    public CreateOrderRequest constructCreateOrderRequest() {
+        return new CreateOrderRequest(id, 3);
+    }
+
+    @Benchmark
+    public PaymentRequest constructPaymentRequest() {
+        return new PaymentRequest(id, "1234-1234-1234-1234");
+    }
+
+    @Benchmark
+    public AddProductRequest bindAddProductRequest() throws IOException {
+        return addProductReader.readValue(ADD_PRODUCT_JSON);
+    }
+
+    @Benchmark
+    public CreateOrderRequest bindCreateOrderRequest() throws IOException {
+        return createOrderReader.readValue(CREATE_ORDER_JSON);
+    }
+
+    @Benchmark
+    public PaymentRequest bindPaymentRequest() throws IOException {
+        return paymentReader.readValue(PAYMENT_JSON);
+    }
+}
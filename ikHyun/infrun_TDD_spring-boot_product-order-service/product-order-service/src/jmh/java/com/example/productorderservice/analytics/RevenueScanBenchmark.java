@@ -0,0 +1,60 @@
+package com.example.productorderservice.analytics;
+
+import com.example.productorderservice.product.domain.DiscountPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 사실 N 건(기본 2천만 건, 상품 10만 개, 30일)을 {@link OrderFactStore} 에 넣고 묶음 기준별 매출 집계 한 번에 걸리는 시간.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RevenueScanBenchmark {
+
+    private static final int PRODUCTS = 100_000;
+    private static final long DAYS_MILLIS = TimeUnit.DAYS.toMillis(30);
+
+    @Param({"20000000"})
+    private int rows;
+
+    @Param({"PRODUCT", "DISCOUNT_POLICY", "HOUR"})
+    private RevenueGroupBy groupBy;
+
+    private final Instant start = Instant.parse("2026-09-01T00:00:00Z");
+    private OrderFactStore store;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        final int policies = DiscountPolicy.values().length;
+        store = new OrderFactStore(600_000L);
+        for (int i = 0; i < rows; i++) {
+            final int quantity = 1 + random.nextInt(5);
+            final int unitPrice = 1_000 + random.nextInt(100_000);
+            store.append(1 + random.nextInt(PRODUCTS), quantity, unitPrice, unitPrice * quantity,
+                    random.nextInt(policies), start.toEpochMilli() + i * (DAYS_MILLIS / rows));
+        }
+    }
+
+    @Benchmark
+    public int aggregate() {
+        return store.aggregate(groupBy, null, null).size();
+    }
+}
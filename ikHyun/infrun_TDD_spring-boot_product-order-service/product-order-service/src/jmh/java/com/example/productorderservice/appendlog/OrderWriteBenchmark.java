@@ -0,0 +1,87 @@
+package com.example.productorderservice.appendlog;
+
+import com.example.productorderservice.order.domain.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 한 건을 쓰고 커밋하는 비용.
+ * appendLog 는 {@link AppendLogStore#saveOrder} 로 mmap 세그먼트에 붙여 쓰고,
+ * h2File 은 파일 기반 H2 에 INSERT 후 커밋한다. 둘 다 fsync 없이 OS 페이지 캐시까지만 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OrderWriteBenchmark {
+
+    private Path directory;
+    private AppendLogStore store;
+    private Connection connection;
+    private PreparedStatement insert;
+    private long nextId;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException, SQLException {
+        directory = Files.createTempDirectory("order-write-benchmark");
+        store = new AppendLogStore(directory.resolve("append-log"), 64 * 1024 * 1024, 4, false);
+
+        connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("h2").toAbsolutePath());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE orders (id BIGINT PRIMARY KEY, product_id BIGINT, quantity INT, "
+                    + "unit_price INT, discount_amount INT, total_price INT, status VARCHAR(16))");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO orders VALUES (?, ?, ?, ?, ?, ?, ?)");
+        nextId = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException, SQLException {
+        store.destroy();
+        connection.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public void appendLog() {
+        store.saveOrder(new OrderRecord(store.nextOrderId(), 1L, 2, 1000, 0, 2000, OrderStatus.ORDERED));
+    }
+
+    @Benchmark
+    public int h2File() throws SQLException {
+        insert.setLong(1, ++nextId);
+        insert.setLong(2, 1L);
+        insert.setInt(3, 2);
+        insert.setInt(4, 1000);
+        insert.setInt(5, 0);
+        insert.setInt(6, 2000);
+        insert.setString(7, OrderStatus.ORDERED.name());
+        final int inserted = insert.executeUpdate();
+        connection.commit();
+        return inserted;
+    }
+}
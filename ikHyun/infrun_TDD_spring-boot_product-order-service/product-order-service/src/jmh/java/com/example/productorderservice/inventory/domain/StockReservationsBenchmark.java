@@ -0,0 +1,106 @@
+package com.example.productorderservice.inventory.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 한 상품에 64 스레드가 몰리는 타임딜 상황의 재고 차감.
+ * inMemory 는 {@link StockReservations#reserve} 의 CAS 차감, rowLock 은 H2 의 조건부 UPDATE 로 행 잠금을 잡는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Threads(64)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StockReservationsBenchmark {
+
+    private static final String URL = "jdbc:h2:mem:stock;LOCK_TIMEOUT=10000";
+    private static final long PRODUCT_ID = 1L;
+    private static final int STOCK = Integer.MAX_VALUE / 2;
+
+    private final AtomicLong orderIds = new AtomicLong();
+    private StockReservations reservations;
+    private Connection keepAlive;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws SQLException {
+        reservations = new StockReservations(productId -> STOCK, TimeUnit.MINUTES.toMillis(10));
+
+        keepAlive = DriverManager.getConnection(URL);
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS products");
+            statement.execute("CREATE TABLE products (id BIGINT PRIMARY KEY, stock INT NOT NULL)");
+            statement.execute("INSERT INTO products VALUES (" + PRODUCT_ID + ", " + STOCK + ")");
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws SQLException {
+        keepAlive.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Sweeper {
+        private int calls;
+    }
+
+    @State(Scope.Thread)
+    public static class JdbcSession {
+        private Connection connection;
+        private PreparedStatement decrement;
+
+        @Setup(Level.Iteration)
+        public void open(final StockReservationsBenchmark benchmark) throws SQLException {
+            connection = DriverManager.getConnection(URL);
+            connection.setAutoCommit(false);
+            decrement = connection.prepareStatement("UPDATE products SET stock = stock - ? WHERE id = ? AND stock >= ?");
+        }
+
+        @TearDown(Level.Iteration)
+        public void close() throws SQLException {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public void inMemory(final Sweeper sweeper) {
+        final long orderId = orderIds.incrementAndGet();
+        reservations.reserve(orderId, PRODUCT_ID, 1);
+        reservations.confirm(orderId);
+        // 운영에서는 스케줄러가 하는 일. 확정된 예약이 만료 큐에 쌓이지 않게 가끔 치운다.
+        if ((++sweeper.calls & 1023) == 0) {
+            reservations.expire();
+        }
+    }
+
+    @Benchmark
+    public int rowLock(final JdbcSession session) throws SQLException {
+        session.decrement.setInt(1, 1);
+        session.decrement.setLong(2, PRODUCT_ID);
+        session.decrement.setInt(3, 1);
+        final int updated = session.decrement.executeUpdate();
+        session.connection.commit();
+        return updated;
+    }
+}
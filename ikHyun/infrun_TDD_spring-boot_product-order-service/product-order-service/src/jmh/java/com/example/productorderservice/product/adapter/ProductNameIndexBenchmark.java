@@ -0,0 +1,63 @@
+package com.example.productorderservice.product.adapter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 100만 개를 색인한 뒤 한 페이지(20건) 검색에 걸리는 시간.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class ProductNameIndexBenchmark {
+
+    private static final String[] BRANDS = {"삼성", "엘지", "애플", "로지텍", "레노버", "소니", "샤오미", "앤커"};
+    private static final String[] ADJECTIVES = {"무선", "유선", "초경량", "게이밍", "프리미엄", "휴대용", "접이식", "방수"};
+    private static final String[] NOUNS = {"키보드", "마우스", "헤드셋", "모니터", "충전기", "스피커", "케이블", "노트북"};
+
+    @Param({"1000000"})
+    private int products;
+
+    @Param({"키보드", "무선 마우스", "게이밍 헤드셋 7"})
+    private String query;
+
+    private ProductNameIndex index;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        index = new ProductNameIndex();
+        for (int id = 1; id <= products; id++) {
+            index.index(id, BRANDS[random.nextInt(BRANDS.length)] + " "
+                    + ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " "
+                    + NOUNS[random.nextInt(NOUNS.length)] + " "
+                    + random.nextInt(1000));
+        }
+    }
+
+    @Benchmark
+    public List<Long> firstPage() {
+        return index.search(query, 0, 20);
+    }
+
+    @Benchmark
+    public List<Long> deepPage() {
+        return index.search(query, products / 2, 20);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.productorderservice.product.application.service;
+
+import com.example.productorderservice.ProductOrderServiceApplication;
+import com.example.productorderservice.product.application.port.ProductPort;
+import com.example.productorderservice.product.domain.DiscountPolicy;
+import com.example.productorderservice.product.domain.PercentageDiscount;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 단건 조회 한 번의 비용. 애플리케이션을 웹 서버 없이 띄우고 H2 에 상품 하나를 등록해 둔다.
+ * <ul>
+ *     <li>entity: 이전 경로. {@link ProductPort} 로 엔티티를 읽고 응답으로 복사한다.</li>
+ *     <li>readModel: {@link ProductViewStore} 에 만들어 둔 응답을 꺼낸다.</li>
+ * </ul>
+ * 호출당 할당량은 -prof gc 로 함께 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ProductReadBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private ProductPort productPort;
+    private ProductViewStore productViewStore;
+    private final Long productId = 1L;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ProductOrderServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false")
+                .run();
+        productPort = context.getBean(ProductPort.class);
+        productViewStore = context.getBean(ProductViewStore.class);
+        context.getBean(ProductService.class).addProduct(new AddProductRequest(
+                "상품명", 12_000, DiscountPolicy.FIX_1000_AMOUNT, List.of(new PercentageDiscount(10)), 100));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public GetProductResponse entity() {
+        return ProductService.toResponse(productPort.getProduct(productId));
+    }
+
+    @Benchmark
+    public GetProductResponse readModel() {
+        return productViewStore.get(productId).body();
+    }
+}
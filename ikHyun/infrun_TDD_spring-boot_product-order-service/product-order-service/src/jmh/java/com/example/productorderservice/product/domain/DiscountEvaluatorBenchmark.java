@@ -0,0 +1,97 @@
+package com.example.productorderservice.product.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 할인 규칙이 섞인 상품 1만 개의 주문 금액 계산.
+ * compiled 는 상품마다 미리 컴파일한 단가 표를 조회하고, ruleWalk 는 매번 규칙 목록을 순서대로 적용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DiscountEvaluatorBenchmark {
+
+    private static final int PRODUCTS = 10_000;
+
+    private final long now = Instant.parse("2024-11-11T12:00:00Z").toEpochMilli();
+    private int[] prices;
+    private int[] quantities;
+    private List<List<DiscountRule>> rules;
+    private DiscountEvaluator[] evaluators;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        final Instant saleFrom = Instant.parse("2024-11-11T00:00:00Z");
+        final Instant saleUntil = Instant.parse("2024-11-12T00:00:00Z");
+
+        prices = new int[PRODUCTS];
+        quantities = new int[PRODUCTS];
+        rules = new ArrayList<>(PRODUCTS);
+        evaluators = new DiscountEvaluator[PRODUCTS];
+        for (int i = 0; i < PRODUCTS; i++) {
+            prices[i] = 1_000 + random.nextInt(100_000);
+            quantities[i] = 1 + random.nextInt(20);
+            final List<DiscountRule> productRules = switch (i % 5) {
+                case 0 -> List.of();
+                case 1 -> List.of(new FixedAmountDiscount(1000));
+                case 2 -> List.of(new PercentageDiscount(15));
+                case 3 -> List.of(new TieredQuantityDiscount(List.of(
+                        new TieredQuantityDiscount.Tier(5, 5),
+                        new TieredQuantityDiscount.Tier(10, 10),
+                        new TieredQuantityDiscount.Tier(15, 20))));
+                default -> List.of(
+                        new FixedAmountDiscount(500),
+                        new PercentageDiscount(10),
+                        new TimeWindowDiscount(saleFrom, saleUntil, new TieredQuantityDiscount(List.of(
+                                new TieredQuantityDiscount.Tier(3, 10),
+                                new TieredQuantityDiscount.Tier(10, 30)))));
+            };
+            rules.add(productRules);
+            evaluators[i] = DiscountEvaluator.compile(prices[i], productRules);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PRODUCTS)
+    public long compiled() {
+        long sum = 0;
+        for (int i = 0; i < PRODUCTS; i++) {
+            sum += evaluators[i].totalPrice(quantities[i], now);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PRODUCTS)
+    public long ruleWalk() {
+        long sum = 0;
+        for (int i = 0; i < PRODUCTS; i++) {
+            int unitPrice = prices[i];
+            for (final DiscountRule rule : rules.get(i)) {
+                unitPrice = rule.apply(unitPrice, quantities[i], now);
+            }
+            sum += (long) unitPrice * quantities[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.productorderservice.analytics;
+
+/**
+ * 주문 사실 {@value #SIZE} 건을 컬럼별 기본형 배열로 들고 있는 조각. 행은 앞에서부터 채우고 고치지 않는다.
+ * 주문 시각은 {@link OrderFactStore#EPOCH_SECONDS} 기준 초로 줄여 int 에 담는다.
+ */
+final class OrderFactSegment {
+
+    static final int SHIFT = 16;
+    static final int SIZE = 1 << SHIFT;
+
+    final long[] productIds = new long[SIZE];
+    final int[] quantities = new int[SIZE];
+    final int[] unitPrices = new int[SIZE];
+    final int[] totalPrices = new int[SIZE];
+    final byte[] discountPolicies = new byte[SIZE];
+    final int[] orderedAtSeconds = new int[SIZE];
+}
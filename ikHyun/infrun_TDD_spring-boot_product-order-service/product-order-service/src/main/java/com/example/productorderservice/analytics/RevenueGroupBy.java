@@ -0,0 +1,85 @@
+package com.example.productorderservice.analytics;
+
+import com.example.productorderservice.product.domain.DiscountPolicy;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * 매출 보고서의 묶음 기준. 요청에는 {@link #parameter} 값으로 받는다.
+ */
+public enum RevenueGroupBy {
+
+    PRODUCT("product") {
+        @Override
+        long key(final OrderFactSegment segment, final int row) {
+            return segment.productIds[row];
+        }
+
+        @Override
+        String label(final long key) {
+            return Long.toString(key);
+        }
+    },
+    DISCOUNT_POLICY("discount-policy") {
+        @Override
+        long key(final OrderFactSegment segment, final int row) {
+            return segment.discountPolicies[row];
+        }
+
+        @Override
+        String label(final long key) {
+            return DiscountPolicy.values()[(int) key].name();
+        }
+    },
+    /**
+     * UTC 기준 시 단위. 최근 시간부터 돌려준다.
+     */
+    HOUR("hour") {
+        @Override
+        long key(final OrderFactSegment segment, final int row) {
+            return Math.floorDiv(OrderFactStore.EPOCH_SECONDS + segment.orderedAtSeconds[row], SECONDS_PER_HOUR);
+        }
+
+        @Override
+        String label(final long key) {
+            return Instant.ofEpochSecond(key * SECONDS_PER_HOUR).toString();
+        }
+
+        @Override
+        Comparator<RevenueRow> order() {
+            return Comparator.comparing(RevenueRow::key).reversed();
+        }
+    };
+
+    private static final long SECONDS_PER_HOUR = 3600;
+
+    private final String parameter;
+
+    RevenueGroupBy(final String parameter) {
+        this.parameter = parameter;
+    }
+
+    public static RevenueGroupBy from(final String parameter) {
+        return Arrays.stream(values())
+                .filter(groupBy -> groupBy.parameter.equals(parameter))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("묶음 기준은 product, discount-policy, hour 중 하나여야 합니다."));
+    }
+
+    public String parameter() {
+        return parameter;
+    }
+
+    abstract long key(OrderFactSegment segment, int row);
+
+    abstract String label(long key);
+
+    /**
+     * 기본은 매출이 큰 순서다.
+     */
+    Comparator<RevenueRow> order() {
+        return Comparator.comparingLong(RevenueRow::revenue).reversed().thenComparing(RevenueRow::key);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.productorderservice.analytics;
+
+import org.springframework.util.Assert;
+
+import java.time.Instant;
+
+/**
+ * @param groupBy product(기본), discount-policy, hour
+ * @param from    포함하는 시작 시각. 없으면 처음부터
+ * @param to      포함하지 않는 끝 시각. 없으면 끝까지
+ * @param limit   돌려줄 묶음 수. 합계는 잘린 묶음까지 모두 더한 값이다.
+ */
+public record RevenueReportRequest(String groupBy, Instant from, Instant to, Integer limit) {
+
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_LIMIT = 10_000;
+
+    public RevenueReportRequest {
+        groupBy = groupBy == null ? RevenueGroupBy.PRODUCT.parameter() : groupBy;
+        limit = limit == null ? DEFAULT_LIMIT : limit;
+        RevenueGroupBy.from(groupBy);
+        Assert.isTrue(from == null || to == null || from.isBefore(to), "시작 시각은 끝 시각보다 앞이어야 합니다.");
+        Assert.isTrue(limit > 0 && limit <= MAX_LIMIT, "묶음 수는 1~" + MAX_LIMIT + " 사이여야 합니다.");
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.productorderservice.analytics;
+
+import org.springframework.util.Assert;
+
+import java.util.List;
+
+/**
+ * @param orders       조건에 맞은 주문 수
+ * @param revenue      조건에 맞은 주문 금액의 합
+ * @param groups       전체 묶음 수. rows 는 이 중 limit 개까지만 담는다.
+ * @param elapsedMicros 집계에 걸린 시간
+ */
+public record RevenueReportResponse(String groupBy, long orders, long revenue, int groups, List<RevenueRow> rows,
+                                    long elapsedMicros) {
+    public RevenueReportResponse {
+        Assert.notNull(rows, "묶음 목록은 필수입니다.");
+    }
+}
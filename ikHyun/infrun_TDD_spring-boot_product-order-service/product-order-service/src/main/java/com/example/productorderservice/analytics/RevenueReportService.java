@@ -0,0 +1,43 @@
+package com.example.productorderservice.analytics;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매출 보고서. {@link OrderFactStore} 만 읽으므로 주문/상품 테이블에 부하를 주지 않는다.
+ */
+@RestController
+@RequestMapping("/reports")
+@Profile("!reactive")
+public class RevenueReportService {
+
+    private final OrderFactStore orderFactStore;
+
+    RevenueReportService(final OrderFactStore orderFactStore) {
+        this.orderFactStore = orderFactStore;
+    }
+
+    @GetMapping("/revenue")
+    public ResponseEntity<RevenueReportResponse> getRevenue(final RevenueReportRequest request) {
+        final long startedAt = System.nanoTime();
+        final RevenueGroupBy groupBy = RevenueGroupBy.from(request.groupBy());
+        final RevenueTotals totals = orderFactStore.aggregate(groupBy, request.from(), request.to());
+
+        final List<RevenueRow> rows = new ArrayList<>(totals.size());
+        totals.forEach((key, sums) -> rows.add(new RevenueRow(groupBy.label(key), sums[RevenueTotals.ORDERS],
+                sums[RevenueTotals.QUANTITY], sums[RevenueTotals.GROSS_REVENUE], sums[RevenueTotals.REVENUE])));
+        final long orders = rows.stream().mapToLong(RevenueRow::orders).sum();
+        final long revenue = rows.stream().mapToLong(RevenueRow::revenue).sum();
+        final List<RevenueRow> top = rows.stream().sorted(groupBy.order()).limit(request.limit()).toList();
+
+        final long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt);
+        return ResponseEntity.ok(new RevenueReportResponse(groupBy.parameter(), orders, revenue, rows.size(), top, elapsedMicros));
+    }
+}
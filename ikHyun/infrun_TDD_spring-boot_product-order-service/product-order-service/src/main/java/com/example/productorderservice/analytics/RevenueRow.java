@@ -0,0 +1,9 @@
+package com.example.productorderservice.analytics;
+
+/**
+ * @param key          묶음 값. 상품 ID, 할인 정책 이름, 또는 시간대 시작 시각(ISO-8601, UTC)
+ * @param grossRevenue 할인 전 금액(주문 단가 × 수량)의 합
+ * @param revenue      실제 주문 금액의 합
+ */
+public record RevenueRow(String key, long orders, long quantity, long grossRevenue, long revenue) {
+}
@@ -0,0 +1,73 @@
+package com.example.productorderservice.analytics;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 조각 범위를 반으로 나눠 fork/join 으로 훑는다. 조각 하나가 작업 하나의 단위다.
+ * 시각이 [from, to) 밖인 행은 건너뛰고, 같은 키가 이어지면(시간별 집계 등) 해시 조회 없이 직전 합계에 더한다.
+ */
+final class RevenueScan extends RecursiveTask<RevenueTotals> {
+
+    private final OrderFactSegment[] segments;
+    private final int rows;
+    private final int first;
+    private final int last;
+    private final RevenueGroupBy groupBy;
+    private final long from;
+    private final long to;
+
+    /**
+     * @param rows 스캔할 전체 행 수. 마지막 조각은 이 수까지만 읽는다.
+     * @param from 포함하는 시작 시각({@link OrderFactStore#EPOCH_SECONDS} 기준 초)
+     * @param to   포함하지 않는 끝 시각
+     */
+    RevenueScan(final OrderFactSegment[] segments, final int rows, final int first, final int last,
+                final RevenueGroupBy groupBy, final long from, final long to) {
+        this.segments = segments;
+        this.rows = rows;
+        this.first = first;
+        this.last = last;
+        this.groupBy = groupBy;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected RevenueTotals compute() {
+        if (last - first == 1) {
+            return scan(segments[first], Math.min(OrderFactSegment.SIZE, rows - (first << OrderFactSegment.SHIFT)));
+        }
+        final int middle = (first + last) >>> 1;
+        final RevenueScan left = new RevenueScan(segments, rows, first, middle, groupBy, from, to);
+        left.fork();
+        final RevenueTotals right = new RevenueScan(segments, rows, middle, last, groupBy, from, to).compute();
+        return right.merge(left.join());
+    }
+
+    private RevenueTotals scan(final OrderFactSegment segment, final int count) {
+        final RevenueTotals totals = new RevenueTotals();
+        final int[] orderedAt = segment.orderedAtSeconds;
+        final int[] quantities = segment.quantities;
+        final int[] unitPrices = segment.unitPrices;
+        final int[] totalPrices = segment.totalPrices;
+        long lastKey = 0;
+        long[] current = null;
+        for (int row = 0; row < count; row++) {
+            final long at = orderedAt[row];
+            if (at < from || at >= to) {
+                continue;
+            }
+            final long key = groupBy.key(segment, row);
+            if (current == null || key != lastKey) {
+                current = totals.accumulator(key);
+                lastKey = key;
+            }
+            final int quantity = quantities[row];
+            current[RevenueTotals.ORDERS]++;
+            current[RevenueTotals.QUANTITY] += quantity;
+            current[RevenueTotals.GROSS_REVENUE] += (long) unitPrices[row] * quantity;
+            current[RevenueTotals.REVENUE] += totalPrices[row];
+        }
+        return totals;
+    }
+}
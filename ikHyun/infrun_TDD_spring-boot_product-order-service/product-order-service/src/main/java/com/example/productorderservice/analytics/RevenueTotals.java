@@ -0,0 +1,50 @@
+package com.example.productorderservice.analytics;
+
+import com.example.productorderservice.support.LongObjectHashMap;
+
+/**
+ * 그룹 키별 합계. 값은 [주문 수, 수량, 할인 전 매출, 매출] 순서의 long 배열이다.
+ * 스캔 작업 하나가 하나씩 만들어 채우고, 작업이 끝나면 {@link #merge} 로 합친다.
+ */
+final class RevenueTotals {
+
+    static final int ORDERS = 0;
+    static final int QUANTITY = 1;
+    static final int GROSS_REVENUE = 2;
+    static final int REVENUE = 3;
+
+    private final LongObjectHashMap<long[]> groups = new LongObjectHashMap<>();
+
+    long[] accumulator(final long key) {
+        long[] totals = groups.get(key);
+        if (totals == null) {
+            totals = new long[4];
+            groups.put(key, totals);
+        }
+        return totals;
+    }
+
+    /**
+     * 작은 쪽을 큰 쪽에 더하고 큰 쪽을 돌려준다.
+     */
+    RevenueTotals merge(final RevenueTotals other) {
+        if (other.size() > size()) {
+            return other.merge(this);
+        }
+        other.groups.forEach((key, totals) -> {
+            final long[] merged = accumulator(key);
+            for (int i = 0; i < totals.length; i++) {
+                merged[i] += totals[i];
+            }
+        });
+        return this;
+    }
+
+    int size() {
+        return groups.size();
+    }
+
+    void forEach(final LongObjectHashMap.Entry<long[]> action) {
+        groups.forEach(action);
+    }
+}
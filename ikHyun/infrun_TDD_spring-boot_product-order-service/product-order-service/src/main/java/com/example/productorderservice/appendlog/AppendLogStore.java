@@ -0,0 +1,253 @@
+package com.example.productorderservice.appendlog;
+
+import com.example.productorderservice.order.domain.OrderStatus;
+import com.example.productorderservice.support.LongObjectHashMap;
+import com.example.productorderservice.support.TransactionHooks;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * append-log 프로필에서 주문과 결제를 JPA 대신 {@link SegmentLog} 에 저장한다.
+ * 조회는 시작할 때 로그를 재생해서 만든 메모리 인덱스로 하고, 쓰기는 로그에 붙인 뒤 인덱스를 바꾼다.
+ * 세그먼트 수가 compact-after-segments 를 넘으면 현재 상태만 새로 써서 로그를 줄인다.
+ */
+@Component
+@Profile("append-log")
+public class AppendLogStore implements DisposableBean {
+
+    static final byte ORDER = 1;
+    static final byte PAYMENT = 2;
+
+    private final SegmentLog log;
+    private final int compactAfterSegments;
+    private final LongObjectHashMap<OrderRecord> orders = new LongObjectHashMap<>();
+    private final LongObjectHashMap<PaymentRecord> payments = new LongObjectHashMap<>();
+    private final AtomicLong orderSequence = new AtomicLong();
+    private final AtomicLong paymentSequence = new AtomicLong();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int liveSegments = 1;
+
+    public AppendLogStore(
+            @Value("${append-log.directory:${java.io.tmpdir}/product-order-service/append-log}") final Path directory,
+            @Value("${append-log.segment-bytes:67108864}") final int segmentBytes,
+            @Value("${append-log.compact-after-segments:4}") final int compactAfterSegments,
+            @Value("${append-log.fsync:false}") final boolean fsync) {
+        Assert.isTrue(compactAfterSegments > 1, "압축 기준 세그먼트 수는 1보다 커야 합니다.");
+        this.log = new SegmentLog(directory, segmentBytes, fsync);
+        this.compactAfterSegments = compactAfterSegments;
+        log.replay(this::apply);
+    }
+
+    public long nextOrderId() {
+        return orderSequence.incrementAndGet();
+    }
+
+    public long nextPaymentId() {
+        return paymentSequence.incrementAndGet();
+    }
+
+    public void saveOrder(final OrderRecord order) {
+        lock.writeLock().lock();
+        try {
+            log.append(ORDER, encode(order));
+            orders.put(order.id(), order);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void savePayment(final PaymentRecord payment) {
+        lock.writeLock().lock();
+        try {
+            log.append(PAYMENT, encode(payment));
+            payments.put(payment.id(), payment);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public OrderRecord findOrder(final long orderId) {
+        lock.readLock().lock();
+        try {
+            return orders.get(orderId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public PaymentRecord findPayment(final long paymentId) {
+        lock.readLock().lock();
+        try {
+            return payments.get(paymentId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 결제 대기 중인 주문을 결제 완료로 바꾼다. 트랜잭션이 커밋되면 로그에 남기고, 롤백되면 원래 상태로 되돌린다.
+     *
+     * @return 이미 결제된 주문이면 false
+     */
+    public boolean markPaid(final long orderId) {
+        return closeOrder(orderId, OrderStatus.PAID);
+    }
+
+    /**
+     * 결제 대기 중인 주문을 결제 실패로 바꾼다. 커밋과 롤백은 {@link #markPaid(long)} 와 같게 따라간다.
+     *
+     * @return 결제 대기 중이 아니면 false
+     */
+    public boolean markFailed(final long orderId) {
+        return closeOrder(orderId, OrderStatus.FAILED);
+    }
+
+    private boolean closeOrder(final long orderId, final OrderStatus status) {
+        final OrderRecord closed;
+        lock.writeLock().lock();
+        try {
+            final OrderRecord order = orders.get(orderId);
+            Assert.notNull(order, "주문이 존재하지 않습니다.");
+            if (order.status() != OrderStatus.ORDERED) {
+                return false;
+            }
+            closed = order.withStatus(status);
+            orders.put(orderId, closed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        TransactionHooks.onCompletion(() -> saveOrder(closed), () -> reopen(orderId, status));
+        return true;
+    }
+
+    private void reopen(final long orderId, final OrderStatus status) {
+        lock.writeLock().lock();
+        try {
+            final OrderRecord order = orders.get(orderId);
+            if (order != null && order.status() == status) {
+                orders.put(orderId, order.withStatus(OrderStatus.ORDERED));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int segmentCount() {
+        lock.readLock().lock();
+        try {
+            return log.segmentCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            log.compact(() -> {
+                orders.forEach((id, order) -> log.append(ORDER, encode(order)));
+                payments.forEach((id, payment) -> log.append(PAYMENT, encode(payment)));
+            });
+            liveSegments = log.segmentCount();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            log.clear();
+            orders.clear();
+            payments.clear();
+            orderSequence.set(0);
+            paymentSequence.set(0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        lock.writeLock().lock();
+        try {
+            log.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 살아 있는 상태만으로도 세그먼트가 여러 개면 쓸 때마다 압축하게 되므로, 직전 압축 결과의 두 배를 넘을 때까지 기다린다.
+     */
+    private void compactIfNeeded() {
+        if (log.segmentCount() > Math.max(compactAfterSegments, liveSegments * 2)) {
+            compact();
+        }
+    }
+
+    private void apply(final byte type, final ByteBuffer payload) {
+        switch (type) {
+            case ORDER -> {
+                final OrderRecord order = decodeOrder(payload);
+                orders.put(order.id(), order);
+                orderSequence.accumulateAndGet(order.id(), Math::max);
+            }
+            case PAYMENT -> {
+                final PaymentRecord payment = decodePayment(payload);
+                payments.put(payment.id(), payment);
+                paymentSequence.accumulateAndGet(payment.id(), Math::max);
+            }
+            default -> throw new IllegalStateException("알 수 없는 레코드 타입입니다: " + type);
+        }
+    }
+
+    private static byte[] encode(final OrderRecord order) {
+        return ByteBuffer.allocate(OrderRecord.BYTES)
+                .putLong(order.id())
+                .putLong(order.productId())
+                .putInt(order.quantity())
+                .putInt(order.unitPrice())
+                .putInt(order.discountAmount())
+                .putInt(order.totalPrice())
+                .put((byte) order.status().ordinal())
+                .array();
+    }
+
+    private static OrderRecord decodeOrder(final ByteBuffer payload) {
+        return new OrderRecord(payload.getLong(), payload.getLong(), payload.getInt(), payload.getInt(),
+                payload.getInt(), payload.getInt(), OrderStatus.values()[payload.get()]);
+    }
+
+    private static byte[] encode(final PaymentRecord payment) {
+        final byte[] cardNumber = payment.cardNumber().getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(8 + 8 + 4 + 4 + cardNumber.length)
+                .putLong(payment.id())
+                .putLong(payment.orderId())
+                .putInt(payment.price())
+                .putInt(cardNumber.length)
+                .put(cardNumber)
+                .array();
+    }
+
+    private static PaymentRecord decodePayment(final ByteBuffer payload) {
+        final long id = payload.getLong();
+        final long orderId = payload.getLong();
+        final int price = payload.getInt();
+        final byte[] cardNumber = new byte[payload.getInt()];
+        payload.get(cardNumber);
+        return new PaymentRecord(id, orderId, price, new String(cardNumber, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.productorderservice.appendlog;
+
+import com.example.productorderservice.order.domain.OrderStatus;
+
+/**
+ * 로그에 남기는 주문의 전체 상태. 같은 ID 의 레코드는 마지막 것이 이긴다.
+ */
+public record OrderRecord(long id, long productId, int quantity, int unitPrice, int discountAmount, int totalPrice,
+                          OrderStatus status) {
+
+    static final int BYTES = 8 + 8 + 4 + 4 + 4 + 4 + 1;
+
+    public OrderRecord withStatus(final OrderStatus status) {
+        return new OrderRecord(id, productId, quantity, unitPrice, discountAmount, totalPrice, status);
+    }
+}
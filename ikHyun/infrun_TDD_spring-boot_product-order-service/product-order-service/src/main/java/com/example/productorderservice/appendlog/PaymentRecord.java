@@ -0,0 +1,4 @@
+package com.example.productorderservice.appendlog;
+
+public record PaymentRecord(long id, long orderId, int price, String cardNumber) {
+}
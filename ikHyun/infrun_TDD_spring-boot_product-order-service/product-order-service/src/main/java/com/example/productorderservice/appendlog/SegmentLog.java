@@ -0,0 +1,200 @@
+package com.example.productorderservice.appendlog;
+
+import org.springframework.util.Assert;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 고정 크기 세그먼트 파일을 메모리 매핑해서 레코드를 뒤에 붙여 쓰는 로그. 한 번에 한 스레드만 쓴다고 가정한다.
+ * <pre>
+ * 레코드 = [int 길이][int CRC32C(type + payload)][byte type][payload]
+ * </pre>
+ * 길이를 마지막에 기록하므로 쓰다가 죽은 레코드는 길이가 0으로 남아 재생할 때 로그 끝으로 취급된다.
+ * 길이는 있지만 CRC 가 맞지 않는 레코드를 만나면 그 세그먼트의 나머지는 버린다.
+ */
+public final class SegmentLog implements Closeable {
+
+    static final int HEADER_BYTES = 4 + 4 + 1;
+    private static final String SUFFIX = ".log";
+
+    @FunctionalInterface
+    public interface RecordHandler {
+        void handle(byte type, ByteBuffer payload);
+    }
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final boolean fsync;
+    private final List<Long> segments = new ArrayList<>();
+    private MappedByteBuffer active;
+    private int writePosition;
+
+    public SegmentLog(final Path directory, final int segmentBytes, final boolean fsync) {
+        Assert.isTrue(segmentBytes > HEADER_BYTES, "세그먼트 크기가 너무 작습니다.");
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.fsync = fsync;
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                files.map(path -> path.getFileName().toString())
+                        .filter(name -> name.endsWith(SUFFIX))
+                        .map(name -> Long.parseLong(name.substring(0, name.length() - SUFFIX.length())))
+                        .sorted()
+                        .forEach(segments::add);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 모든 세그먼트를 순서대로 읽어 레코드를 넘기고, 마지막 세그먼트의 끝에서부터 이어 쓸 준비를 한다.
+     */
+    public void replay(final RecordHandler handler) {
+        if (segments.isEmpty()) {
+            openSegment(0);
+            return;
+        }
+        for (int i = 0; i < segments.size(); i++) {
+            final MappedByteBuffer buffer = map(segments.get(i));
+            final int end = scan(buffer, handler);
+            if (i == segments.size() - 1) {
+                active = buffer;
+                writePosition = end;
+                // 끝부분에 반쯤 쓰인 레코드가 있으면 지워 둔다. 나중에 덮어쓸 때 섞이지 않게 하기 위해서다.
+                for (int position = end; position < Math.min(segmentBytes, end + HEADER_BYTES); position++) {
+                    buffer.put(position, (byte) 0);
+                }
+            }
+        }
+    }
+
+    public void append(final byte type, final byte[] payload) {
+        final int recordBytes = HEADER_BYTES + payload.length;
+        Assert.isTrue(recordBytes <= segmentBytes, "레코드가 세그먼트보다 큽니다.");
+        Assert.state(active != null, "replay 를 먼저 호출해야 합니다.");
+        if (segmentBytes - writePosition < recordBytes) {
+            roll();
+        }
+        final CRC32C crc = new CRC32C();
+        crc.update(type);
+        crc.update(payload);
+
+        final int position = writePosition;
+        active.putInt(position + 4, (int) crc.getValue());
+        active.put(position + 8, type);
+        active.put(position + HEADER_BYTES, payload);
+        active.putInt(position, payload.length);
+        writePosition = position + recordBytes;
+        if (fsync) {
+            active.force(position, recordBytes);
+        }
+    }
+
+    /**
+     * 새 세그먼트부터 살아 있는 상태만 다시 쓰고 이전 세그먼트를 지운다.
+     * 지우기 전에 죽어도 다시 쓴 레코드는 같은 키의 최신 상태이므로 재생 결과는 같다.
+     */
+    public void compact(final Runnable rewriteLiveRecords) {
+        roll();
+        final long firstLive = segments.get(segments.size() - 1);
+        rewriteLiveRecords.run();
+        active.force();
+        final List<Long> obsolete = new ArrayList<>();
+        for (final Long segment : segments) {
+            if (segment < firstLive) {
+                obsolete.add(segment);
+            }
+        }
+        for (final Long segment : obsolete) {
+            delete(segment);
+        }
+        segments.removeAll(obsolete);
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    public void clear() {
+        for (final Long segment : segments) {
+            delete(segment);
+        }
+        segments.clear();
+        openSegment(0);
+    }
+
+    @Override
+    public void close() {
+        if (active != null) {
+            active.force();
+            active = null;
+        }
+    }
+
+    private void roll() {
+        active.force();
+        openSegment(segments.isEmpty() ? 0 : segments.get(segments.size() - 1) + 1);
+    }
+
+    private void openSegment(final long segment) {
+        segments.add(segment);
+        active = map(segment);
+        writePosition = 0;
+    }
+
+    private int scan(final MappedByteBuffer buffer, final RecordHandler handler) {
+        int position = 0;
+        while (position + HEADER_BYTES <= segmentBytes) {
+            final int length = buffer.getInt(position);
+            if (length <= 0 || position + HEADER_BYTES + length > segmentBytes) {
+                break;
+            }
+            final byte type = buffer.get(position + 8);
+            final ByteBuffer payload = buffer.slice(position + HEADER_BYTES, length);
+            final CRC32C crc = new CRC32C();
+            crc.update(type);
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                break;
+            }
+            handler.handle(type, payload.asReadOnlyBuffer());
+            position += HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    private MappedByteBuffer map(final long segment) {
+        try (FileChannel channel = FileChannel.open(path(segment),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void delete(final long segment) {
+        try {
+            Files.deleteIfExists(path(segment));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path path(final long segment) {
+        return directory.resolve(String.format("%020d%s", segment, SUFFIX));
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.productorderservice.checkout.application.service;
+
+import org.springframework.util.Assert;
+
+public record CheckoutRequest(Long productId, int quantity, String cardNumber) {
+    public CheckoutRequest {
+        Assert.notNull(productId, "상품 ID는 필수입니다.");
+        Assert.isTrue(quantity > 0, "수량은 0보다 커야 합니다.");
+        Assert.hasText(cardNumber, "카드 번호는 필수입니다.");
+    }
+}
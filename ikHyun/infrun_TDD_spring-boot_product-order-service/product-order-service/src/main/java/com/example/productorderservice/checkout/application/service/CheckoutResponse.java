@@ -0,0 +1,7 @@
+package com.example.productorderservice.checkout.application.service;
+
+/**
+ * @param totalPrice 결제한 금액. 주문할 때 계산한 금액 그대로다.
+ */
+public record CheckoutResponse(Long orderId, int totalPrice) {
+}
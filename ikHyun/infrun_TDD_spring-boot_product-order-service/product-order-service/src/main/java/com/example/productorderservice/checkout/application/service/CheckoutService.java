@@ -0,0 +1,56 @@
+package com.example.productorderservice.checkout.application.service;
+
+import com.example.productorderservice.payment.domain.PaymentDeclinedException;
+import com.example.productorderservice.payment.domain.PaymentView;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 주문과 결제를 요청 한 번에 처리한다. POST /orders 와 POST /payments 가 쓰는 {@link OrderPaymentFlow} 단계를 그대로 이어 부른다.
+ * <ul>
+ *     <li>주문을 먼저 커밋한다. 그래야 결제가 실패해도 남길 주문이 있고, 어떤 저장소 프로필에서도 결제 완료 표시를 할 수 있다.</li>
+ *     <li>결제 금액은 방금 만든 주문에서 그대로 가져온다. 주문을 다시 읽지 않는다.</li>
+ *     <li>PG 로 보내기 전에 실패했거나 PG 가 승인을 거절하면 주문을 FAILED 로 닫고 재고 예약을 풀어 준 뒤 원래 예외를 던진다.</li>
+ *     <li>그 밖의 실패(응답 시간 초과, PG 오류, 승인 뒤 저장 실패)는 카드가 결제됐을 수도 있으므로 결제 트랜잭션만 롤백한다.
+ *     주문은 결제 대기, 재고는 예약된 채로 남는다. 같은 카드로 POST /payments 를 다시 부르면 같은 멱등 키로 결제를 마무리하고,
+ *     다시 부르지 않으면 결제 대사 작업이 정산 파일과 맞춰 본다.</li>
+ * </ul>
+ */
+@RestController
+@RequestMapping("/checkout")
+@Profile("!reactive")
+public class CheckoutService {
+
+    private final OrderPaymentFlow orderPaymentFlow;
+    private final TransactionTemplate transactionTemplate;
+
+    CheckoutService(final OrderPaymentFlow orderPaymentFlow, final PlatformTransactionManager transactionManager) {
+        this.orderPaymentFlow = orderPaymentFlow;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostMapping
+    public ResponseEntity<CheckoutResponse> checkout(@RequestBody final CheckoutRequest request) {
+        final PaymentView order = transactionTemplate.execute(status -> orderPaymentFlow.placeOrder(request.productId(), request.quantity()));
+        final AtomicBoolean sent = new AtomicBoolean();
+        try {
+            transactionTemplate.executeWithoutResult(status -> orderPaymentFlow.pay(order, request.cardNumber(), () -> sent.set(true)));
+        } catch (RuntimeException e) {
+            if (!sent.get() || e instanceof PaymentDeclinedException) {
+                transactionTemplate.executeWithoutResult(status -> orderPaymentFlow.fail(order.orderId()));
+            }
+            throw e;
+        }
+        return ResponseEntity.created(URI.create("/orders/" + order.orderId()))
+                .body(new CheckoutResponse(order.orderId(), order.totalPrice()));
+    }
+}
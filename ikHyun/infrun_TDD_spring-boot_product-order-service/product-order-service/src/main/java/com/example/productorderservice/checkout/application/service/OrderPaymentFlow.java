@@ -0,0 +1,92 @@
+package com.example.productorderservice.checkout.application.service;
+
+import com.example.productorderservice.inventory.application.port.InventoryPort;
+import com.example.productorderservice.order.application.port.OrderPort;
+import com.example.productorderservice.order.domain.Order;
+import com.example.productorderservice.order.domain.OrderAlreadyPaidException;
+import com.example.productorderservice.order.domain.OrderPaidEvent;
+import com.example.productorderservice.order.domain.OrderPlacedEvent;
+import com.example.productorderservice.order.domain.OrderStatus;
+import com.example.productorderservice.payment.application.port.PaymentPort;
+import com.example.productorderservice.payment.domain.Payment;
+import com.example.productorderservice.payment.domain.PaymentDeclinedException;
+import com.example.productorderservice.payment.domain.PaymentView;
+import com.example.productorderservice.product.domain.Product;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 생성과 결제 단계. POST /orders, POST /payments, POST /checkout 이 모두 이 단계를 쓴다.
+ * 트랜잭션은 열지 않는다. 각 메서드는 부른 쪽 트랜잭션 안에서 돌고, 커밋/롤백에 맞춰 재고와 이벤트가 따라간다.
+ */
+@Component
+@Profile("!reactive")
+public class OrderPaymentFlow {
+
+    private final OrderPort orderPort;
+    private final PaymentPort paymentPort;
+    private final InventoryPort inventoryPort;
+    private final ApplicationEventPublisher eventPublisher;
+
+    OrderPaymentFlow(final OrderPort orderPort, final PaymentPort paymentPort, final InventoryPort inventoryPort,
+                     final ApplicationEventPublisher eventPublisher) {
+        this.orderPort = orderPort;
+        this.paymentPort = paymentPort;
+        this.inventoryPort = inventoryPort;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 주문을 저장하고 재고를 예약한다.
+     *
+     * @return 방금 만든 주문의 결제 정보. 결제 단계에 그대로 넘기면 주문을 다시 읽지 않는다.
+     */
+    public PaymentView placeOrder(final Long productId, final int quantity) {
+        final Product product = orderPort.getProductById(productId);
+        final long orderedAt = System.currentTimeMillis();
+        final Order order = new Order(product, quantity, orderedAt);
+
+        orderPort.save(order);
+        inventoryPort.reserve(order.getId(), product.getId(), order.getQuantity());
+        eventPublisher.publishEvent(new OrderPlacedEvent(order.getId(), product.getId(), order.getQuantity(),
+                order.getUnitPrice(), order.getTotalPrice(), product.getDiscountPolicy(), orderedAt));
+        return new PaymentView(order.getId(), product.getId(), order.getQuantity(), order.getTotalPrice(), order.getStatus());
+    }
+
+    public void pay(final Long orderId, final String cardNumber) {
+        final PaymentView order = paymentPort.getPaymentView(orderId);
+        if (order.status() != OrderStatus.ORDERED) {
+            throw new OrderAlreadyPaidException("이미 결제된 주문입니다.");
+        }
+        pay(order, cardNumber, () -> {
+        });
+    }
+
+    /**
+     * 결제 대기 주문을 결제한다. 재고 예약을 먼저 꺼내 두므로 예약이 만료됐으면 PG 를 부르기 전에 실패한다.
+     * PG 가 거절하거나 이후 단계가 실패하면 트랜잭션이 롤백되면서 주문은 결제 대기로, 재고 예약은 그대로 돌아간다.
+     * 판매 확정은 커밋된 뒤에 반영한다.
+     *
+     * @param sending PG 로 보내기 직전에 부른다. 이후의 실패는 {@link PaymentDeclinedException} 이 아니면
+     *                카드가 결제됐을 수도 있다는 걸 부른 쪽이 알 수 있다(응답 시간 초과 뒤 늦은 승인 등).
+     */
+    public void pay(final PaymentView order, final String cardNumber, final Runnable sending) {
+        final Payment payment = new Payment(order, cardNumber);
+
+        paymentPort.markPaid(order.orderId());
+        inventoryPort.confirm(order.orderId());
+        sending.run();
+        paymentPort.pay(payment);
+        paymentPort.save(payment);
+        eventPublisher.publishEvent(new OrderPaidEvent(order.orderId()));
+    }
+
+    /**
+     * 결제하지 못한 주문을 FAILED 로 닫고 재고 예약을 풀어 준다. 카드가 결제됐을 수 있는 주문에는 부르지 않는다.
+     */
+    public void fail(final Long orderId) {
+        orderPort.markFailed(orderId);
+        inventoryPort.release(orderId);
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.productorderservice.inmemory;
+
+import com.example.productorderservice.order.domain.Order;
+import com.example.productorderservice.order.domain.OrderStatus;
+import com.example.productorderservice.payment.domain.Payment;
+import com.example.productorderservice.product.domain.Product;
+import com.example.productorderservice.support.StripedLongObjectMap;
+import com.example.productorderservice.support.TransactionHooks;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * in-memory 프로필에서 상품, 주문, 결제를 DB 대신 메모리에 둔다. 재시작하면 모두 사라진다.
+ * <ul>
+ *     <li>맵은 long 키를 박싱하지 않는 {@link StripedLongObjectMap} 이라 읽기끼리는 서로 막지 않는다.</li>
+ *     <li>상품은 꺼낼 때와 넣을 때 복사한다. 호출한 쪽이 고친 내용은 save 해야 보이고, @Version 검사도 JPA 와 같게 한다.</li>
+ *     <li>주문과 결제는 트랜잭션이 커밋된 뒤에 넣고, 결제 완료 표시는 바로 하되 롤백되면 되돌린다.</li>
+ * </ul>
+ */
+@Component
+@Profile("in-memory")
+public class InMemoryStore {
+
+    private static final List<Field> PRODUCT_FIELDS = productFields();
+
+    private final StripedLongObjectMap<Product> products = new StripedLongObjectMap<>();
+    private final StripedLongObjectMap<Order> orders = new StripedLongObjectMap<>();
+    private final StripedLongObjectMap<Payment> payments = new StripedLongObjectMap<>();
+    private final AtomicLong productIds = new AtomicLong();
+    private final AtomicLong orderIds = new AtomicLong();
+    private final AtomicLong paymentIds = new AtomicLong();
+
+    public Product findProduct(final long productId) {
+        final Product product = products.get(productId);
+        return product == null ? null : copy(product);
+    }
+
+    /**
+     * ID 가 after 보다 큰 상품 중 filter 를 통과한 것을 ID 오름차순으로 최대 size 개 돌려준다.
+     * ID 는 1부터 차례로 발급하므로 맵을 정렬하지 않고 ID 를 하나씩 올려 가며 찾는다.
+     */
+    public List<Product> findProducts(final long after, final int size, final Predicate<Product> filter) {
+        final List<Product> found = new ArrayList<>(size);
+        final long last = productIds.get();
+        for (long id = Math.max(after, 0) + 1; id <= last && found.size() < size; id++) {
+            final Product product = products.get(id);
+            if (product != null && filter.test(product)) {
+                found.add(copy(product));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 새 상품이면 ID 를 발급하고, 있던 상품이면 버전이 같을 때만 덮어쓴다. 롤백되면 이전 상태로 되돌린다.
+     */
+    public void saveProduct(final Product product) {
+        final boolean created = product.getId() == null;
+        final long productId = created ? productIds.incrementAndGet() : product.getId();
+        final Long version = product.getVersion();
+        final Long nextVersion = version == null ? 0L : version + 1;
+        final Product stored = copy(product);
+        setField(stored, "id", productId);
+        setField(stored, "version", nextVersion);
+
+        final Product previous = products.update(productId, map -> {
+            final Product current = map.get(productId);
+            if (!created && (current == null || !current.getVersion().equals(version))) {
+                throw new ObjectOptimisticLockingFailureException(Product.class, productId);
+            }
+            map.put(productId, stored);
+            return current;
+        });
+        setField(product, "id", productId);
+        setField(product, "version", nextVersion);
+
+        TransactionHooks.onCompletion(() -> {
+        }, () -> products.update(productId, map -> {
+            if (map.get(productId) == stored) {
+                return previous == null ? map.remove(productId) : map.put(productId, previous);
+            }
+            return null;
+        }));
+    }
+
+    public Order findOrder(final long orderId) {
+        return orders.get(orderId);
+    }
+
+    public void saveOrder(final Order order) {
+        final long orderId = orderIds.incrementAndGet();
+        setField(order, "id", orderId);
+        TransactionHooks.afterCommit(() -> orders.put(orderId, order));
+    }
+
+    /**
+     * 결제 대기 중인 주문을 결제 완료로 바꾼다. 롤백되면 원래 상태로 되돌린다.
+     *
+     * @return 이미 결제된 주문이면 false
+     */
+    public boolean markPaid(final long orderId) {
+        return closeOrder(orderId, OrderStatus.PAID);
+    }
+
+    /**
+     * 결제 대기 중인 주문을 결제 실패로 바꾼다. 롤백되면 원래 상태로 되돌린다.
+     *
+     * @return 결제 대기 중이 아니면 false
+     */
+    public boolean markFailed(final long orderId) {
+        return closeOrder(orderId, OrderStatus.FAILED);
+    }
+
+    private boolean closeOrder(final long orderId, final OrderStatus status) {
+        final boolean marked = orders.update(orderId, map -> {
+            final Order order = map.get(orderId);
+            if (order == null) {
+                throw new IllegalArgumentException("주문이 존재하지 않습니다.");
+            }
+            if (order.getStatus() != OrderStatus.ORDERED) {
+                return false;
+            }
+            setField(order, "status", status);
+            return true;
+        });
+        if (marked) {
+            TransactionHooks.onCompletion(() -> {
+            }, () -> orders.update(orderId, map -> {
+                setField(map.get(orderId), "status", OrderStatus.ORDERED);
+                return null;
+            }));
+        }
+        return marked;
+    }
+
+    public Payment findPayment(final long paymentId) {
+        return payments.get(paymentId);
+    }
+
+    public void savePayment(final Payment payment) {
+        final long paymentId = paymentIds.incrementAndGet();
+        setField(payment, "id", paymentId);
+        TransactionHooks.afterCommit(() -> payments.put(paymentId, payment));
+    }
+
+    public void clear() {
+        products.clear();
+        orders.clear();
+        payments.clear();
+        productIds.set(0);
+        orderIds.set(0);
+        paymentIds.set(0);
+    }
+
+    private static Product copy(final Product product) {
+        final Product copy = BeanUtils.instantiateClass(Product.class);
+        for (final Field field : PRODUCT_FIELDS) {
+            ReflectionUtils.setField(field, copy, ReflectionUtils.getField(field, product));
+        }
+        return copy;
+    }
+
+    private static List<Field> productFields() {
+        final List<Field> fields = new ArrayList<>();
+        ReflectionUtils.doWithFields(Product.class, field -> {
+            ReflectionUtils.makeAccessible(field);
+            fields.add(field);
+        }, field -> !Modifier.isStatic(field.getModifiers()));
+        return List.copyOf(fields);
+    }
+
+    private static void setField(final Object target, final String field, final Object value) {
+        new DirectFieldAccessor(target).setPropertyValue(field, value);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.productorderservice.inventory.adapter;
+
+import com.example.productorderservice.inventory.application.port.InventoryPort;
+import com.example.productorderservice.inventory.domain.StockReservations;
+import com.example.productorderservice.support.TransactionHooks;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StockReservations} 를 상품 테이블과 연결한다.
+ * 처음 보는 상품의 재고는 DB 에서 읽어 오고, 확정된 재고 변경은 주기적으로 모아서 JDBC 배치로 반영한다(write-behind).
+ */
+@Component
+public class InventoryAdapter implements InventoryPort, DisposableBean {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StockReservations stockReservations;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "inventory-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    InventoryAdapter(
+            final JdbcTemplate jdbcTemplate,
+            @Value("${inventory.reservation.ttl-ms:600000}") final long reservationTtlMillis,
+            @Value("${inventory.reservation.sweep-interval-ms:1000}") final long sweepIntervalMillis,
+            @Value("${inventory.write-behind.interval-ms:200}") final long writeBehindIntervalMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.stockReservations = new StockReservations(this::loadStock, reservationTtlMillis);
+        scheduler.scheduleWithFixedDelay(stockReservations::expire, sweepIntervalMillis, sweepIntervalMillis, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::flush, writeBehindIntervalMillis, writeBehindIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void register(final Long productId, final int stock) {
+        TransactionHooks.afterCommit(() -> stockReservations.register(productId, stock));
+    }
+
+    @Override
+    public void reserve(final Long orderId, final Long productId, final int quantity) {
+        stockReservations.reserve(orderId, productId, quantity);
+        // 주문 저장이 롤백되면 예약도 바로 풀어 준다.
+        TransactionHooks.onCompletion(() -> {
+        }, () -> stockReservations.release(orderId));
+    }
+
+    @Override
+    public void confirm(final Long orderId) {
+        final StockReservations.Reservation reservation = stockReservations.claim(orderId);
+        TransactionHooks.onCompletion(() -> stockReservations.confirm(reservation), () -> stockReservations.restore(reservation));
+    }
+
+    @Override
+    public void release(final Long orderId) {
+        TransactionHooks.afterCommit(() -> stockReservations.release(orderId));
+    }
+
+    @Override
+    public void restock(final Long productId, final int quantity) {
+        stockReservations.restock(productId, quantity);
+    }
+
+    StockReservations stockReservations() {
+        return stockReservations;
+    }
+
+    public int availableStock(final Long productId) {
+        return stockReservations.availableStock(productId);
+    }
+
+    /**
+     * 모아 둔 재고 변경량을 DB 에 반영한다. stock 컬럼은 JPA 가 수정하지 않으므로 상대값 갱신만으로 충분하다.
+     */
+    public void flush() {
+        final Map<Long, Integer> changes = stockReservations.drainChanges();
+        if (changes.isEmpty()) {
+            return;
+        }
+        final List<Object[]> arguments = new ArrayList<>(changes.size());
+        changes.forEach((productId, delta) -> arguments.add(new Object[]{delta, productId}));
+        try {
+            jdbcTemplate.batchUpdate("UPDATE products SET stock = stock + ? WHERE id = ?", arguments);
+        } catch (RuntimeException e) {
+            stockReservations.restoreChanges(changes);
+        }
+    }
+
+    /**
+     * 메모리의 재고/예약 상태를 모두 비운다. DB 를 초기화한 뒤 호출한다.
+     */
+    public void clear() {
+        stockReservations.clear();
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        flush();
+    }
+
+    private int loadStock(final long productId) {
+        try {
+            return jdbcTemplate.queryForObject("SELECT stock FROM products WHERE id = ?", Integer.class, productId);
+        } catch (EmptyResultDataAccessException e) {
+            throw new IllegalArgumentException("상품이 존재하지 않습니다.");
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.productorderservice.inventory.adapter;
+
+import com.example.productorderservice.inventory.application.port.ReactiveInventoryPort;
+import com.example.productorderservice.inventory.domain.StockReservations;
+import com.example.productorderservice.support.ReactiveTransactionHooks;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * {@link InventoryAdapter} 와 같은 {@link StockReservations} 를 리액티브 트랜잭션에 맞춰 쓴다.
+ * 처음 보는 상품의 재고는 JDBC 로 읽으므로 그 조회만 boundedElastic 에서 하고, 나머지는 메모리 연산이라 호출한 스레드에서 한다.
+ */
+@Component
+@Profile("reactive")
+class ReactiveInventoryAdapter implements ReactiveInventoryPort {
+
+    private final StockReservations stockReservations;
+
+    ReactiveInventoryAdapter(final InventoryAdapter inventoryAdapter) {
+        this.stockReservations = inventoryAdapter.stockReservations();
+    }
+
+    @Override
+    public Mono<Void> register(final Long productId, final int stock) {
+        return ReactiveTransactionHooks.afterCommit(() -> stockReservations.register(productId, stock));
+    }
+
+    /**
+     * 주문 저장이 롤백되면 예약도 바로 풀어 준다.
+     */
+    @Override
+    public Mono<Void> reserve(final Long orderId, final Long productId, final int quantity) {
+        return loadStock(productId)
+                .then(Mono.fromRunnable(() -> stockReservations.reserve(orderId, productId, quantity)))
+                .then(ReactiveTransactionHooks.onCompletion(() -> {
+                }, () -> stockReservations.release(orderId)));
+    }
+
+    @Override
+    public Mono<Void> confirm(final Long orderId) {
+        return Mono.fromCallable(() -> stockReservations.claim(orderId))
+                .flatMap(reservation -> ReactiveTransactionHooks.onCompletion(
+                        () -> stockReservations.confirm(reservation), () -> stockReservations.restore(reservation)));
+    }
+
+    @Override
+    public Mono<Void> release(final Long orderId) {
+        return ReactiveTransactionHooks.afterCommit(() -> stockReservations.release(orderId));
+    }
+
+    @Override
+    public Mono<Void> restock(final Long productId, final int quantity) {
+        return loadStock(productId).then(Mono.fromRunnable(() -> stockReservations.restock(productId, quantity)));
+    }
+
+    private Mono<Void> loadStock(final long productId) {
+        return Mono.defer(() -> stockReservations.isLoaded(productId)
+                ? Mono.<Void>empty()
+                : Mono.<Void>fromRunnable(() -> stockReservations.availableStock(productId)).subscribeOn(Schedulers.boundedElastic()));
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.productorderservice.inventory.application.port;
+
+public interface InventoryPort {
+
+    void register(Long productId, int stock);
+
+    /**
+     * 주문 수량만큼 재고를 예약한다. 재고가 부족하면 {@link com.example.productorderservice.inventory.domain.OutOfStockException} 이 난다.
+     */
+    void reserve(Long orderId, Long productId, int quantity);
+
+    /**
+     * 예약을 판매로 확정한다. 재고 변경은 현재 트랜잭션이 커밋된 뒤에 반영하고, 롤백되면 예약을 그대로 되돌려 다시 결제할 수 있게 한다.
+     * 예약이 만료되었거나 없으면 {@link com.example.productorderservice.inventory.domain.OutOfStockException} 이 나므로 PG 를 부르기 전에 호출한다.
+     */
+    void confirm(Long orderId);
+
+    /**
+     * 확정 전 예약을 취소하고 재고를 돌려놓는다. 현재 트랜잭션이 커밋된 뒤에 반영하며, 예약이 없으면 아무것도 하지 않는다.
+     */
+    void release(Long orderId);
+
+    void restock(Long productId, int quantity);
+}
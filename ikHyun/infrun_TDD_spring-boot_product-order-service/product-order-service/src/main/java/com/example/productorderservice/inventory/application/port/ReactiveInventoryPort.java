@@ -0,0 +1,20 @@
+package com.example.productorderservice.inventory.application.port;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link InventoryPort} 의 논블로킹 버전. reactive 프로필에서 쓴다.
+ * 커밋/롤백에 따라 하는 일은 구독 컨텍스트의 리액티브 트랜잭션을 따른다.
+ */
+public interface ReactiveInventoryPort {
+
+    Mono<Void> register(Long productId, int stock);
+
+    Mono<Void> reserve(Long orderId, Long productId, int quantity);
+
+    Mono<Void> confirm(Long orderId);
+
+    Mono<Void> release(Long orderId);
+
+    Mono<Void> restock(Long productId, int quantity);
+}
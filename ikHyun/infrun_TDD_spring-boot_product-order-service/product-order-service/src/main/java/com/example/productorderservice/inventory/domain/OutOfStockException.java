@@ -0,0 +1,12 @@
+package com.example.productorderservice.inventory.domain;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class OutOfStockException extends IllegalStateException {
+
+    public OutOfStockException(final String message) {
+        super(message);
+    }
+}
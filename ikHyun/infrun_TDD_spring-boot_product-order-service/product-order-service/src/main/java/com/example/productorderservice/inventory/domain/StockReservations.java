@@ -0,0 +1,212 @@
+package com.example.productorderservice.inventory.domain;
+
+import org.springframework.util.Assert;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * 상품별 가용 재고를 메모리에서 관리하는 예약 엔진.
+ * <ul>
+ *     <li>가용 재고 차감은 상품별 AtomicInteger 의 CAS 로만 하므로 락이 없고, 0 아래로 내려가지 않는다.</li>
+ *     <li>예약은 주문 ID 로 관리하며 확정(confirm), 취소(release), 만료(expire) 중 먼저 일어난 한 가지만 적용된다.</li>
+ *     <li>유효 시간이 모두 같으므로 만료 대기열은 예약 순서 그대로인 락 없는 큐로 충분하다.</li>
+ *     <li>확정된 판매 수량과 입고 수량은 상품별 변경량(delta)으로 모아 두었다가 {@link #drainChanges()} 로 한 번에 꺼내 DB 에 반영한다.</li>
+ * </ul>
+ */
+public class StockReservations {
+
+    private final ConcurrentHashMap<Long, AtomicInteger> available = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Reservation> reservations = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, AtomicInteger> pendingChanges = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Reservation> expirations = new ConcurrentLinkedQueue<>();
+    private final LongToIntFunction stockLoader;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    public StockReservations(final LongToIntFunction stockLoader, final long ttlMillis) {
+        this(stockLoader, ttlMillis, System::nanoTime);
+    }
+
+    public StockReservations(final LongToIntFunction stockLoader, final long ttlMillis, final LongSupplier nanoClock) {
+        Assert.isTrue(ttlMillis > 0, "예약 유효 시간은 0보다 커야 합니다.");
+        this.stockLoader = stockLoader;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 새로 등록된 상품의 재고를 알려준다. 같은 ID 의 이전 상태는 버린다.
+     */
+    public void register(final long productId, final int stock) {
+        Assert.isTrue(stock >= 0, "재고는 0 이상이어야 합니다.");
+        pendingChanges.remove(productId);
+        available.put(productId, new AtomicInteger(stock));
+    }
+
+    public void reserve(final long orderId, final long productId, final int quantity) {
+        Assert.isTrue(quantity > 0, "수량은 0보다 커야 합니다.");
+        final AtomicInteger stock = available(productId);
+        int current;
+        do {
+            current = stock.get();
+            if (current < quantity) {
+                throw new OutOfStockException("재고가 부족합니다.");
+            }
+        } while (!stock.compareAndSet(current, current - quantity));
+
+        final Reservation reservation = new Reservation(orderId, productId, quantity, nanoClock.getAsLong() + ttlNanos);
+        if (reservations.putIfAbsent(orderId, reservation) != null) {
+            stock.addAndGet(quantity);
+            throw new IllegalStateException("이미 재고가 예약된 주문입니다.");
+        }
+        expirations.add(reservation);
+    }
+
+    /**
+     * 예약을 판매로 확정한다. 만료되었거나 이미 처리된 예약이면 예외가 난다.
+     */
+    public Reservation confirm(final long orderId) {
+        final Reservation reservation = claim(orderId);
+        confirm(reservation);
+        return reservation;
+    }
+
+    /**
+     * 예약을 꺼내 만료/취소 대상에서 뺀다. 가용 재고는 그대로 차감된 상태로 두고,
+     * 이후 {@link #confirm(Reservation)} 으로 판매를 확정하거나 {@link #restore(Reservation)} 로 예약을 되돌린다.
+     */
+    public Reservation claim(final long orderId) {
+        final Reservation reservation = reservations.remove(orderId);
+        if (reservation == null) {
+            throw new OutOfStockException("재고 예약이 만료되었거나 존재하지 않습니다.");
+        }
+        return reservation;
+    }
+
+    public void confirm(final Reservation reservation) {
+        pendingChange(reservation.productId()).addAndGet(-reservation.quantity());
+    }
+
+    /**
+     * 꺼낸 예약을 다시 넣는다. 만료 시각은 처음 예약한 그대로다.
+     */
+    public void restore(final Reservation reservation) {
+        if (reservations.putIfAbsent(reservation.orderId(), reservation) == null) {
+            expirations.add(reservation);
+        } else {
+            available(reservation.productId()).addAndGet(reservation.quantity());
+        }
+    }
+
+    /**
+     * 확정 전 예약을 취소하고 재고를 돌려놓는다.
+     */
+    public void release(final long orderId) {
+        final Reservation reservation = reservations.remove(orderId);
+        if (reservation != null) {
+            available(reservation.productId()).addAndGet(reservation.quantity());
+        }
+    }
+
+    /**
+     * 입고 또는 확정된 판매의 취소로 재고를 늘린다.
+     */
+    public void restock(final long productId, final int quantity) {
+        Assert.isTrue(quantity > 0, "수량은 0보다 커야 합니다.");
+        available(productId).addAndGet(quantity);
+        pendingChange(productId).addAndGet(quantity);
+    }
+
+    /**
+     * 유효 시간이 지난 예약을 풀어 재고를 돌려놓는다.
+     * 앞쪽에 쌓인 이미 확정/취소된 예약도 유효 시간을 기다리지 않고 함께 치운다.
+     *
+     * @return 만료된 예약 수
+     */
+    public int expire() {
+        final long now = nanoClock.getAsLong();
+        int expired = 0;
+        Reservation reservation;
+        while ((reservation = expirations.peek()) != null) {
+            if (reservations.get(reservation.orderId()) != reservation) {
+                expirations.poll();
+                continue;
+            }
+            if (reservation.expiresAt() - now > 0) {
+                break;
+            }
+            expirations.poll();
+            if (reservations.remove(reservation.orderId(), reservation)) {
+                available(reservation.productId()).addAndGet(reservation.quantity());
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * DB 에 아직 반영하지 않은 상품별 재고 변경량을 꺼낸다. 반영에 실패하면 {@link #restoreChanges(Map)} 로 되돌린다.
+     */
+    public Map<Long, Integer> drainChanges() {
+        final Map<Long, Integer> changes = new HashMap<>();
+        pendingChanges.forEach((productId, change) -> {
+            final int delta = change.getAndSet(0);
+            if (delta != 0) {
+                changes.put(productId, delta);
+            }
+        });
+        return changes;
+    }
+
+    public void restoreChanges(final Map<Long, Integer> changes) {
+        changes.forEach((productId, delta) -> pendingChange(productId).addAndGet(delta));
+    }
+
+    /**
+     * 상품의 재고를 이미 읽어 왔는지. false 면 다음 연산에서 stockLoader 를 부른다.
+     */
+    public boolean isLoaded(final long productId) {
+        return available.containsKey(productId);
+    }
+
+    public int availableStock(final long productId) {
+        return available(productId).get();
+    }
+
+    public int reservedCount() {
+        return reservations.size();
+    }
+
+    public int pendingExpirations() {
+        return expirations.size();
+    }
+
+    public void clear() {
+        available.clear();
+        reservations.clear();
+        pendingChanges.clear();
+        expirations.clear();
+    }
+
+    private AtomicInteger available(final long productId) {
+        final AtomicInteger stock = available.get(productId);
+        if (stock != null) {
+            return stock;
+        }
+        return available.computeIfAbsent(productId, id -> new AtomicInteger(stockLoader.applyAsInt(id)));
+    }
+
+    private AtomicInteger pendingChange(final long productId) {
+        return pendingChanges.computeIfAbsent(productId, ignored -> new AtomicInteger());
+    }
+
+    public record Reservation(long orderId, long productId, int quantity, long expiresAt) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.productorderservice.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 서비스가 쓰는 포트(*.application.port.*Port) 구현체를 {@link PortMetricsInterceptor} 로 감싼다.
+ * 어댑터를 구체 타입으로 주입받는 곳도 있으므로 클래스 기반 프록시를 만든다.
+ */
+@Component
+class PortMetricsPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    PortMetricsPostProcessor(final ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        final List<Class<?>> ports = ClassUtils.getAllInterfacesForClassAsSet(bean.getClass()).stream()
+                .filter(PortMetricsPostProcessor::isPort)
+                .toList();
+        if (ports.isEmpty()) {
+            return bean;
+        }
+        final ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new PortMetricsInterceptor(meterRegistry, ports));
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+
+    private static boolean isPort(final Class<?> type) {
+        return type.getPackageName().endsWith(".application.port") && type.getSimpleName().endsWith("Port");
+    }
+}
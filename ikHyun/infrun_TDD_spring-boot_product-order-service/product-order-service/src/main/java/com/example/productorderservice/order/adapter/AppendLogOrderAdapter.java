@@ -0,0 +1,49 @@
+package com.example.productorderservice.order.adapter;
+
+import com.example.productorderservice.appendlog.AppendLogStore;
+import com.example.productorderservice.appendlog.OrderRecord;
+import com.example.productorderservice.order.application.port.OrderPort;
+import com.example.productorderservice.order.domain.Order;
+import com.example.productorderservice.product.adapter.ProductRepository;
+import com.example.productorderservice.product.domain.Product;
+import com.example.productorderservice.support.TransactionHooks;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문을 JPA 대신 append-log 에 저장한다. 상품은 그대로 JPA 로 읽는다.
+ * ID 는 저장할 때 바로 정해 주고, 로그에는 트랜잭션이 커밋된 뒤에 남긴다.
+ */
+@Component
+@Profile("append-log")
+class AppendLogOrderAdapter implements OrderPort {
+
+    private final ProductRepository productRepository;
+    private final AppendLogStore appendLogStore;
+
+    AppendLogOrderAdapter(final ProductRepository productRepository, final AppendLogStore appendLogStore) {
+        this.productRepository = productRepository;
+        this.appendLogStore = appendLogStore;
+    }
+
+    @Override
+    public Product getProductById(final Long productId) {
+        return productRepository.findById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품이 존재하지 않습니다."));
+    }
+
+    @Override
+    public void save(final Order order) {
+        final long orderId = appendLogStore.nextOrderId();
+        new DirectFieldAccessor(order).setPropertyValue("id", orderId);
+        final OrderRecord record = new OrderRecord(orderId, order.getProduct().getId(), order.getQuantity(),
+                order.getUnitPrice(), order.getDiscountAmount(), order.getTotalPrice(), order.getStatus());
+        TransactionHooks.afterCommit(() -> appendLogStore.saveOrder(record));
+    }
+
+    @Override
+    public void markFailed(final Long orderId) {
+        appendLogStore.markFailed(orderId);
+    }
+}
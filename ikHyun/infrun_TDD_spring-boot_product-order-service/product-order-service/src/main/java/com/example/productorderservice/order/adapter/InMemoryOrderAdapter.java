@@ -0,0 +1,38 @@
+package com.example.productorderservice.order.adapter;
+
+import com.example.productorderservice.inmemory.InMemoryStore;
+import com.example.productorderservice.order.application.port.OrderPort;
+import com.example.productorderservice.order.domain.Order;
+import com.example.productorderservice.product.domain.Product;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("in-memory")
+class InMemoryOrderAdapter implements OrderPort {
+
+    private final InMemoryStore inMemoryStore;
+
+    InMemoryOrderAdapter(final InMemoryStore inMemoryStore) {
+        this.inMemoryStore = inMemoryStore;
+    }
+
+    @Override
+    public Product getProductById(final Long productId) {
+        final Product product = inMemoryStore.findProduct(productId);
+        if (product == null) {
+            throw new IllegalArgumentException("상품이 존재하지 않습니다.");
+        }
+        return product;
+    }
+
+    @Override
+    public void save(final Order order) {
+        inMemoryStore.saveOrder(order);
+    }
+
+    @Override
+    public void markFailed(final Long orderId) {
+        inMemoryStore.markFailed(orderId);
+    }
+}
@@ -4,15 +4,17 @@ import com.example.productorderservice.order.application.port.OrderPort;
 import com.example.productorderservice.order.domain.Order;
 import com.example.productorderservice.product.domain.Product;
 import com.example.productorderservice.product.adapter.ProductRepository;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 @Component
+@Profile("!append-log & !in-memory & !sharded")
 class OrderAdapter implements OrderPort {
 
     private final ProductRepository productRepository;
     private final OrderRepository orderRepository;
 
-    private OrderAdapter(final ProductRepository productRepository, final OrderRepository orderRepository) {
+    OrderAdapter(final ProductRepository productRepository, final OrderRepository orderRepository) {
         this.productRepository = productRepository;
         this.orderRepository = orderRepository;
     }
@@ -25,4 +27,8 @@ class OrderAdapter implements OrderPort {
     public void save(final Order order) {
         orderRepository.save(order);
     }
+
+    public void markFailed(final Long orderId) {
+        orderRepository.markFailed(orderId);
+    }
 }
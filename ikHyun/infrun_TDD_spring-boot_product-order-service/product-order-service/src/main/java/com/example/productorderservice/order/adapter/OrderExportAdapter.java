@@ -0,0 +1,42 @@
+package com.example.productorderservice.order.adapter;
+
+import com.example.productorderservice.order.application.port.OrderExportPort;
+import com.example.productorderservice.order.domain.OrderExport;
+import com.example.productorderservice.order.domain.OrderStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.function.Consumer;
+
+/**
+ * orders 테이블을 JDBC 커서로 앞에서부터 한 번 훑는다. 상품은 조인하지 않고 product_id 만 읽는다.
+ */
+@Component
+@Profile("!append-log & !in-memory & !sharded")
+class OrderExportAdapter implements OrderExportPort {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    OrderExportAdapter(final DataSource dataSource, @Value("${export.fetch-size:1000}") final int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    @Override
+    public void forEachOrder(final Consumer<OrderExport> action) {
+        jdbcTemplate.query("SELECT id, product_id, quantity, unit_price, discount_amount, total_price, status FROM orders ORDER BY id",
+                resultSet -> {
+                    action.accept(new OrderExport(
+                            resultSet.getLong("id"),
+                            resultSet.getLong("product_id"),
+                            resultSet.getInt("quantity"),
+                            resultSet.getInt("unit_price"),
+                            resultSet.getInt("discount_amount"),
+                            resultSet.getInt("total_price"),
+                            OrderStatus.valueOf(resultSet.getString("status"))));
+                });
+    }
+}
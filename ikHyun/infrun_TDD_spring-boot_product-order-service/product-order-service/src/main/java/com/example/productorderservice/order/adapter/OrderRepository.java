@@ -2,6 +2,14 @@ package com.example.productorderservice.order.adapter;
 
 import com.example.productorderservice.order.domain.Order;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    @Modifying
+    @Query("update Order o set o.status = com.example.productorderservice.order.domain.OrderStatus.FAILED"
+            + " where o.id = :orderId and o.status = com.example.productorderservice.order.domain.OrderStatus.ORDERED")
+    int markFailed(@Param("orderId") Long orderId);
 }
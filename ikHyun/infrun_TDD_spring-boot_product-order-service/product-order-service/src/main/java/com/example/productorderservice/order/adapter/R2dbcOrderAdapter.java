@@ -0,0 +1,49 @@
+package com.example.productorderservice.order.adapter;
+
+import com.example.productorderservice.order.application.port.ReactiveOrderPort;
+import com.example.productorderservice.order.domain.Order;
+import com.example.productorderservice.product.adapter.ProductR2dbcRepository;
+import com.example.productorderservice.product.domain.Product;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Component
+@Profile("reactive")
+class R2dbcOrderAdapter implements ReactiveOrderPort {
+
+    private final ProductR2dbcRepository productR2dbcRepository;
+    private final DatabaseClient databaseClient;
+
+    R2dbcOrderAdapter(final ProductR2dbcRepository productR2dbcRepository, final DatabaseClient databaseClient) {
+        this.productR2dbcRepository = productR2dbcRepository;
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Product> getProductById(final Long productId) {
+        return productR2dbcRepository.findById(productId)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("상품이 존재하지 않습니다.")));
+    }
+
+    @Override
+    public Mono<Order> save(final Order order) {
+        return databaseClient.sql("INSERT INTO orders (product_id, quantity, unit_price, discount_amount, total_price, status)"
+                        + " VALUES (:productId, :quantity, :unitPrice, :discountAmount, :totalPrice, :status)")
+                .bind("productId", order.getProduct().getId())
+                .bind("quantity", order.getQuantity())
+                .bind("unitPrice", order.getUnitPrice())
+                .bind("discountAmount", order.getDiscountAmount())
+                .bind("totalPrice", order.getTotalPrice())
+                .bind("status", order.getStatus().name())
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .map(orderId -> {
+                    new DirectFieldAccessor(order).setPropertyValue("id", orderId);
+                    return order;
+                });
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.productorderservice.order.adapter;
+
+import com.example.productorderservice.order.application.port.OrderPort;
+import com.example.productorderservice.order.domain.Order;
+import com.example.productorderservice.product.adapter.ProductRepository;
+import com.example.productorderservice.product.domain.Product;
+import com.example.productorderservice.sharding.ShardedStore;
+import com.example.productorderservice.support.TransactionHooks;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문을 JPA 대신 {@link ShardedStore} 의 샤드에 저장한다. 상품은 그대로 JPA 로 읽는다.
+ * ID 는 저장할 때 샤드 번호를 넣어 바로 정해 주고, 샤드에는 트랜잭션이 커밋된 뒤에 쓴다.
+ */
+@Component
+@Profile("sharded")
+class ShardedOrderAdapter implements OrderPort {
+
+    private final ProductRepository productRepository;
+    private final ShardedStore shardedStore;
+
+    ShardedOrderAdapter(final ProductRepository productRepository, final ShardedStore shardedStore) {
+        this.productRepository = productRepository;
+        this.shardedStore = shardedStore;
+    }
+
+    @Override
+    public Product getProductById(final Long productId) {
+        return productRepository.findById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품이 존재하지 않습니다."));
+    }
+
+    @Override
+    public void save(final Order order) {
+        new DirectFieldAccessor(order).setPropertyValue("id", shardedStore.nextOrderId());
+        TransactionHooks.afterCommit(() -> shardedStore.saveOrder(order));
+    }
+
+    @Override
+    public void markFailed(final Long orderId) {
+        shardedStore.markFailed(orderId);
+    }
+}
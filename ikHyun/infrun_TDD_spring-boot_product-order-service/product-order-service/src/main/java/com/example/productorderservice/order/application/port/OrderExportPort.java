@@ -0,0 +1,13 @@
+package com.example.productorderservice.order.application.port;
+
+import com.example.productorderservice.order.domain.OrderExport;
+
+import java.util.function.Consumer;
+
+public interface OrderExportPort {
+
+    /**
+     * 모든 주문을 ID 순으로 한 건씩 action 에 넘긴다. 전체를 메모리에 올리지 않는다.
+     */
+    void forEachOrder(Consumer<OrderExport> action);
+}
@@ -8,4 +8,9 @@ public interface OrderPort {
     Product getProductById(final Long productId);
 
     void save(final Order order);
+
+    /**
+     * 결제 대기 중인 주문을 결제 실패로 닫는다. 이미 결제됐거나 닫힌 주문이면 그대로 둔다.
+     */
+    void markFailed(final Long orderId);
 }
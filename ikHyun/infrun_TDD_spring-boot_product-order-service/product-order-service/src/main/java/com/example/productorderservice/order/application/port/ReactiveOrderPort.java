@@ -0,0 +1,18 @@
+package com.example.productorderservice.order.application.port;
+
+import com.example.productorderservice.order.domain.Order;
+import com.example.productorderservice.product.domain.Product;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link OrderPort} 의 논블로킹 버전. reactive 프로필에서 쓴다.
+ */
+public interface ReactiveOrderPort {
+
+    Mono<Product> getProductById(Long productId);
+
+    /**
+     * @return ID 가 채워진 주문
+     */
+    Mono<Order> save(Order order);
+}
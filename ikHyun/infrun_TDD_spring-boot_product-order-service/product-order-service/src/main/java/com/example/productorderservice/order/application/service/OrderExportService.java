@@ -0,0 +1,37 @@
+package com.example.productorderservice.order.application.service;
+
+import com.example.productorderservice.order.application.port.OrderExportPort;
+import com.example.productorderservice.order.domain.OrderExport;
+import com.example.productorderservice.support.NdjsonResponses;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/orders")
+@Profile("!reactive & !append-log & !in-memory & !sharded")
+public class OrderExportService {
+
+    private final OrderExportPort orderExportPort;
+    private final ObjectMapper objectMapper;
+
+    OrderExportService(final OrderExportPort orderExportPort, final ObjectMapper objectMapper) {
+        this.orderExportPort = orderExportPort;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 모든 주문을 ID 순으로 한 줄에 하나씩 내보낸다.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding) {
+        return NdjsonResponses.<OrderExport>stream(objectMapper, acceptEncoding, orderExportPort::forEachOrder);
+    }
+}
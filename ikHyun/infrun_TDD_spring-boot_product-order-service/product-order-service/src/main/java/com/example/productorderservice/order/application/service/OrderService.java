@@ -1,9 +1,8 @@
 package com.example.productorderservice.order.application.service;
 
-import com.example.productorderservice.order.domain.Order;
-import com.example.productorderservice.order.application.port.OrderPort;
-import com.example.productorderservice.product.domain.Product;
-import org.springframework.http.HttpStatus;
+import com.example.productorderservice.checkout.application.service.OrderPaymentFlow;
+import com.example.productorderservice.payment.domain.PaymentView;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -11,23 +10,23 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.net.URI;
+
 @RestController
 @RequestMapping("/orders")
+@Profile("!reactive")
 public class OrderService {
 
-    private final OrderPort orderPort;
+    private final OrderPaymentFlow orderPaymentFlow;
 
-    OrderService(OrderPort orderPort) {
-        this.orderPort = orderPort;
+    OrderService(OrderPaymentFlow orderPaymentFlow) {
+        this.orderPaymentFlow = orderPaymentFlow;
     }
 
     @PostMapping
     @Transactional
     public ResponseEntity<Void> createOrder(@RequestBody final CreateOrderRequest request) {
-        final Product product = orderPort.getProductById(request.productId());
-        final Order order = new Order(product, request.quantity());
-
-        orderPort.save(order);
-        return ResponseEntity.status(HttpStatus.CREATED).build();
+        final PaymentView order = orderPaymentFlow.placeOrder(request.productId(), request.quantity());
+        return ResponseEntity.created(URI.create("/orders/" + order.orderId())).build();
     }
 }
@@ -0,0 +1,47 @@
+package com.example.productorderservice.order.application.service;
+
+import com.example.productorderservice.inventory.application.port.ReactiveInventoryPort;
+import com.example.productorderservice.order.application.port.ReactiveOrderPort;
+import com.example.productorderservice.order.domain.Order;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/**
+ * {@link OrderService} 와 같은 API 를 WebFlux 와 R2DBC 로 처리한다.
+ */
+@RestController
+@RequestMapping("/orders")
+@Profile("reactive")
+public class ReactiveOrderService {
+
+    private final ReactiveOrderPort orderPort;
+    private final ReactiveInventoryPort inventoryPort;
+    private final TransactionalOperator transactionalOperator;
+
+    ReactiveOrderService(final ReactiveOrderPort orderPort, final ReactiveInventoryPort inventoryPort, final TransactionalOperator transactionalOperator) {
+        this.orderPort = orderPort;
+        this.inventoryPort = inventoryPort;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    /**
+     * 재고 예약은 주문 저장 다음, 커밋 전에 한다. 재고가 모자라면 주문 INSERT 도 함께 롤백된다.
+     */
+    @PostMapping
+    public Mono<ResponseEntity<Void>> createOrder(@RequestBody final CreateOrderRequest request) {
+        return orderPort.getProductById(request.productId())
+                .flatMap(product -> orderPort.save(new Order(product, request.quantity())))
+                .flatMap(order -> inventoryPort.reserve(order.getId(), order.getProduct().getId(), order.getQuantity())
+                        .thenReturn(order))
+                .as(transactionalOperator::transactional)
+                .map(order -> ResponseEntity.created(URI.create("/orders/" + order.getId())).build());
+    }
+}
@@ -17,20 +17,35 @@ public class Order {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     private Product product;
 
     private int quantity;
 
+    /**
+     * 주문 시점의 상품 단가. 이후 상품 가격이나 할인이 바뀌어도 결제 금액은 그대로다.
+     */
+    private int unitPrice;
+
+    private int discountAmount;
+
+    private int totalPrice;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+
     public Order(Product product, int quantity) {
+        this(product, quantity, System.currentTimeMillis());
+    }
+
+    public Order(Product product, int quantity, long orderedAt) {
         Assert.notNull(product, "상품은 필수입니다.");
         Assert.isTrue(quantity > 0, "수량은 0보다 커야 합니다.");
         this.product = product;
         this.quantity = quantity;
-    }
-
-
-    public int getTotalPrice() {
-        return product.getDiscountedPrice() * this.quantity;
+        this.unitPrice = product.getPrice();
+        this.totalPrice = product.getTotalPrice(quantity, orderedAt);
+        this.discountAmount = Math.multiplyExact(unitPrice, quantity) - totalPrice;
+        this.status = OrderStatus.ORDERED;
     }
 }
@@ -0,0 +1,12 @@
+package com.example.productorderservice.order.domain;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class OrderAlreadyPaidException extends IllegalStateException {
+
+    public OrderAlreadyPaidException(final String message) {
+        super(message);
+    }
+}
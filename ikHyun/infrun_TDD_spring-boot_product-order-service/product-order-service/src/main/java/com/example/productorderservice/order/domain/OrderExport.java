@@ -0,0 +1,7 @@
+package com.example.productorderservice.order.domain;
+
+/**
+ * 내보내기용 주문 한 행. 상품은 ID 만 담고 엔티티를 만들지 않는다.
+ */
+public record OrderExport(long id, long productId, int quantity, int unitPrice, int discountAmount, int totalPrice, OrderStatus status) {
+}
@@ -0,0 +1,7 @@
+package com.example.productorderservice.order.domain;
+
+/**
+ * 주문이 결제됐다. 분석용 저장소는 이 이벤트가 커밋된 주문만 매출로 센다.
+ */
+public record OrderPaidEvent(Long orderId) {
+}
@@ -0,0 +1,12 @@
+package com.example.productorderservice.order.domain;
+
+import com.example.productorderservice.product.domain.DiscountPolicy;
+
+/**
+ * 주문이 만들어졌다. 분석용 저장소는 커밋된 주문을 이 이벤트로 받아 두었다가 {@link OrderPaidEvent} 가 오면 쌓는다.
+ *
+ * @param orderedAt 주문 시각(epoch 밀리초). 가격 계산에 쓴 시각과 같다.
+ */
+public record OrderPlacedEvent(Long orderId, Long productId, int quantity, int unitPrice, int totalPrice,
+                               DiscountPolicy discountPolicy, long orderedAt) {
+}
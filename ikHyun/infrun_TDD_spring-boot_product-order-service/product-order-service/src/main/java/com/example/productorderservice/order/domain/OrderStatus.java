@@ -0,0 +1,10 @@
+package com.example.productorderservice.order.domain;
+
+public enum OrderStatus {
+    ORDERED,
+    PAID,
+    /**
+     * 결제가 거절되어 닫힌 주문. 예약했던 재고는 되돌려져 있고 다시 결제할 수 없다.
+     */
+    FAILED
+}
@@ -0,0 +1,58 @@
+package com.example.productorderservice.payment.adapter;
+
+import com.example.productorderservice.appendlog.AppendLogStore;
+import com.example.productorderservice.appendlog.OrderRecord;
+import com.example.productorderservice.appendlog.PaymentRecord;
+import com.example.productorderservice.order.domain.OrderAlreadyPaidException;
+import com.example.productorderservice.payment.application.port.PaymentPort;
+import com.example.productorderservice.payment.domain.Payment;
+import com.example.productorderservice.payment.domain.PaymentView;
+import com.example.productorderservice.support.TransactionHooks;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제를 JPA 대신 append-log 에 저장한다. PG 호출은 JPA 어댑터와 같은 {@link ResilientPaymentExecutor} 를 쓴다.
+ */
+@Component
+@Profile("append-log")
+class AppendLogPaymentAdapter implements PaymentPort {
+
+    private final ResilientPaymentExecutor resilientPaymentExecutor;
+    private final AppendLogStore appendLogStore;
+
+    AppendLogPaymentAdapter(final ResilientPaymentExecutor resilientPaymentExecutor, final AppendLogStore appendLogStore) {
+        this.resilientPaymentExecutor = resilientPaymentExecutor;
+        this.appendLogStore = appendLogStore;
+    }
+
+    @Override
+    public PaymentView getPaymentView(final Long orderId) {
+        final OrderRecord order = appendLogStore.findOrder(orderId);
+        if (order == null) {
+            throw new IllegalArgumentException("주문이 존재하지 않습니다.");
+        }
+        return new PaymentView(order.id(), order.productId(), order.quantity(), order.totalPrice(), order.status());
+    }
+
+    @Override
+    public void markPaid(final Long orderId) {
+        if (!appendLogStore.markPaid(orderId)) {
+            throw new OrderAlreadyPaidException("이미 결제된 주문입니다.");
+        }
+    }
+
+    @Override
+    public void pay(final Payment payment) {
+        resilientPaymentExecutor.pay(payment.getOrderId(), payment.getPrice(), payment.getCardNumber());
+    }
+
+    @Override
+    public void save(final Payment payment) {
+        final long paymentId = appendLogStore.nextPaymentId();
+        new DirectFieldAccessor(payment).setPropertyValue("id", paymentId);
+        final PaymentRecord record = new PaymentRecord(paymentId, payment.getOrderId(), payment.getPrice(), payment.getCardNumber());
+        TransactionHooks.afterCommit(() -> appendLogStore.savePayment(record));
+    }
+}
@@ -2,11 +2,59 @@ package com.example.productorderservice.payment.adapter;
 
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 콘솔에 찍기만 하는 PG. 실제 PG 처럼 멱등 키로 중복 승인을 막는다.
+ * 최근 {@value #MAX_KEYS} 개의 키를 기억하고, 이미 승인한 키로 다시 들어오면 승인 없이 성공으로 돌려준다.
+ */
 @Component
 public class ConsolePaymentGateway implements PaymentGateway {
 
+    static final int MAX_KEYS = 100_000;
+
+    private final Map<String, Boolean> approvedKeys = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_KEYS;
+        }
+    };
+
+    @Override
+    public void excute(String idempotencyKey, int totalPrice, String cardNumber) {
+        if (approve(idempotencyKey)) {
+            System.out.println("결제 완료");
+        }
+    }
+
     @Override
-    public void excute(int totalPrice, String cardNumber) {
-        System.out.println("결제 완료");
+    public List<PaymentGatewayResult> excuteBatch(final List<PaymentGatewayRequest> requests) {
+        final List<PaymentGatewayResult> results = new ArrayList<>(requests.size());
+        int approved = 0;
+        for (final PaymentGatewayRequest request : requests) {
+            if (approve(request.idempotencyKey())) {
+                approved++;
+            }
+            results.add(PaymentGatewayResult.success());
+        }
+        System.out.println("결제 완료 " + approved + "건");
+        return results;
+    }
+
+    @Override
+    public boolean deduplicates() {
+        return true;
+    }
+
+    /**
+     * @return 처음 보는 키라 새로 승인했으면 true
+     */
+    private boolean approve(final String idempotencyKey) {
+        synchronized (approvedKeys) {
+            return approvedKeys.put(idempotencyKey, Boolean.TRUE) == null;
+        }
     }
-}
\ No newline at end of file
+}
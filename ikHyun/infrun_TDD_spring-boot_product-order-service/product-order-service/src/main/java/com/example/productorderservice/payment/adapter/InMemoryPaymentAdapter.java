@@ -0,0 +1,52 @@
+package com.example.productorderservice.payment.adapter;
+
+import com.example.productorderservice.inmemory.InMemoryStore;
+import com.example.productorderservice.order.domain.Order;
+import com.example.productorderservice.order.domain.OrderAlreadyPaidException;
+import com.example.productorderservice.payment.application.port.PaymentPort;
+import com.example.productorderservice.payment.domain.Payment;
+import com.example.productorderservice.payment.domain.PaymentView;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * in-memory 프로필의 주문은 {@link InMemoryStore} 에만 있으므로 결제도 같은 저장소에서 읽고 쓴다.
+ */
+@Component
+@Profile("in-memory")
+class InMemoryPaymentAdapter implements PaymentPort {
+
+    private final ResilientPaymentExecutor resilientPaymentExecutor;
+    private final InMemoryStore inMemoryStore;
+
+    InMemoryPaymentAdapter(final ResilientPaymentExecutor resilientPaymentExecutor, final InMemoryStore inMemoryStore) {
+        this.resilientPaymentExecutor = resilientPaymentExecutor;
+        this.inMemoryStore = inMemoryStore;
+    }
+
+    @Override
+    public PaymentView getPaymentView(final Long orderId) {
+        final Order order = inMemoryStore.findOrder(orderId);
+        if (order == null) {
+            throw new IllegalArgumentException("주문이 존재하지 않습니다.");
+        }
+        return new PaymentView(order.getId(), order.getProduct().getId(), order.getQuantity(), order.getTotalPrice(), order.getStatus());
+    }
+
+    @Override
+    public void markPaid(final Long orderId) {
+        if (!inMemoryStore.markPaid(orderId)) {
+            throw new OrderAlreadyPaidException("이미 결제된 주문입니다.");
+        }
+    }
+
+    @Override
+    public void pay(final Payment payment) {
+        resilientPaymentExecutor.pay(payment.getOrderId(), payment.getPrice(), payment.getCardNumber());
+    }
+
+    @Override
+    public void save(final Payment payment) {
+        inMemoryStore.savePayment(payment);
+    }
+}
@@ -1,32 +1,39 @@
 package com.example.productorderservice.payment.adapter;
 
-import com.example.productorderservice.order.domain.Order;
-import com.example.productorderservice.order.adapter.OrderRepository;
+import com.example.productorderservice.order.domain.OrderAlreadyPaidException;
 import com.example.productorderservice.payment.application.port.PaymentPort;
 import com.example.productorderservice.payment.domain.Payment;
+import com.example.productorderservice.payment.domain.PaymentView;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 @Component
+@Profile("!append-log & !in-memory & !sharded")
 public class PaymentAdapter implements PaymentPort {
 
-    private final PaymentGateway paymentGateway;
+    private final ResilientPaymentExecutor resilientPaymentExecutor;
     private final PaymentRepository paymentRepository;
-    private final OrderRepository orderRepository;
 
-    public PaymentAdapter(final PaymentGateway paymentGateway, final PaymentRepository paymentRepository, final OrderRepository orderRepository) {
-        this.paymentGateway = paymentGateway;
+    PaymentAdapter(final ResilientPaymentExecutor resilientPaymentExecutor, final PaymentRepository paymentRepository) {
+        this.resilientPaymentExecutor = resilientPaymentExecutor;
         this.paymentRepository = paymentRepository;
-        this.orderRepository = orderRepository;
     }
 
     @Override
-    public Order getOrder(final Long orderId) {
-        return orderRepository.findById(orderId).orElseThrow(() -> new IllegalArgumentException("주문이 존재하지 않습니다."));
+    public PaymentView getPaymentView(final Long orderId) {
+        return paymentRepository.findPaymentView(orderId).orElseThrow(() -> new IllegalArgumentException("주문이 존재하지 않습니다."));
     }
 
     @Override
-    public void pay(int totalPrice, String cardNumber) {
-        paymentGateway.excute(totalPrice, cardNumber);
+    public void markPaid(final Long orderId) {
+        if (paymentRepository.markPaid(orderId) == 0) {
+            throw new OrderAlreadyPaidException("이미 결제된 주문입니다.");
+        }
+    }
+
+    @Override
+    public void pay(final Payment payment) {
+        resilientPaymentExecutor.pay(payment.getOrderId(), payment.getPrice(), payment.getCardNumber());
     }
 
     @Override
@@ -0,0 +1,234 @@
+package com.example.productorderservice.payment.adapter;
+
+import com.example.productorderservice.payment.domain.PaymentDeclinedException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동시에 들어온 결제 요청을 최대 maxBatchSize 건 또는 maxWait 시간 동안 모아서
+ * {@link PaymentGateway#excuteBatch(List)} 한 번으로 보내고, 요청별 future 를 각각 완료시킨다.
+ */
+@Component
+class PaymentBatchDispatcher implements DisposableBean {
+
+    private final PaymentGateway paymentGateway;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final BlockingQueue<PendingPayment> queue = new LinkedBlockingQueue<>();
+    private final ExecutorService senders;
+    private final Thread collector;
+    private volatile boolean running = true;
+
+    PaymentBatchDispatcher(
+            final PaymentGateway paymentGateway,
+            @Value("${payment.batch.max-size:32}") final int maxBatchSize,
+            @Value("${payment.batch.max-wait-ms:5}") final long maxWaitMillis,
+            @Value("${payment.batch.concurrency:4}") final int concurrency) {
+        Assert.isTrue(maxBatchSize > 0, "배치 크기는 0보다 커야 합니다.");
+        Assert.isTrue(maxWaitMillis >= 0, "배치 대기 시간은 0 이상이어야 합니다.");
+        Assert.isTrue(concurrency > 0, "동시 전송 수는 0보다 커야 합니다.");
+        this.paymentGateway = paymentGateway;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.senders = Executors.newFixedThreadPool(concurrency, daemon("payment-batch-sender"));
+        this.collector = daemon("payment-batch-collector").newThread(this::collect);
+        this.collector.start();
+    }
+
+    Submission submit(final long orderId, final int totalPrice, final String cardNumber) {
+        return submit(PaymentGatewayRequest.of(orderId, totalPrice, cardNumber));
+    }
+
+    Submission submit(final PaymentGatewayRequest request) {
+        final PendingPayment pending = new PendingPayment(request);
+        if (!running) {
+            pending.future.completeExceptionally(new IllegalStateException("결제 처리기가 종료되었습니다."));
+            return pending.future;
+        }
+        queue.add(pending);
+        // destroy 가 마지막으로 큐를 비운 뒤에 넣었을 수 있다. 아직 큐에 남아 있으면 아무도 꺼내지 않으므로 여기서 실패시킨다.
+        // remove 가 false 면 수집 스레드나 destroy 가 이미 꺼내 갔으니 그쪽에서 완료한다.
+        if (!running && queue.remove(pending)) {
+            pending.future.completeExceptionally(new IllegalStateException("결제 처리기가 종료되었습니다."));
+        }
+        return pending.future;
+    }
+
+    private void collect() {
+        while (running || !queue.isEmpty()) {
+            try {
+                final PendingPayment first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                final List<PendingPayment> batch = new ArrayList<>(maxBatchSize);
+                batch.add(first);
+                final long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    final long remaining = deadline - System.nanoTime();
+                    final PendingPayment next = remaining > 0
+                            ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                            : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        failAll(drainQueue(), new IllegalStateException("결제 처리기가 종료되었습니다."));
+    }
+
+    private void send(final List<PendingPayment> batch) {
+        try {
+            senders.execute(new BatchTask(batch));
+        } catch (RejectedExecutionException e) {
+            failAll(batch, new IllegalStateException("결제 처리기가 종료되었습니다.", e));
+        }
+    }
+
+    private void dispatch(final List<PendingPayment> queued) {
+        // 기다리는 동안 호출한 쪽에서 뺀(시간 초과) 요청은 보내지 않는다.
+        final List<PendingPayment> batch = new ArrayList<>(queued.size());
+        final List<PaymentGatewayRequest> requests = new ArrayList<>(queued.size());
+        for (final PendingPayment pending : queued) {
+            if (!pending.future.isDone() && pending.future.markSent()) {
+                batch.add(pending);
+                requests.add(pending.request);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        final List<PaymentGatewayResult> results;
+        try {
+            results = paymentGateway.excuteBatch(requests);
+        } catch (RuntimeException e) {
+            failAll(batch, e);
+            return;
+        }
+        if (results == null || results.size() != batch.size()) {
+            failAll(batch, new IllegalStateException("결제 응답 건수가 요청 건수와 다릅니다."));
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            final PaymentGatewayResult result = results.get(i);
+            if (result != null && result.approved()) {
+                batch.get(i).future.complete(null);
+            } else {
+                final String message = result == null ? "응답 없음" : result.failureMessage();
+                batch.get(i).future.completeExceptionally(new PaymentDeclinedException("결제에 실패했습니다: " + message));
+            }
+        }
+    }
+
+    boolean deduplicates() {
+        return paymentGateway.deduplicates();
+    }
+
+    private List<PendingPayment> drainQueue() {
+        final List<PendingPayment> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        return remaining;
+    }
+
+    private static void failAll(final List<PendingPayment> batch, final Throwable cause) {
+        for (final PendingPayment pending : batch) {
+            pending.future.completeExceptionally(cause);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        collector.join(TimeUnit.SECONDS.toMillis(5));
+        senders.shutdown();
+        if (!senders.awaitTermination(5, TimeUnit.SECONDS)) {
+            // 아직 보내지 못한 배치는 버려지므로 실패로 완료한다.
+            for (final Runnable task : senders.shutdownNow()) {
+                if (task instanceof BatchTask batchTask) {
+                    failAll(batchTask.batch, new IllegalStateException("결제 처리기가 종료되었습니다."));
+                }
+            }
+        }
+        failAll(drainQueue(), new IllegalStateException("결제 처리기가 종료되었습니다."));
+    }
+
+    private static ThreadFactory daemon(final String name) {
+        return runnable -> {
+            final Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private final class BatchTask implements Runnable {
+        private final List<PendingPayment> batch;
+
+        private BatchTask(final List<PendingPayment> batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void run() {
+            dispatch(batch);
+        }
+    }
+
+    /**
+     * 결제 요청 한 건의 결과. PG 로 보내기 전이면 {@link #withdraw()} 로 뺄 수 있다.
+     */
+    static final class Submission extends CompletableFuture<Void> {
+        private static final int QUEUED = 0;
+        private static final int SENT = 1;
+        private static final int WITHDRAWN = 2;
+
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+
+        /**
+         * 아직 PG 로 보내지 않았으면 보내지 않게 하고 취소로 완료한다.
+         *
+         * @return 이미 보냈으면 false. 그 결과는 PG 응답대로 완료된다.
+         */
+        boolean withdraw() {
+            if (!state.compareAndSet(QUEUED, WITHDRAWN)) {
+                return false;
+            }
+            cancel(false);
+            return true;
+        }
+
+        private boolean markSent() {
+            return state.compareAndSet(QUEUED, SENT);
+        }
+    }
+
+    private static final class PendingPayment {
+        private final PaymentGatewayRequest request;
+        private final Submission future = new Submission();
+
+        private PendingPayment(final PaymentGatewayRequest request) {
+            this.request = request;
+        }
+    }
+}
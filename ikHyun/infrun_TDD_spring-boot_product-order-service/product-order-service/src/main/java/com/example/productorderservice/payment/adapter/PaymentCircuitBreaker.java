@@ -0,0 +1,125 @@
+package com.example.productorderservice.payment.adapter;
+
+import org.springframework.util.Assert;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 slidingWindowSize 건의 결과를 기준으로 동작하는 서킷 브레이커.
+ * 실패율이 임계치를 넘으면 openDuration 동안 호출을 막고, 이후 반 열림 상태에서 시험 호출이 성공하면 다시 닫힌다.
+ */
+class PaymentCircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final boolean[] failures;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenPermittedCalls;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int next;
+    private int recorded;
+    private int failed;
+    private long openedAt;
+    private int halfOpenAcquired;
+    private int halfOpenSucceeded;
+
+    PaymentCircuitBreaker(final PaymentResilienceProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    PaymentCircuitBreaker(final PaymentResilienceProperties properties, final LongSupplier nanoClock) {
+        Assert.isTrue(properties.slidingWindowSize() > 0, "슬라이딩 윈도우 크기는 0보다 커야 합니다.");
+        Assert.isTrue(properties.halfOpenPermittedCalls() > 0, "반 열림 시험 호출 수는 0보다 커야 합니다.");
+        this.failures = new boolean[properties.slidingWindowSize()];
+        this.minimumCalls = Math.min(properties.minimumCalls(), properties.slidingWindowSize());
+        this.failureRateThreshold = properties.failureRateThreshold();
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(properties.openDurationMs());
+        this.halfOpenPermittedCalls = properties.halfOpenPermittedCalls();
+        this.nanoClock = nanoClock;
+    }
+
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenAcquired = 0;
+            halfOpenSucceeded = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenAcquired >= halfOpenPermittedCalls) {
+                return false;
+            }
+            halfOpenAcquired++;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSucceeded >= halfOpenPermittedCalls) {
+                close();
+            }
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(true);
+            if (recorded >= minimumCalls && failed * 100 >= failureRateThreshold * recorded) {
+                open();
+            }
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    synchronized double failureRate() {
+        return recorded == 0 ? 0 : (double) failed / recorded;
+    }
+
+    private void record(final boolean failure) {
+        if (recorded == failures.length) {
+            if (failures[next]) {
+                failed--;
+            }
+        } else {
+            recorded++;
+        }
+        failures[next] = failure;
+        if (failure) {
+            failed++;
+        }
+        next = (next + 1) % failures.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        next = 0;
+        recorded = 0;
+        failed = 0;
+    }
+}
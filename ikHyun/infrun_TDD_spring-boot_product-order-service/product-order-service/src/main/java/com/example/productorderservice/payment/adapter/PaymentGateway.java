@@ -1,5 +1,35 @@
 package com.example.productorderservice.payment.adapter;
 
+import java.util.ArrayList;
+import java.util.List;
+
 interface PaymentGateway {
-    void excute(int totalPrice, String cardNumber);
-}
\ No newline at end of file
+    /**
+     * @param idempotencyKey 같은 키로 다시 들어온 결제는 새로 승인하지 않고 처음 결과를 돌려줘야 한다({@link #deduplicates()} 가 true 일 때)
+     */
+    void excute(String idempotencyKey, int totalPrice, String cardNumber);
+
+    /**
+     * 여러 건의 결제를 한 번의 호출로 승인한다.
+     * 결과는 요청과 같은 순서, 같은 크기로 반환해야 하며 건별 실패는 예외 대신 실패 결과로 돌려준다.
+     */
+    default List<PaymentGatewayResult> excuteBatch(final List<PaymentGatewayRequest> requests) {
+        final List<PaymentGatewayResult> results = new ArrayList<>(requests.size());
+        for (final PaymentGatewayRequest request : requests) {
+            try {
+                excute(request.idempotencyKey(), request.totalPrice(), request.cardNumber());
+                results.add(PaymentGatewayResult.success());
+            } catch (RuntimeException e) {
+                results.add(PaymentGatewayResult.failure(e.getMessage()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * PG 가 멱등 키로 중복 승인을 막아 주는지. false 면 같은 결제를 두 번 보내는 헤지 요청을 하지 않는다.
+     */
+    default boolean deduplicates() {
+        return false;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.productorderservice.payment.adapter;
+
+import org.springframework.util.Assert;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * @param idempotencyKey 같은 결제를 다시 보내도(헤지 요청, 클라이언트 재시도) PG 가 한 번만 승인하도록 쓰는 키
+ */
+record PaymentGatewayRequest(String idempotencyKey, int totalPrice, String cardNumber) {
+    PaymentGatewayRequest {
+        Assert.hasText(idempotencyKey, "멱등 키는 필수입니다.");
+        Assert.hasText(cardNumber, "카드 번호는 필수입니다.");
+    }
+
+    /**
+     * 멱등 키는 주문 ID 와 카드 번호의 SHA-256 으로 정한다. 같은 주문을 같은 카드로 다시 결제하면 같은 키가 되고,
+     * 거절된 뒤 다른 카드로 결제하면 새 키가 된다. 카드 번호 자체는 키에 넣지 않는다.
+     */
+    static PaymentGatewayRequest of(final long orderId, final int totalPrice, final String cardNumber) {
+        Assert.hasText(cardNumber, "카드 번호는 필수입니다.");
+        return new PaymentGatewayRequest("order-" + orderId + "-" + sha256(cardNumber), totalPrice, cardNumber);
+    }
+
+    private static String sha256(final String value) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
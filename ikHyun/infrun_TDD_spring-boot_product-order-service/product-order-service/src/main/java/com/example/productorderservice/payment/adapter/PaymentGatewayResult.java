@@ -0,0 +1,14 @@
+package com.example.productorderservice.payment.adapter;
+
+record PaymentGatewayResult(boolean approved, String failureMessage) {
+
+    private static final PaymentGatewayResult SUCCESS = new PaymentGatewayResult(true, null);
+
+    static PaymentGatewayResult success() {
+        return SUCCESS;
+    }
+
+    static PaymentGatewayResult failure(final String message) {
+        return new PaymentGatewayResult(false, message);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.productorderservice.payment.adapter;
+
+import java.util.Arrays;
+
+/**
+ * 최근 결제 응답 시간을 링 버퍼에 모아 p95 를 계산한다.
+ * 정렬 비용을 줄이기 위해 p95 는 RECOMPUTE_INTERVAL 건마다 한 번만 다시 계산한다.
+ */
+class PaymentLatencyTracker {
+
+    private static final int RECOMPUTE_INTERVAL = 32;
+
+    private final long[] samples;
+    private final int minimumSamples;
+    private int next;
+    private int count;
+    private int sinceRecompute;
+    private long p95 = -1;
+
+    PaymentLatencyTracker(final int capacity, final int minimumSamples) {
+        this.samples = new long[capacity];
+        this.minimumSamples = Math.min(minimumSamples, capacity);
+    }
+
+    synchronized void record(final long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+        if (++sinceRecompute >= RECOMPUTE_INTERVAL || p95 < 0) {
+            recompute();
+        }
+    }
+
+    /**
+     * @return p95 응답 시간(ns), 표본이 부족하면 -1
+     */
+    synchronized long p95Nanos() {
+        return p95;
+    }
+
+    private void recompute() {
+        sinceRecompute = 0;
+        if (count < minimumSamples) {
+            p95 = -1;
+            return;
+        }
+        final long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        p95 = sorted[(int) Math.ceil(count * 0.95) - 1];
+    }
+}
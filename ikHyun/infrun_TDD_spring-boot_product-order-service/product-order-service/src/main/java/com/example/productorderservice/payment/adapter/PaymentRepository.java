@@ -1,7 +1,25 @@
 package com.example.productorderservice.payment.adapter;
 
 import com.example.productorderservice.payment.domain.Payment;
+import com.example.productorderservice.payment.domain.PaymentView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 interface PaymentRepository extends JpaRepository<Payment,Long> {
+
+    @Query("select new com.example.productorderservice.payment.domain.PaymentView(o.id, o.product.id, o.quantity, o.totalPrice, o.status)"
+            + " from Order o where o.id = :orderId")
+    Optional<PaymentView> findPaymentView(@Param("orderId") Long orderId);
+
+    /**
+     * 결제 대기 중인 주문만 결제 완료로 바꾼다. 동시에 같은 주문을 결제하면 한 쪽만 1을 받는다.
+     */
+    @Modifying
+    @Query("update Order o set o.status = com.example.productorderservice.order.domain.OrderStatus.PAID"
+            + " where o.id = :orderId and o.status = com.example.productorderservice.order.domain.OrderStatus.ORDERED")
+    int markPaid(@Param("orderId") Long orderId);
 }
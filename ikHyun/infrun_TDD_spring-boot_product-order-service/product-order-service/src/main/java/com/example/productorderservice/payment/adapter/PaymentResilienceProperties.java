@@ -0,0 +1,20 @@
+package com.example.productorderservice.payment.adapter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("payment.resilience")
+@ConstructorBinding
+record PaymentResilienceProperties(
+        @DefaultValue("20") int slidingWindowSize,
+        @DefaultValue("10") int minimumCalls,
+        @DefaultValue("50") int failureRateThreshold,
+        @DefaultValue("5000") long openDurationMs,
+        @DefaultValue("1") int halfOpenPermittedCalls,
+        @DefaultValue("2000") long timeoutMs,
+        @DefaultValue("true") boolean hedgeEnabled,
+        @DefaultValue("100") long initialHedgeDelayMs,
+        @DefaultValue("10") long minHedgeDelayMs
+) {
+}
@@ -0,0 +1,16 @@
+package com.example.productorderservice.payment.adapter;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PaymentUnavailableException extends IllegalStateException {
+
+    public PaymentUnavailableException(final String message) {
+        super(message);
+    }
+
+    public PaymentUnavailableException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
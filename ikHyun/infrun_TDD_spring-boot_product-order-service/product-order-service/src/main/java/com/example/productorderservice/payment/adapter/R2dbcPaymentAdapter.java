@@ -0,0 +1,79 @@
+package com.example.productorderservice.payment.adapter;
+
+import com.example.productorderservice.order.domain.OrderAlreadyPaidException;
+import com.example.productorderservice.order.domain.OrderStatus;
+import com.example.productorderservice.payment.application.port.ReactivePaymentPort;
+import com.example.productorderservice.payment.domain.Payment;
+import com.example.productorderservice.payment.domain.PaymentView;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * PG 호출은 {@link ResilientPaymentExecutor#payAsync} 의 future 를 그대로 이어 받아 요청 스레드를 막지 않는다.
+ */
+@Component
+@Profile("reactive")
+class R2dbcPaymentAdapter implements ReactivePaymentPort {
+
+    private final ResilientPaymentExecutor resilientPaymentExecutor;
+    private final DatabaseClient databaseClient;
+
+    R2dbcPaymentAdapter(final ResilientPaymentExecutor resilientPaymentExecutor, final DatabaseClient databaseClient) {
+        this.resilientPaymentExecutor = resilientPaymentExecutor;
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<PaymentView> getPaymentView(final Long orderId) {
+        return databaseClient.sql("SELECT id, product_id, quantity, total_price, status FROM orders WHERE id = :orderId")
+                .bind("orderId", orderId)
+                .map(row -> new PaymentView(
+                        row.get("id", Long.class),
+                        row.get("product_id", Long.class),
+                        row.get("quantity", Integer.class),
+                        row.get("total_price", Integer.class),
+                        OrderStatus.valueOf(row.get("status", String.class))))
+                .one()
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("주문이 존재하지 않습니다.")));
+    }
+
+    /**
+     * 결제 대기 중인 주문만 결제 완료로 바꾼다. 동시에 같은 주문을 결제하면 한 쪽만 성공한다.
+     */
+    @Override
+    public Mono<Void> markPaid(final Long orderId) {
+        return databaseClient.sql("UPDATE orders SET status = :paid WHERE id = :orderId AND status = :ordered")
+                .bind("paid", OrderStatus.PAID.name())
+                .bind("orderId", orderId)
+                .bind("ordered", OrderStatus.ORDERED.name())
+                .fetch()
+                .rowsUpdated()
+                .flatMap(updated -> updated == 0
+                        ? Mono.<Void>error(new OrderAlreadyPaidException("이미 결제된 주문입니다."))
+                        : Mono.<Void>empty());
+    }
+
+    @Override
+    public Mono<Void> pay(final Payment payment) {
+        return Mono.defer(() -> Mono.fromFuture(
+                resilientPaymentExecutor.payAsync(payment.getOrderId(), payment.getPrice(), payment.getCardNumber())));
+    }
+
+    @Override
+    public Mono<Payment> save(final Payment payment) {
+        return databaseClient.sql("INSERT INTO payments (order_id, price, card_number) VALUES (:orderId, :price, :cardNumber)")
+                .bind("orderId", payment.getOrderId())
+                .bind("price", payment.getPrice())
+                .bind("cardNumber", payment.getCardNumber())
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .map(paymentId -> {
+                    new DirectFieldAccessor(payment).setPropertyValue("id", paymentId);
+                    return payment;
+                });
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.productorderservice.payment.adapter;
+
+import com.example.productorderservice.payment.domain.PaymentDeclinedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PG 호출을 서킷 브레이커와 헤지 요청으로 감싼다.
+ * <ul>
+ *     <li>서킷이 열려 있으면 PG 를 기다리지 않고 바로 {@link PaymentUnavailableException} 을 던진다.</li>
+ *     <li>응답이 최근 p95 보다 늦으면 같은 멱등 키로 한 번 더 보내고 먼저 성공한 응답을 쓴다.
+ *     PG 가 멱등 키로 중복 승인을 막아 줄 때({@link PaymentGateway#deduplicates()})만 헤지한다.</li>
+ *     <li>카드 승인 거절은 PG 장애가 아니므로 서킷 실패로 세지 않는다.</li>
+ *     <li>제한 시간을 넘기면 아직 보내지 않은 요청은 취소한다. 이미 PG 에 간 요청이 뒤늦게 승인되면
+ *     payment.gateway.late.approved 로 세고, 같은 주문을 같은 카드로 다시 결제하면 같은 멱등 키라 다시 승인되지 않는다.</li>
+ * </ul>
+ */
+@Component
+@EnableConfigurationProperties(PaymentResilienceProperties.class)
+class ResilientPaymentExecutor implements DisposableBean {
+
+    private final PaymentBatchDispatcher paymentBatchDispatcher;
+    private final PaymentResilienceProperties properties;
+    private final PaymentCircuitBreaker circuitBreaker;
+    private final PaymentLatencyTracker latencyTracker = new PaymentLatencyTracker(1024, 20);
+    private final ScheduledExecutorService hedgeScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "payment-hedge");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter rejectedCalls;
+    private final Counter hedgesSent;
+    private final Counter hedgesWon;
+    private final Counter lateApprovals;
+    private final Timer gatewayLatency;
+
+    ResilientPaymentExecutor(
+            final PaymentBatchDispatcher paymentBatchDispatcher,
+            final PaymentResilienceProperties properties,
+            final MeterRegistry meterRegistry) {
+        this.paymentBatchDispatcher = paymentBatchDispatcher;
+        this.properties = properties;
+        this.circuitBreaker = new PaymentCircuitBreaker(properties);
+
+        Gauge.builder("payment.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                .register(meterRegistry);
+        Gauge.builder("payment.circuit.failure.rate", circuitBreaker, PaymentCircuitBreaker::failureRate)
+                .register(meterRegistry);
+        Gauge.builder("payment.hedge.delay", this, executor -> TimeUnit.NANOSECONDS.toMillis(executor.hedgeDelayNanos()))
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.rejectedCalls = Counter.builder("payment.circuit.rejected").register(meterRegistry);
+        this.hedgesSent = Counter.builder("payment.hedge.sent").register(meterRegistry);
+        this.hedgesWon = Counter.builder("payment.hedge.won").register(meterRegistry);
+        this.lateApprovals = Counter.builder("payment.gateway.late.approved")
+                .description("제한 시간이 지난 뒤 승인된 결제")
+                .register(meterRegistry);
+        this.gatewayLatency = Timer.builder("payment.gateway.latency")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    void pay(final long orderId, final int totalPrice, final String cardNumber) {
+        try {
+            payAsync(orderId, totalPrice, cardNumber).get();
+        } catch (ExecutionException e) {
+            throw (RuntimeException) e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentUnavailableException("결제 처리가 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * {@link #pay} 와 같지만 응답을 기다리지 않는다. 실패하면 {@link PaymentUnavailableException} 이나
+     * {@link PaymentDeclinedException} 으로 완료된다.
+     */
+    CompletableFuture<Void> payAsync(final long orderId, final int totalPrice, final String cardNumber) {
+        if (!circuitBreaker.tryAcquire()) {
+            rejectedCalls.increment();
+            return CompletableFuture.failedFuture(
+                    new PaymentUnavailableException("결제 시스템이 일시적으로 불안정합니다. 잠시 후 다시 시도해 주세요."));
+        }
+
+        final PaymentGatewayRequest request = PaymentGatewayRequest.of(orderId, totalPrice, cardNumber);
+        final long startedAt = System.nanoTime();
+        final HedgedCall call = new HedgedCall(lateApprovals::increment);
+        call.attach(paymentBatchDispatcher.submit(request), false);
+        final ScheduledFuture<?> hedge = scheduleHedge(call, request);
+        return call.result.orTimeout(properties.timeoutMs(), TimeUnit.MILLISECONDS).handle((wonByHedge, error) -> {
+            if (hedge != null) {
+                hedge.cancel(false);
+            }
+            call.cancelPending();
+            if (error == null) {
+                final long elapsed = System.nanoTime() - startedAt;
+                latencyTracker.record(elapsed);
+                gatewayLatency.record(elapsed, TimeUnit.NANOSECONDS);
+                circuitBreaker.onSuccess();
+                if (wonByHedge) {
+                    hedgesWon.increment();
+                }
+                return null;
+            }
+            final Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof TimeoutException) {
+                circuitBreaker.onFailure();
+                throw new PaymentUnavailableException("결제 응답 시간이 초과되었습니다.", cause);
+            }
+            if (cause instanceof PaymentDeclinedException declined) {
+                circuitBreaker.onSuccess();
+                throw declined;
+            }
+            circuitBreaker.onFailure();
+            throw new PaymentUnavailableException("결제 시스템 오류가 발생했습니다.", cause);
+        });
+    }
+
+    private ScheduledFuture<?> scheduleHedge(final HedgedCall call, final PaymentGatewayRequest request) {
+        if (!properties.hedgeEnabled() || !paymentBatchDispatcher.deduplicates()) {
+            return null;
+        }
+        return hedgeScheduler.schedule(() -> {
+            // 서킷이 닫혀 있을 때만 헤지한다. 장애 중에 요청을 두 배로 늘리지 않기 위해서다.
+            if (call.result.isDone() || circuitBreaker.state() != PaymentCircuitBreaker.State.CLOSED) {
+                return;
+            }
+            hedgesSent.increment();
+            call.attach(paymentBatchDispatcher.submit(request), true);
+            if (call.result.isDone()) {
+                call.cancelPending();
+            }
+        }, hedgeDelayNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    long hedgeDelayNanos() {
+        final long p95 = latencyTracker.p95Nanos();
+        final long delay = p95 < 0 ? TimeUnit.MILLISECONDS.toNanos(properties.initialHedgeDelayMs()) : p95;
+        return Math.max(delay, TimeUnit.MILLISECONDS.toNanos(properties.minHedgeDelayMs()));
+    }
+
+    PaymentCircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    @Override
+    public void destroy() {
+        hedgeScheduler.shutdownNow();
+    }
+
+    /**
+     * 원 요청과 헤지 요청 중 먼저 성공한 쪽으로 완료된다. 값은 헤지 요청이 이겼는지 여부다.
+     * 승인 거절은 확정 결과이므로 바로 실패로 완료하고, 그 외 오류는 진행 중인 요청이 모두 실패했을 때만 실패로 완료한다.
+     */
+    private static final class HedgedCall {
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final List<PaymentBatchDispatcher.Submission> attempts = new CopyOnWriteArrayList<>();
+        private final Runnable onLateApproval;
+
+        private HedgedCall(final Runnable onLateApproval) {
+            this.onLateApproval = onLateApproval;
+        }
+
+        private void attach(final PaymentBatchDispatcher.Submission attempt, final boolean hedged) {
+            pending.incrementAndGet();
+            attempts.add(attempt);
+            attempt.whenComplete((ignored, error) -> {
+                if (error == null) {
+                    if (!result.complete(hedged) && result.isCompletedExceptionally()) {
+                        onLateApproval.run();
+                    }
+                } else if (error instanceof PaymentDeclinedException || pending.decrementAndGet() == 0) {
+                    result.completeExceptionally(error);
+                }
+            });
+        }
+
+        /**
+         * 결과가 정해진 뒤 아직 PG 로 보내지 않은 요청을 취소한다. 이미 보낸 요청은 되돌릴 수 없다.
+         */
+        private void cancelPending() {
+            for (final PaymentBatchDispatcher.Submission attempt : attempts) {
+                attempt.withdraw();
+            }
+        }
+    }
+}
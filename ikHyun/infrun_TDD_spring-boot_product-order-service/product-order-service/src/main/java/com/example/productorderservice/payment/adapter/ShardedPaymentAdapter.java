@@ -0,0 +1,58 @@
+package com.example.productorderservice.payment.adapter;
+
+import com.example.productorderservice.order.domain.OrderAlreadyPaidException;
+import com.example.productorderservice.payment.application.port.PaymentPort;
+import com.example.productorderservice.payment.domain.Payment;
+import com.example.productorderservice.payment.domain.PaymentView;
+import com.example.productorderservice.sharding.ShardedStore;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제를 주문과 같은 샤드에 저장한다. 샤드는 주문 ID 에서 바로 구하므로 조회용 라우팅 테이블이 없다.
+ * PG 호출은 JPA 어댑터와 같은 {@link ResilientPaymentExecutor} 를 쓴다.
+ */
+@Component
+@Profile("sharded")
+class ShardedPaymentAdapter implements PaymentPort {
+
+    private final ResilientPaymentExecutor resilientPaymentExecutor;
+    private final ShardedStore shardedStore;
+
+    ShardedPaymentAdapter(final ResilientPaymentExecutor resilientPaymentExecutor, final ShardedStore shardedStore) {
+        this.resilientPaymentExecutor = resilientPaymentExecutor;
+        this.shardedStore = shardedStore;
+    }
+
+    @Override
+    public PaymentView getPaymentView(final Long orderId) {
+        final PaymentView order = shardedStore.findPaymentView(orderId);
+        if (order == null) {
+            throw new IllegalArgumentException("주문이 존재하지 않습니다.");
+        }
+        return order;
+    }
+
+    /**
+     * 여기서는 쓰지 않는다. 결제 완료 표시는 PG 승인 뒤 {@link #save} 에서 결제 행과 함께 짧은 샤드 트랜잭션으로 쓴다.
+     * PG 를 기다리는 동안 샤드 커넥션과 주문 행 잠금을 잡지 않기 위해서다. 같은 주문의 동시 결제는 PG 를 부르기 전에
+     * 재고 예약을 하나만 꺼낼 수 있어서 걸러진다.
+     */
+    @Override
+    public void markPaid(final Long orderId) {
+    }
+
+    @Override
+    public void pay(final Payment payment) {
+        resilientPaymentExecutor.pay(payment.getOrderId(), payment.getPrice(), payment.getCardNumber());
+    }
+
+    @Override
+    public void save(final Payment payment) {
+        new DirectFieldAccessor(payment).setPropertyValue("id", shardedStore.nextPaymentId(payment.getOrderId()));
+        if (!shardedStore.savePaidPayment(payment)) {
+            throw new OrderAlreadyPaidException("이미 결제된 주문입니다.");
+        }
+    }
+}
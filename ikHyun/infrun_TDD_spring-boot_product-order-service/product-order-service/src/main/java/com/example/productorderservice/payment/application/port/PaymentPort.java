@@ -1,12 +1,17 @@
 package com.example.productorderservice.payment.application.port;
 
-import com.example.productorderservice.order.domain.Order;
 import com.example.productorderservice.payment.domain.Payment;
+import com.example.productorderservice.payment.domain.PaymentView;
 
 public interface PaymentPort {
-    Order getOrder(Long orderId);
+    PaymentView getPaymentView(Long orderId);
 
-    void pay(int totalPrice, String cardNumber);
+    void markPaid(Long orderId);
+
+    /**
+     * 같은 주문/카드로 다시 부르면 PG 에 같은 멱등 키로 보낸다.
+     */
+    void pay(Payment payment);
 
     void save(Payment payment);
 }
\ No newline at end of file
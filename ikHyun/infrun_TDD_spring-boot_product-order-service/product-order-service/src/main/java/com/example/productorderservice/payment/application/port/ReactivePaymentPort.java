@@ -0,0 +1,19 @@
+package com.example.productorderservice.payment.application.port;
+
+import com.example.productorderservice.payment.domain.Payment;
+import com.example.productorderservice.payment.domain.PaymentView;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link PaymentPort} 의 논블로킹 버전. reactive 프로필에서 쓴다.
+ */
+public interface ReactivePaymentPort {
+
+    Mono<PaymentView> getPaymentView(Long orderId);
+
+    Mono<Void> markPaid(Long orderId);
+
+    Mono<Void> pay(Payment payment);
+
+    Mono<Payment> save(Payment payment);
+}
@@ -1,8 +1,7 @@
 package com.example.productorderservice.payment.application.service;
 
-import com.example.productorderservice.order.domain.Order;
-import com.example.productorderservice.payment.application.port.PaymentPort;
-import com.example.productorderservice.payment.domain.Payment;
+import com.example.productorderservice.checkout.application.service.OrderPaymentFlow;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -14,23 +13,19 @@ import org.springframework.transaction.annotation.Transactional;
 
 @RestController
 @RequestMapping("/payments")
+@Profile("!reactive")
 public class PaymentService {
 
-    private PaymentPort paymentPort;
+    private final OrderPaymentFlow orderPaymentFlow;
 
-    public PaymentService(PaymentPort paymentPort) {
-        this.paymentPort = paymentPort;
+    public PaymentService(OrderPaymentFlow orderPaymentFlow) {
+        this.orderPaymentFlow = orderPaymentFlow;
     }
 
     @PostMapping
     @Transactional
     public ResponseEntity<Void> payment(@RequestBody final PaymentRequest request) {
-        Order order = paymentPort.getOrder(request.orderId());
-
-        final Payment payment = new Payment(order, request.cardNumber());
-
-        paymentPort.pay(payment.getPrice(), payment.getCardNumber());
-        paymentPort.save(payment);
+        orderPaymentFlow.pay(request.orderId(), request.cardNumber());
         return ResponseEntity.status(HttpStatus.OK).build();
     }
 }
@@ -0,0 +1,54 @@
+package com.example.productorderservice.payment.application.service;
+
+import com.example.productorderservice.inventory.application.port.ReactiveInventoryPort;
+import com.example.productorderservice.order.domain.OrderAlreadyPaidException;
+import com.example.productorderservice.order.domain.OrderStatus;
+import com.example.productorderservice.payment.application.port.ReactivePaymentPort;
+import com.example.productorderservice.payment.domain.Payment;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link PaymentService} 와 같은 API 를 WebFlux 와 R2DBC 로 처리한다.
+ */
+@RestController
+@RequestMapping("/payments")
+@Profile("reactive")
+public class ReactivePaymentService {
+
+    private final ReactivePaymentPort paymentPort;
+    private final ReactiveInventoryPort inventoryPort;
+    private final TransactionalOperator transactionalOperator;
+
+    ReactivePaymentService(final ReactivePaymentPort paymentPort, final ReactiveInventoryPort inventoryPort, final TransactionalOperator transactionalOperator) {
+        this.paymentPort = paymentPort;
+        this.inventoryPort = inventoryPort;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<Void>> payment(@RequestBody final PaymentRequest request) {
+        return paymentPort.getPaymentView(request.orderId())
+                .flatMap(order -> {
+                    if (order.status() != OrderStatus.ORDERED) {
+                        return Mono.error(new OrderAlreadyPaidException("이미 결제된 주문입니다."));
+                    }
+                    final Payment payment = new Payment(order, request.cardNumber());
+                    // 예약을 먼저 꺼내 두므로 만료된 예약은 PG 를 부르기 전에 실패한다.
+                    // PG 가 거절하면 롤백되면서 주문은 결제 대기로, 재고 예약은 그대로 돌아가 다시 결제할 수 있다.
+                    return paymentPort.markPaid(order.orderId())
+                            .then(inventoryPort.confirm(order.orderId()))
+                            .then(paymentPort.pay(payment))
+                            .then(paymentPort.save(payment));
+                })
+                .as(transactionalOperator::transactional)
+                .map(payment -> ResponseEntity.status(HttpStatus.OK).build());
+    }
+}
@@ -1,6 +1,5 @@
 package com.example.productorderservice.payment.domain;
 
-import com.example.productorderservice.order.domain.Order;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,20 +17,19 @@ public class Payment {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @OneToOne
-    private  Order order;
+    @Column(name = "order_id")
+    private Long orderId;
+
+    private int price;
 
     private  String cardNumber;
 
-    public Payment(final Order order, final String cardNumber) {
+    public Payment(final PaymentView order, final String cardNumber) {
         Assert.notNull(order, "주문은 필수입니다.");
         Assert.hasText(cardNumber, "카드 번호는 필수입니다.");
-        this.order = order;
+        this.orderId = order.orderId();
+        this.price = order.totalPrice();
         this.cardNumber = cardNumber;
     }
 
-    public int getPrice(){
-        return order.getTotalPrice();
-    }
-
 }
@@ -0,0 +1,12 @@
+package com.example.productorderservice.payment.domain;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PAYMENT_REQUIRED)
+public class PaymentDeclinedException extends IllegalStateException {
+
+    public PaymentDeclinedException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.productorderservice.payment.domain;
+
+import com.example.productorderservice.order.domain.OrderStatus;
+
+/**
+ * 결제에 필요한 주문 정보만 담은 조회 결과. 주문/상품 엔티티를 영속성 컨텍스트에 올리지 않는다.
+ */
+public record PaymentView(Long orderId, Long productId, int quantity, int totalPrice, OrderStatus status) {
+}
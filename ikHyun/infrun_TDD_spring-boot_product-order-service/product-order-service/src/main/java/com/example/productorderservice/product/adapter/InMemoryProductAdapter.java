@@ -0,0 +1,76 @@
+package com.example.productorderservice.product.adapter;
+
+import com.example.productorderservice.inmemory.InMemoryStore;
+import com.example.productorderservice.product.application.port.ProductPort;
+import com.example.productorderservice.product.domain.Product;
+import com.example.productorderservice.support.TransactionHooks;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품을 DB 대신 {@link InMemoryStore} 에 둔다. 상품명 검색은 JPA 어댑터와 같은 {@link ProductNameIndex} 를 쓴다.
+ */
+@Component
+@Profile("in-memory")
+class InMemoryProductAdapter implements ProductPort {
+
+    private final InMemoryStore inMemoryStore;
+    private final ProductNameIndex productNameIndex;
+
+    InMemoryProductAdapter(final InMemoryStore inMemoryStore, final ProductNameIndex productNameIndex) {
+        this.inMemoryStore = inMemoryStore;
+        this.productNameIndex = productNameIndex;
+    }
+
+    @Override
+    public void save(final Product product) {
+        inMemoryStore.saveProduct(product);
+        final long productId = product.getId();
+        final String name = product.getName();
+        TransactionHooks.afterCommit(() -> productNameIndex.index(productId, name));
+    }
+
+    @Override
+    public void saveAll(final List<Product> products) {
+        products.forEach(this::save);
+    }
+
+    @Override
+    public Product getProduct(final Long productId) {
+        final Product product = inMemoryStore.findProduct(productId);
+        if (product == null) {
+            throw new IllegalArgumentException("상품이 존재하지 않습니다.");
+        }
+        return product;
+    }
+
+    @Override
+    public List<Product> findProducts(final String query, final int minPrice, final int maxPrice, final long after, final int size) {
+        if (query == null || query.isBlank()) {
+            return inMemoryStore.findProducts(after, size, product -> product.getPrice() >= minPrice && product.getPrice() <= maxPrice);
+        }
+
+        final List<Product> products = new ArrayList<>(size);
+        long cursor = after;
+        while (products.size() < size) {
+            final List<Long> candidateIds = productNameIndex.search(query, cursor, size * 2);
+            if (candidateIds.isEmpty()) {
+                break;
+            }
+            for (final Long candidateId : candidateIds) {
+                final Product product = inMemoryStore.findProduct(candidateId);
+                if (product != null && product.getPrice() >= minPrice && product.getPrice() <= maxPrice) {
+                    products.add(product);
+                    if (products.size() == size) {
+                        break;
+                    }
+                }
+            }
+            cursor = candidateIds.get(candidateIds.size() - 1);
+        }
+        return products;
+    }
+}
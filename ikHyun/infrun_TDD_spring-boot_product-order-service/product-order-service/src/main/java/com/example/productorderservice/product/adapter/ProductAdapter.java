@@ -1,21 +1,91 @@
 package com.example.productorderservice.product.adapter;
 
 import com.example.productorderservice.product.application.port.ProductPort;
+import com.example.productorderservice.product.domain.DiscountRulesConverter;
 import com.example.productorderservice.product.domain.Product;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
 
 @Component
+@Profile("!in-memory")
 public class ProductAdapter implements ProductPort {
 
+    private static final int INDEX_REBUILD_CHUNK_SIZE = 10_000;
+    private static final String INSERT_PRODUCT = "INSERT INTO products (name, price, discount_policy, discount_rules, stock, version)"
+            + " VALUES (?, ?, ?, ?, ?, 0)";
+    private static final DiscountRulesConverter DISCOUNT_RULES = new DiscountRulesConverter();
+
     private final ProductRepository productRepository;
+    private final ProductNameIndex productNameIndex;
+    private final JdbcTemplate jdbcTemplate;
 
-    ProductAdapter(final ProductRepository productRepository) {
+    ProductAdapter(final ProductRepository productRepository, final ProductNameIndex productNameIndex, final JdbcTemplate jdbcTemplate) {
         this.productRepository = productRepository;
+        this.productNameIndex = productNameIndex;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
     public void save(Product product) {
         productRepository.save(product);
+        indexAfterCommit(product.getId(), product.getName());
+    }
+
+    /**
+     * JPA 는 IDENTITY 키 때문에 INSERT 를 배치로 묶지 못하므로 JDBC 배치 한 번으로 넣고 생성된 키를 받아 엔티티에 채운다.
+     * 컬럼 규칙은 JPA 매핑과 같다.
+     */
+    @Override
+    public void saveAll(final List<Product> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_PRODUCT, new String[]{"id"})) {
+                for (final Product product : products) {
+                    final String discountRules = DISCOUNT_RULES.convertToDatabaseColumn(product.getDiscountRules());
+                    insert.setString(1, product.getName());
+                    insert.setInt(2, product.getPrice());
+                    insert.setInt(3, product.getDiscountPolicy().ordinal());
+                    if (discountRules == null) {
+                        insert.setNull(4, Types.VARCHAR);
+                    } else {
+                        insert.setString(4, discountRules);
+                    }
+                    insert.setInt(5, product.getStock());
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    for (final Product product : products) {
+                        if (!keys.next()) {
+                            throw new IllegalStateException("생성된 상품 ID 를 모두 받지 못했습니다.");
+                        }
+                        final DirectFieldAccessor fields = new DirectFieldAccessor(product);
+                        fields.setPropertyValue("id", keys.getLong(1));
+                        fields.setPropertyValue("version", 0L);
+                    }
+                }
+            }
+            return null;
+        });
+        for (final Product product : products) {
+            indexAfterCommit(product.getId(), product.getName());
+        }
     }
 
     @Override
@@ -23,4 +93,56 @@ public class ProductAdapter implements ProductPort {
         return productRepository.findById(productId)
                 .orElseThrow(() -> new IllegalArgumentException("상품이 존재하지 않습니다."));
     }
+
+    @Override
+    public List<Product> findProducts(final String query, final int minPrice, final int maxPrice, final long after, final int size) {
+        if (query == null || query.isBlank()) {
+            return productRepository.findPage(after, minPrice, maxPrice, PageRequest.ofSize(size));
+        }
+
+        // 가격 조건은 DB 에서 거르므로, 모자라면 다음 후보를 이어서 가져온다.
+        final List<Product> products = new ArrayList<>(size);
+        long cursor = after;
+        while (products.size() < size) {
+            final List<Long> candidateIds = productNameIndex.search(query, cursor, size * 2);
+            if (candidateIds.isEmpty()) {
+                break;
+            }
+            for (final Product product : productRepository.findAllByIdInAndPriceBetween(candidateIds, minPrice, maxPrice)) {
+                if (products.size() == size) {
+                    break;
+                }
+                products.add(product);
+            }
+            cursor = candidateIds.get(candidateIds.size() - 1);
+        }
+        return products;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildNameIndex() {
+        productNameIndex.clear();
+        long after = 0;
+        List<ProductName> chunk;
+        do {
+            chunk = productRepository.findNamesAfter(after, PageRequest.ofSize(INDEX_REBUILD_CHUNK_SIZE));
+            for (final ProductName productName : chunk) {
+                productNameIndex.index(productName.id(), productName.name());
+                after = productName.id();
+            }
+        } while (chunk.size() == INDEX_REBUILD_CHUNK_SIZE);
+    }
+
+    private void indexAfterCommit(final Long productId, final String name) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            productNameIndex.index(productId, name);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                productNameIndex.index(productId, name);
+            }
+        });
+    }
 }
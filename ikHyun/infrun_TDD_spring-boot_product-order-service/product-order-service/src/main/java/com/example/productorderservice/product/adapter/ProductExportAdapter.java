@@ -0,0 +1,46 @@
+package com.example.productorderservice.product.adapter;
+
+import com.example.productorderservice.product.application.port.ProductExportPort;
+import com.example.productorderservice.product.domain.DiscountPolicy;
+import com.example.productorderservice.product.domain.DiscountRulesConverter;
+import com.example.productorderservice.product.domain.ProductExport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.function.Consumer;
+
+/**
+ * products 테이블을 JDBC 커서로 앞에서부터 한 번 훑는다. 드라이버가 fetch-size 만큼씩 가져오고,
+ * 엔티티나 영속성 컨텍스트를 거치지 않으므로 테이블 크기와 관계없이 메모리 사용량이 일정하다.
+ */
+@Component
+@Profile("!in-memory")
+class ProductExportAdapter implements ProductExportPort {
+
+    private static final DiscountRulesConverter DISCOUNT_RULES = new DiscountRulesConverter();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ProductExportAdapter(final DataSource dataSource, @Value("${export.fetch-size:1000}") final int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    @Override
+    public void forEachProduct(final Consumer<ProductExport> action) {
+        jdbcTemplate.query("SELECT id, name, price, discount_policy, discount_rules, stock, version FROM products ORDER BY id",
+                resultSet -> {
+                    action.accept(new ProductExport(
+                            resultSet.getLong("id"),
+                            resultSet.getString("name"),
+                            resultSet.getInt("price"),
+                            DiscountPolicy.values()[resultSet.getInt("discount_policy")],
+                            DISCOUNT_RULES.convertToEntityAttribute(resultSet.getString("discount_rules")),
+                            resultSet.getInt("stock"),
+                            resultSet.getLong("version")));
+                });
+    }
+}
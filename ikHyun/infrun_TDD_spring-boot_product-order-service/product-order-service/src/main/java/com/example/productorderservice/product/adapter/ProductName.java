@@ -0,0 +1,4 @@
+package com.example.productorderservice.product.adapter;
+
+public record ProductName(Long id, String name) {
+}
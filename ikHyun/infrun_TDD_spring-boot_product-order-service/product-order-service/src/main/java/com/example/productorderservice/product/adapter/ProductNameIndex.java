@@ -0,0 +1,148 @@
+package com.example.productorderservice.product.adapter;
+
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품명 검색용 메모리 역색인. 상품명의 1-gram, 2-gram 토큰마다 상품 ID 비트맵을 둔다.
+ * 검색어가 한 글자면 1-gram, 두 글자 이상이면 2-gram 비트맵을 교집합한 뒤 실제 상품명에 검색어가 들어 있는지 한 번 더 확인한다.
+ */
+@Component
+public class ProductNameIndex {
+
+    private final Map<String, RoaringBitmap> postings = new HashMap<>();
+    private final Map<Integer, String> names = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void index(final long productId, final String name) {
+        final int id = Math.toIntExact(productId);
+        final String normalized = normalize(name);
+        lock.writeLock().lock();
+        try {
+            final String previous = names.put(id, normalized);
+            if (previous != null) {
+                for (final String token : tokens(previous)) {
+                    final RoaringBitmap ids = postings.get(token);
+                    ids.remove(id);
+                    if (ids.isEmpty()) {
+                        postings.remove(token);
+                    }
+                }
+            }
+            for (final String token : tokens(normalized)) {
+                postings.computeIfAbsent(token, ignored -> new RoaringBitmap()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            names.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품명에 query 가 들어 있는 상품 중 ID 가 after 보다 큰 것을 ID 오름차순으로 최대 limit 개 돌려준다.
+     */
+    public List<Long> search(final String query, final long after, final int limit) {
+        final String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0 || after >= Integer.MAX_VALUE) {
+            return List.of();
+        }
+        final List<String> queryTokens = new ArrayList<>(queryTokens(normalized));
+
+        lock.readLock().lock();
+        try {
+            final List<RoaringBitmap> bitmaps = new ArrayList<>(queryTokens.size());
+            for (final String token : queryTokens) {
+                final RoaringBitmap ids = postings.get(token);
+                if (ids == null) {
+                    return List.of();
+                }
+                bitmaps.add(ids);
+            }
+            bitmaps.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+
+            final RoaringBitmap smallest = bitmaps.get(0);
+            final PeekableIntIterator candidates = smallest.getIntIterator();
+            if (after >= 0) {
+                candidates.advanceIfNeeded((int) after + 1);
+            }
+            final List<Long> found = new ArrayList<>(Math.min(limit, smallest.getCardinality()));
+            while (candidates.hasNext() && found.size() < limit) {
+                final int id = candidates.next();
+                if (!containsInAll(bitmaps, id)) {
+                    continue;
+                }
+                if (normalized.length() <= 2 || names.get(id).contains(normalized)) {
+                    found.add((long) id);
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean containsInAll(final List<RoaringBitmap> bitmaps, final int id) {
+        for (int i = 1; i < bitmaps.size(); i++) {
+            if (!bitmaps.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> tokens(final String normalized) {
+        final Set<String> tokens = new HashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            tokens.add(normalized.substring(i, i + 1));
+            if (i + 2 <= normalized.length()) {
+                tokens.add(normalized.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    private static Set<String> queryTokens(final String normalized) {
+        if (normalized.length() == 1) {
+            return Set.of(normalized);
+        }
+        final Set<String> tokens = new HashSet<>();
+        for (int i = 0; i + 2 <= normalized.length(); i++) {
+            tokens.add(normalized.substring(i, i + 2));
+        }
+        return tokens;
+    }
+
+    private static String normalize(final String text) {
+        return text == null ? "" : text.strip().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.productorderservice.product.adapter;
+
+import com.example.productorderservice.product.domain.DiscountPolicy;
+import com.example.productorderservice.product.domain.DiscountRulesConverter;
+import com.example.productorderservice.product.domain.Product;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * {@link ProductRepository} 와 같은 products 테이블을 R2DBC 로 읽고 쓴다.
+ * 컬럼 규칙(할인 정책은 ordinal, 할인 규칙은 JSON, stock 은 등록 때만 쓰기, @Version 증가)은 JPA 매핑과 같게 맞춘다.
+ */
+@Component
+@Profile("reactive")
+public class ProductR2dbcRepository {
+
+    private static final String COLUMNS = "id, name, price, discount_policy, discount_rules, stock, version";
+    private static final DiscountRulesConverter DISCOUNT_RULES = new DiscountRulesConverter();
+
+    private final DatabaseClient databaseClient;
+
+    ProductR2dbcRepository(final DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<Product> findById(final Long productId) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM products WHERE id = :id")
+                .bind("id", productId)
+                .map(ProductR2dbcRepository::toProduct)
+                .one();
+    }
+
+    public Flux<Product> findPage(final long after, final int minPrice, final int maxPrice, final int size) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM products"
+                        + " WHERE id > :after AND price BETWEEN :minPrice AND :maxPrice ORDER BY id LIMIT :size")
+                .bind("after", after)
+                .bind("minPrice", minPrice)
+                .bind("maxPrice", maxPrice)
+                .bind("size", size)
+                .map(ProductR2dbcRepository::toProduct)
+                .all();
+    }
+
+    public Flux<Product> findAllByIdInAndPriceBetween(final Collection<Long> ids, final int minPrice, final int maxPrice) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM products"
+                        + " WHERE id IN (:ids) AND price BETWEEN :minPrice AND :maxPrice ORDER BY id")
+                .bind("ids", ids)
+                .bind("minPrice", minPrice)
+                .bind("maxPrice", maxPrice)
+                .map(ProductR2dbcRepository::toProduct)
+                .all();
+    }
+
+    public Mono<Product> insert(final Product product) {
+        return bindColumns(databaseClient.sql("INSERT INTO products (name, price, discount_policy, discount_rules, stock, version)"
+                        + " VALUES (:name, :price, :discountPolicy, :discountRules, :stock, 0)"), product)
+                .bind("stock", product.getStock())
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .map(productId -> {
+                    final DirectFieldAccessor fields = new DirectFieldAccessor(product);
+                    fields.setPropertyValue("id", productId);
+                    fields.setPropertyValue("version", 0L);
+                    return product;
+                });
+    }
+
+    /**
+     * 읽었을 때와 버전이 같을 때만 고친다. 그 사이 다른 수정이 있었으면 JPA 와 같은 예외로 실패한다.
+     */
+    public Mono<Product> update(final Product product) {
+        final Long version = product.getVersion();
+        return bindColumns(databaseClient.sql("UPDATE products SET name = :name, price = :price, discount_policy = :discountPolicy,"
+                        + " discount_rules = :discountRules, version = version + 1 WHERE id = :id AND version = :version"), product)
+                .bind("id", product.getId())
+                .bind("version", version)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(updated -> {
+                    if (updated == 0) {
+                        return Mono.error(new ObjectOptimisticLockingFailureException(Product.class, product.getId()));
+                    }
+                    new DirectFieldAccessor(product).setPropertyValue("version", version + 1);
+                    return Mono.just(product);
+                });
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindColumns(final DatabaseClient.GenericExecuteSpec spec, final Product product) {
+        final String discountRules = DISCOUNT_RULES.convertToDatabaseColumn(product.getDiscountRules());
+        final DatabaseClient.GenericExecuteSpec bound = spec
+                .bind("name", product.getName())
+                .bind("price", product.getPrice())
+                .bind("discountPolicy", product.getDiscountPolicy().ordinal());
+        return discountRules == null ? bound.bindNull("discountRules", String.class) : bound.bind("discountRules", discountRules);
+    }
+
+    private static Product toProduct(final Row row) {
+        final Product product = BeanUtils.instantiateClass(Product.class);
+        final DirectFieldAccessor fields = new DirectFieldAccessor(product);
+        fields.setPropertyValue("id", row.get("id", Long.class));
+        fields.setPropertyValue("name", row.get("name", String.class));
+        fields.setPropertyValue("price", row.get("price", Integer.class));
+        fields.setPropertyValue("discountPolicy", DiscountPolicy.values()[row.get("discount_policy", Integer.class)]);
+        fields.setPropertyValue("discountRules", DISCOUNT_RULES.convertToEntityAttribute(row.get("discount_rules", String.class)));
+        fields.setPropertyValue("stock", row.get("stock", Integer.class));
+        fields.setPropertyValue("version", row.get("version", Long.class));
+        return product;
+    }
+}
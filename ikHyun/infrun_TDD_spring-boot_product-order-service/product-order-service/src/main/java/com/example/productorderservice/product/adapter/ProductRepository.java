@@ -1,7 +1,22 @@
 package com.example.productorderservice.product.adapter;
 
 import com.example.productorderservice.product.domain.Product;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
+
+    @Query("select p from Product p where p.id > :after and p.price between :minPrice and :maxPrice order by p.id")
+    List<Product> findPage(@Param("after") long after, @Param("minPrice") int minPrice, @Param("maxPrice") int maxPrice, Pageable pageable);
+
+    @Query("select p from Product p where p.id in :ids and p.price between :minPrice and :maxPrice order by p.id")
+    List<Product> findAllByIdInAndPriceBetween(@Param("ids") Collection<Long> ids, @Param("minPrice") int minPrice, @Param("maxPrice") int maxPrice);
+
+    @Query("select new com.example.productorderservice.product.adapter.ProductName(p.id, p.name) from Product p where p.id > :after order by p.id")
+    List<ProductName> findNamesAfter(@Param("after") long after, Pageable pageable);
 }
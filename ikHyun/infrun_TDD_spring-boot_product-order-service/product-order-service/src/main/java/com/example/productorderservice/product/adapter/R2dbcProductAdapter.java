@@ -0,0 +1,70 @@
+package com.example.productorderservice.product.adapter;
+
+import com.example.productorderservice.product.application.port.ReactiveProductPort;
+import com.example.productorderservice.product.domain.Product;
+import com.example.productorderservice.support.ReactiveTransactionHooks;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 상품명 검색은 {@link ProductAdapter} 와 같은 {@link ProductNameIndex} 를 쓴다. 시작할 때 색인을 채우는 것도 ProductAdapter 가 한다.
+ */
+@Component
+@Profile("reactive")
+class R2dbcProductAdapter implements ReactiveProductPort {
+
+    private final ProductR2dbcRepository productR2dbcRepository;
+    private final ProductNameIndex productNameIndex;
+
+    R2dbcProductAdapter(final ProductR2dbcRepository productR2dbcRepository, final ProductNameIndex productNameIndex) {
+        this.productR2dbcRepository = productR2dbcRepository;
+        this.productNameIndex = productNameIndex;
+    }
+
+    @Override
+    public Mono<Product> save(final Product product) {
+        final Mono<Product> saved = product.getId() == null
+                ? productR2dbcRepository.insert(product)
+                : productR2dbcRepository.update(product);
+        return saved.flatMap(it -> {
+            final long productId = it.getId();
+            final String name = it.getName();
+            return ReactiveTransactionHooks.afterCommit(() -> productNameIndex.index(productId, name)).thenReturn(it);
+        });
+    }
+
+    @Override
+    public Mono<Product> getProduct(final Long productId) {
+        return productR2dbcRepository.findById(productId)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("상품이 존재하지 않습니다.")));
+    }
+
+    @Override
+    public Flux<Product> findProducts(final String query, final int minPrice, final int maxPrice, final long after, final int size) {
+        if (query == null || query.isBlank()) {
+            return productR2dbcRepository.findPage(after, minPrice, maxPrice, size);
+        }
+        return searchByName(query, minPrice, maxPrice, after, size, size);
+    }
+
+    /**
+     * 가격 조건은 DB 에서 거르므로, 모자라면 다음 후보를 이어서 가져온다.
+     */
+    private Flux<Product> searchByName(final String query, final int minPrice, final int maxPrice, final long cursor, final int size, final int remaining) {
+        final List<Long> candidateIds = productNameIndex.search(query, cursor, size * 2);
+        if (candidateIds.isEmpty()) {
+            return Flux.empty();
+        }
+        final long nextCursor = candidateIds.get(candidateIds.size() - 1);
+        return productR2dbcRepository.findAllByIdInAndPriceBetween(candidateIds, minPrice, maxPrice)
+                .take(remaining)
+                .collectList()
+                .flatMapMany(found -> found.size() == remaining
+                        ? Flux.fromIterable(found)
+                        : Flux.fromIterable(found).concatWith(searchByName(query, minPrice, maxPrice, nextCursor, size, remaining - found.size())));
+    }
+}
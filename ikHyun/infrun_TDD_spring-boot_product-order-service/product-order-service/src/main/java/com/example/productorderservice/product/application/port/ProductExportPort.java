@@ -0,0 +1,13 @@
+package com.example.productorderservice.product.application.port;
+
+import com.example.productorderservice.product.domain.ProductExport;
+
+import java.util.function.Consumer;
+
+public interface ProductExportPort {
+
+    /**
+     * 모든 상품을 ID 순으로 한 건씩 action 에 넘긴다. 전체를 메모리에 올리지 않는다.
+     */
+    void forEachProduct(Consumer<ProductExport> action);
+}
@@ -2,8 +2,20 @@ package com.example.productorderservice.product.application.port;
 
 import com.example.productorderservice.product.domain.Product;
 
+import java.util.List;
+
 public interface ProductPort {
     void save(final Product product);
 
+    /**
+     * 여러 상품을 한 번에 저장하고 ID 를 채운다. 대량 등록에 쓴다.
+     */
+    void saveAll(List<Product> products);
+
     Product getProduct(Long productId);
+
+    /**
+     * ID 가 after 보다 큰 상품을 ID 오름차순으로 최대 size 개 조회한다. query 가 비어 있지 않으면 상품명에 query 가 포함된 상품만 조회한다.
+     */
+    List<Product> findProducts(String query, int minPrice, int maxPrice, long after, int size);
 }
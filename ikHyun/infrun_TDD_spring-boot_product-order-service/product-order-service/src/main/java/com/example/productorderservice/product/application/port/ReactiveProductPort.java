@@ -0,0 +1,23 @@
+package com.example.productorderservice.product.application.port;
+
+import com.example.productorderservice.product.domain.Product;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ProductPort} 의 논블로킹 버전. reactive 프로필에서 쓴다.
+ */
+public interface ReactiveProductPort {
+
+    /**
+     * @return ID 와 버전이 채워진 상품
+     */
+    Mono<Product> save(Product product);
+
+    Mono<Product> getProduct(Long productId);
+
+    /**
+     * ID 가 after 보다 큰 상품을 ID 오름차순으로 최대 size 개 조회한다. query 가 비어 있지 않으면 상품명에 query 가 포함된 상품만 조회한다.
+     */
+    Flux<Product> findProducts(String query, int minPrice, int maxPrice, long after, int size);
+}
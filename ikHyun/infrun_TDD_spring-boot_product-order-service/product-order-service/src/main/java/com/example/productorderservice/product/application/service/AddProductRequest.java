@@ -1,12 +1,21 @@
 package com.example.productorderservice.product.application.service;
 
 import com.example.productorderservice.product.domain.DiscountPolicy;
+import com.example.productorderservice.product.domain.DiscountRule;
 import org.springframework.util.Assert;
 
-public record AddProductRequest(String name, int price, DiscountPolicy discountPolicy) {
+import java.util.List;
+
+public record AddProductRequest(String name, int price, DiscountPolicy discountPolicy, List<DiscountRule> discountRules, int stock) {
     public AddProductRequest {
         Assert.hasText(name, "상품명은 필수입니다.");
         Assert.isTrue(price > 0, "상품 가격은 0보다 커야 합니다.");
         Assert.notNull(discountPolicy, "할인 정책은 필수 입니다.");
+        Assert.isTrue(stock >= 0, "재고는 0 이상이어야 합니다.");
+        discountRules = discountRules == null ? List.of() : List.copyOf(discountRules);
+    }
+
+    public AddProductRequest(final String name, final int price, final DiscountPolicy discountPolicy) {
+        this(name, price, discountPolicy, List.of(), 0);
     }
 }
@@ -0,0 +1,9 @@
+package com.example.productorderservice.product.application.service;
+
+import org.springframework.util.Assert;
+
+public record AddStockRequest(int quantity) {
+    public AddStockRequest {
+        Assert.isTrue(quantity > 0, "입고 수량은 0보다 커야 합니다.");
+    }
+}
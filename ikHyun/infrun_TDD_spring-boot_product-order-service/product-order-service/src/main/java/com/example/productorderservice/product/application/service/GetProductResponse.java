@@ -1,18 +1,24 @@
 package com.example.productorderservice.product.application.service;
 
 import com.example.productorderservice.product.domain.DiscountPolicy;
+import com.example.productorderservice.product.domain.DiscountRule;
 import org.springframework.util.Assert;
 
+import java.util.List;
+
 public record GetProductResponse(
         long id,
         String name,
         int price,
-        DiscountPolicy discountPolicy
+        int discountedPrice,
+        DiscountPolicy discountPolicy,
+        List<DiscountRule> discountRules
 ) {
     public GetProductResponse{
         Assert.notNull(id, "상품 ID는 필수입니다.");
         Assert.hasText(name, "상품명은 필수입니다.");
         Assert.notNull(discountPolicy, "할인 정책은 필수입니다.");
+        Assert.notNull(discountRules, "할인 규칙은 필수입니다.");
     }
 
 }
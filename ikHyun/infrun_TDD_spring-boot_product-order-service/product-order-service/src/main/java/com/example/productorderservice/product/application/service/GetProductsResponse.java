@@ -0,0 +1,14 @@
+package com.example.productorderservice.product.application.service;
+
+import org.springframework.util.Assert;
+
+import java.util.List;
+
+/**
+ * @param nextCursor 다음 페이지 조회 시 after 로 넘길 값. 마지막 페이지면 null
+ */
+public record GetProductsResponse(List<GetProductResponse> products, Long nextCursor) {
+    public GetProductsResponse {
+        Assert.notNull(products, "상품 목록은 필수입니다.");
+    }
+}
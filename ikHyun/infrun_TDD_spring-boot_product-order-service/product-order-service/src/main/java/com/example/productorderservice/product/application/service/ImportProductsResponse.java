@@ -0,0 +1,27 @@
+package com.example.productorderservice.product.application.service;
+
+import java.util.List;
+
+/**
+ * @param imported         저장한 행 수
+ * @param failed           실패한 행 수
+ * @param elapsedMillis    본문을 다 읽고 저장하기까지 걸린 시간
+ * @param rowsPerSecond    처리한 행(성공 + 실패) 기준 처리량
+ * @param errors           실패한 행. 최대 product.import.max-errors 개만 담는다.
+ * @param errorsTruncated  errors 에 담지 못한 실패가 있는지
+ */
+public record ImportProductsResponse(
+        long imported,
+        long failed,
+        long elapsedMillis,
+        long rowsPerSecond,
+        List<RowError> errors,
+        boolean errorsTruncated
+) {
+
+    /**
+     * @param line 본문의 줄 번호(1부터). CSV 는 헤더가 1번 줄이다.
+     */
+    public record RowError(long line, String message) {
+    }
+}
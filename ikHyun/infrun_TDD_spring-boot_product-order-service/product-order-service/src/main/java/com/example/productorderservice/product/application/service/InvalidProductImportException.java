@@ -0,0 +1,15 @@
+package com.example.productorderservice.product.application.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 대량 등록 본문 전체를 읽을 수 없을 때(CSV 헤더가 틀린 경우 등). 행 하나가 틀린 것은 오류 보고로 돌려준다.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidProductImportException extends IllegalArgumentException {
+
+    public InvalidProductImportException(final String message) {
+        super(message);
+    }
+}
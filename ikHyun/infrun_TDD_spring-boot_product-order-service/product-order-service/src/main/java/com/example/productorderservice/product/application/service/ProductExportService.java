@@ -0,0 +1,37 @@
+package com.example.productorderservice.product.application.service;
+
+import com.example.productorderservice.product.application.port.ProductExportPort;
+import com.example.productorderservice.product.domain.ProductExport;
+import com.example.productorderservice.support.NdjsonResponses;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/products")
+@Profile("!reactive & !in-memory")
+public class ProductExportService {
+
+    private final ProductExportPort productExportPort;
+    private final ObjectMapper objectMapper;
+
+    ProductExportService(final ProductExportPort productExportPort, final ObjectMapper objectMapper) {
+        this.productExportPort = productExportPort;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 모든 상품을 ID 순으로 한 줄에 하나씩 내보낸다.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding) {
+        return NdjsonResponses.<ProductExport>stream(objectMapper, acceptEncoding, productExportPort::forEachProduct);
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.productorderservice.product.application.service;
+
+import com.example.productorderservice.product.application.port.ProductPort;
+import com.example.productorderservice.product.domain.Product;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 대량 등록. 본문(NDJSON 또는 CSV)을 한 줄씩 읽어 {@link Product} 생성자와 같은 규칙으로 검사하고,
+ * chunk 단위로 모아 {@link ProductPort#saveAll(List)} 로 한 번에 저장한다. chunk 마다 따로 커밋한다.
+ * 메모리에는 한 줄과 chunk 하나, 최대 max-errors 개의 오류만 올라가므로 본문 크기와 관계없이 일정하다.
+ */
+@RestController
+@RequestMapping("/products")
+@Profile("!reactive")
+public class ProductImportService {
+
+    static final String NDJSON = "application/x-ndjson";
+    static final String CSV = "text/csv";
+
+    private final ProductPort productPort;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader addProductRequestReader;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    ProductImportService(
+            final ProductPort productPort,
+            final PlatformTransactionManager transactionManager,
+            final ObjectMapper objectMapper,
+            @Value("${product.import.chunk-size:1000}") final int chunkSize,
+            @Value("${product.import.max-errors:1000}") final int maxErrors) {
+        Assert.isTrue(chunkSize > 0, "chunk 크기는 0보다 커야 합니다.");
+        Assert.isTrue(maxErrors >= 0, "오류 보고 개수는 0 이상이어야 합니다.");
+        this.productPort = productPort;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.addProductRequestReader = objectMapper.readerFor(AddProductRequest.class);
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+    }
+
+    @PostMapping(value = "/import", consumes = {NDJSON, CSV})
+    public ResponseEntity<ImportProductsResponse> importProducts(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) final String contentType,
+            final InputStream body) throws IOException {
+        final long startedAt = System.nanoTime();
+        final Progress progress = new Progress();
+        final List<Product> chunk = new ArrayList<>(chunkSize);
+        final long[] chunkLines = new long[chunkSize];
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            ProductRowParser parser = null;
+            if (MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType(NDJSON))) {
+                parser = ProductRowParser.ndjson(addProductRequestReader);
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (parser == null) {
+                    parser = ProductRowParser.csv(line);
+                    continue;
+                }
+                try {
+                    final AddProductRequest request = parser.parse(line);
+                    chunkLines[chunk.size()] = lineNumber;
+                    chunk.add(new Product(request.name(), request.price(), request.discountPolicy(), request.discountRules(), request.stock()));
+                } catch (IOException | RuntimeException e) {
+                    progress.fail(lineNumber, messageOf(e));
+                    continue;
+                }
+                if (chunk.size() == chunkSize) {
+                    flush(chunk, chunkLines, progress);
+                }
+            }
+        }
+        flush(chunk, chunkLines, progress);
+        return ResponseEntity.ok(progress.toResponse(System.nanoTime() - startedAt));
+    }
+
+    /**
+     * chunk 를 한 트랜잭션으로 저장한다. DB 가 거절하면 그 chunk 의 행을 모두 실패로 기록하고 다음 chunk 로 넘어간다.
+     */
+    private void flush(final List<Product> chunk, final long[] chunkLines, final Progress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> productPort.saveAll(chunk));
+            progress.imported += chunk.size();
+        } catch (DataAccessException e) {
+            final String message = messageOf(e);
+            for (int i = 0; i < chunk.size(); i++) {
+                progress.fail(chunkLines[i], message);
+            }
+        }
+        chunk.clear();
+    }
+
+    private static String messageOf(final Exception e) {
+        final Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+        if (cause instanceof JsonProcessingException json) {
+            return json.getOriginalMessage();
+        }
+        return cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+    }
+
+    private final class Progress {
+        private long imported;
+        private long failed;
+        private final List<ImportProductsResponse.RowError> errors = new ArrayList<>();
+
+        void fail(final long line, final String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new ImportProductsResponse.RowError(line, message));
+            }
+        }
+
+        ImportProductsResponse toResponse(final long elapsedNanos) {
+            final long rows = imported + failed;
+            final long rowsPerSecond = elapsedNanos == 0 ? rows : rows * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+            return new ImportProductsResponse(imported, failed, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerSecond,
+                    List.copyOf(errors), failed > errors.size());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.productorderservice.product.application.service;
+
+import com.example.productorderservice.product.domain.DiscountPolicy;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 대량 등록 본문의 한 줄을 {@link AddProductRequest} 로 바꾼다. 형식이 틀리면 예외를 던지고, 그 줄만 실패로 기록된다.
+ */
+@FunctionalInterface
+interface ProductRowParser {
+
+    AddProductRequest parse(String line) throws IOException;
+
+    /**
+     * 한 줄에 JSON 객체 하나. 필드는 POST /products 와 같다.
+     */
+    static ProductRowParser ndjson(final ObjectReader addProductRequestReader) {
+        return addProductRequestReader::readValue;
+    }
+
+    /**
+     * 첫 줄은 헤더다. name, price 는 필수이고 discountPolicy(기본 NONE), stock(기본 0) 은 없어도 된다. 나머지 열은 무시한다.
+     * 열 이름은 대소문자와 밑줄을 무시하고 비교한다(discount_policy 도 된다). 할인 규칙은 CSV 로 받지 않는다.
+     */
+    static ProductRowParser csv(final String header) {
+        final List<String> columns = splitCsv(header).stream()
+                .map(column -> column.trim().toLowerCase(Locale.ROOT).replace("_", ""))
+                .toList();
+        final int name = columns.indexOf("name");
+        final int price = columns.indexOf("price");
+        final int discountPolicy = columns.indexOf("discountpolicy");
+        final int stock = columns.indexOf("stock");
+        if (name < 0 || price < 0) {
+            throw new InvalidProductImportException("CSV 헤더에는 name, price 열이 있어야 합니다.");
+        }
+        return line -> {
+            final List<String> fields = splitCsv(line);
+            if (fields.size() < columns.size()) {
+                throw new IllegalArgumentException("열 수가 헤더보다 적습니다.");
+            }
+            return new AddProductRequest(
+                    fields.get(name),
+                    Integer.parseInt(fields.get(price).trim()),
+                    discountPolicy < 0 || fields.get(discountPolicy).isBlank()
+                            ? DiscountPolicy.NONE
+                            : DiscountPolicy.valueOf(fields.get(discountPolicy).trim()),
+                    List.of(),
+                    stock < 0 || fields.get(stock).isBlank() ? 0 : Integer.parseInt(fields.get(stock).trim()));
+        };
+    }
+
+    /**
+     * 큰따옴표로 감싼 필드와 그 안의 "" 를 처리한다. 필드 안의 줄바꿈은 지원하지 않는다.
+     */
+    private static List<String> splitCsv(final String line) {
+        final List<String> fields = new ArrayList<>();
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -1,54 +1,136 @@
 package com.example.productorderservice.product.application.service;
 
+import com.example.productorderservice.inventory.application.port.InventoryPort;
 import com.example.productorderservice.product.application.port.ProductPort;
 import com.example.productorderservice.product.domain.Product;
+import com.example.productorderservice.product.domain.ProductChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+import java.util.List;
+
 @RestController
 @RequestMapping("/products")
+@Profile("!reactive")
 public class ProductService {
     private final ProductPort productPort;
+    private final InventoryPort inventoryPort;
+    private final ProductViewStore productViewStore;
+    private final ApplicationEventPublisher eventPublisher;
 
-    ProductService(final ProductPort productPort) {
+    ProductService(final ProductPort productPort, final InventoryPort inventoryPort,
+                   final ProductViewStore productViewStore, final ApplicationEventPublisher eventPublisher) {
         this.productPort = productPort;
+        this.inventoryPort = inventoryPort;
+        this.productViewStore = productViewStore;
+        this.eventPublisher = eventPublisher;
     }
 
     @PostMapping
     @Transactional
     public ResponseEntity<Void> addProduct(@RequestBody final AddProductRequest request) {
-        final Product product = new Product(request.name(), request.price(), request.discountPolicy());
+        final Product product = new Product(request.name(), request.price(), request.discountPolicy(), request.discountRules(), request.stock());
 
         productPort.save(product);
+        inventoryPort.register(product.getId(), product.getStock());
+        eventPublisher.publishEvent(new ProductChangedEvent(product));
 
-        return ResponseEntity.status(HttpStatus.CREATED).build();
+        return ResponseEntity.created(URI.create("/products/" + product.getId())).build();
     }
 
+    /**
+     * 상품 엔티티 대신 {@link ProductViewStore} 에 미리 만들어 둔 응답을 그대로 돌려준다.
+     */
     @GetMapping("/{productId}")
     public ResponseEntity<GetProductResponse> getProduct(@PathVariable final Long productId){
-        final Product product = productPort.getProduct(productId);
+        final ProductView view = productViewStore.get(productId);
 
-        final GetProductResponse response =  new GetProductResponse(
-                product.getId(),
-                product.getName(),
-                product.getPrice(),
-                product.getDiscountPolicy()
-        );
+        return ResponseEntity.ok()
+                .eTag(view.eTag())
+                .body(view.body());
+    }
+
+    @GetMapping
+    public ResponseEntity<GetProductsResponse> getProducts(final SearchProductsRequest request) {
+        final List<Product> products = productPort.findProducts(
+                request.q(), request.minPrice(), request.maxPrice(), request.after(), request.size());
+
+        final List<GetProductResponse> content = products.stream()
+                .map(ProductService::toResponse)
+                .toList();
+        final Long nextCursor = products.size() < request.size() ? null : products.get(products.size() - 1).getId();
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(new GetProductsResponse(content, nextCursor));
     }
 
     @PatchMapping("{productId}")
     @Transactional
     public ResponseEntity<Void> updateProduct(
             @PathVariable final Long productId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final String ifMatch,
             @RequestBody final UpdateProductRequest request) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            throw new ProductVersionRequiredException("상품 수정에는 If-Match 헤더가 필요합니다.");
+        }
         final Product product = productPort.getProduct(productId);
-        product.update(request.name(), request.price(), request.discountPolicy());
+        if (!matchesVersion(ifMatch, product.getVersion())) {
+            throw new ProductVersionMismatchException("다른 요청이 먼저 상품을 수정했습니다. 다시 조회한 후 수정해 주세요.");
+        }
+        product.update(request.name(), request.price(), request.discountPolicy(), request.discountRules());
 
         productPort.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(product));
         return ResponseEntity.ok().build();
     }
+
+    @PostMapping("/{productId}/stock")
+    public ResponseEntity<Void> addStock(
+            @PathVariable final Long productId,
+            @RequestBody final AddStockRequest request) {
+        productPort.getProduct(productId);
+        inventoryPort.restock(productId, request.quantity());
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 조회 이후 커밋 전까지 다른 수정이 끼어들면 @Version 검사에 걸려 이 예외가 난다.
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Void> handleVersionConflict() {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+    }
+
+    /**
+     * If-Match 는 강한 비교를 쓴다(RFC 7232 3.1). 약한 태그(W/"...")는 버전이 같아도 맞지 않는 것으로 본다.
+     */
+    static boolean matchesVersion(final String ifMatch, final Long version) {
+        for (final String tag : ifMatch.split(",")) {
+            final String trimmed = tag.trim();
+            if (trimmed.equals("*")) {
+                return true;
+            }
+            if (trimmed.equals("\"" + version + "\"")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static GetProductResponse toResponse(final Product product) {
+        return new GetProductResponse(
+                product.getId(),
+                product.getName(),
+                product.getPrice(),
+                product.getDiscountedPrice(),
+                product.getDiscountPolicy(),
+                product.getDiscountRules()
+        );
+    }
 }
@@ -0,0 +1,12 @@
+package com.example.productorderservice.product.application.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class ProductVersionMismatchException extends IllegalStateException {
+
+    public ProductVersionMismatchException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.productorderservice.product.application.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PRECONDITION_REQUIRED)
+public class ProductVersionRequiredException extends IllegalArgumentException {
+
+    public ProductVersionRequiredException(final String message) {
+        super(message);
+    }
+}
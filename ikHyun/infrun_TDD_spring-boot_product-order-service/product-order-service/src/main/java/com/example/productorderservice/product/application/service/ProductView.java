@@ -0,0 +1,71 @@
+package com.example.productorderservice.product.application.service;
+
+import com.example.productorderservice.product.domain.DiscountEvaluator;
+import com.example.productorderservice.product.domain.Product;
+
+/**
+ * GET /products/{id} 응답과 ETag 를 미리 만들어 둔 불변 읽기 모델.
+ * 할인가는 만든 시각 기준이라, 시간대 할인의 경계(validUntil)를 지나면 {@link #at(long)} 으로 다시 만든다.
+ */
+final class ProductView {
+
+    private final long version;
+    private final String eTag;
+    private final GetProductResponse body;
+    private final DiscountEvaluator discountEvaluator;
+    private final long validUntil;
+
+    private ProductView(final long version, final String eTag, final GetProductResponse body,
+                        final DiscountEvaluator discountEvaluator, final long validUntil) {
+        this.version = version;
+        this.eTag = eTag;
+        this.body = body;
+        this.discountEvaluator = discountEvaluator;
+        this.validUntil = validUntil;
+    }
+
+    static ProductView of(final Product product, final long now) {
+        final DiscountEvaluator discountEvaluator = product.discountEvaluator();
+        final GetProductResponse body = new GetProductResponse(
+                product.getId(),
+                product.getName(),
+                product.getPrice(),
+                discountEvaluator.unitPrice(1, now),
+                product.getDiscountPolicy(),
+                product.getDiscountRules()
+        );
+        return new ProductView(product.getVersion(), "\"" + product.getVersion() + "\"", body,
+                discountEvaluator, discountEvaluator.nextChangeAfter(now));
+    }
+
+    /**
+     * now 시각의 할인가로 다시 만든 뷰. 버전과 ETag 는 그대로다.
+     */
+    ProductView at(final long now) {
+        final GetProductResponse refreshed = new GetProductResponse(
+                body.id(),
+                body.name(),
+                body.price(),
+                discountEvaluator.unitPrice(1, now),
+                body.discountPolicy(),
+                body.discountRules()
+        );
+        return new ProductView(version, eTag, refreshed, discountEvaluator, discountEvaluator.nextChangeAfter(now));
+    }
+
+    long version() {
+        return version;
+    }
+
+    String eTag() {
+        return eTag;
+    }
+
+    GetProductResponse body() {
+        return body;
+    }
+
+    long validUntil() {
+        return validUntil;
+    }
+}
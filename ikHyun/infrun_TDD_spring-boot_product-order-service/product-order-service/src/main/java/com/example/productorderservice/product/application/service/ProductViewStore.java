@@ -0,0 +1,63 @@
+package com.example.productorderservice.product.application.service;
+
+import com.example.productorderservice.product.application.port.ProductPort;
+import com.example.productorderservice.product.domain.Product;
+import com.example.productorderservice.product.domain.ProductChangedEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 상품 단건 조회용 읽기 모델. 상품 ID 별로 {@link ProductView} 를 들고 있다.
+ * <ul>
+ *     <li>등록/수정은 {@link ProductChangedEvent} 로 받아 커밋 직후 요청 스레드에서 바로 뷰를 바꾼다. 롤백되면 바꾸지 않는다.</li>
+ *     <li>조회는 맵 조회 한 번으로 끝나고 JPA 를 거치지 않는다. 할인 경계를 지난 뷰만 다시 만든다.</li>
+ *     <li>이벤트 없이 들어온 상품(재시작 직후 등)은 처음 조회할 때 {@link ProductPort} 에서 읽어 채운다.</li>
+ * </ul>
+ * 커밋 순서와 이벤트 처리 순서가 엇갈려도 버전이 낮은 뷰로 덮어쓰지 않는다.
+ */
+@Component
+@Profile("!reactive")
+public class ProductViewStore {
+
+    private final ConcurrentMap<Long, ProductView> views = new ConcurrentHashMap<>();
+    private final ProductPort productPort;
+
+    ProductViewStore(final ProductPort productPort) {
+        this.productPort = productPort;
+    }
+
+    /**
+     * 없는 상품이면 {@link ProductPort#getProduct(Long)} 와 같은 예외로 실패한다.
+     */
+    ProductView get(final Long productId) {
+        final ProductView view = views.get(productId);
+        if (view == null) {
+            return put(productPort.getProduct(productId));
+        }
+        final long now = System.currentTimeMillis();
+        if (now < view.validUntil()) {
+            return view;
+        }
+        final ProductView refreshed = view.at(now);
+        views.replace(productId, view, refreshed);
+        return refreshed;
+    }
+
+    ProductView put(final Product product) {
+        return views.merge(product.getId(), ProductView.of(product, System.currentTimeMillis()),
+                (current, candidate) -> current.version() > candidate.version() ? current : candidate);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(final ProductChangedEvent event) {
+        put(event.product());
+    }
+
+    public void clear() {
+        views.clear();
+    }
+}
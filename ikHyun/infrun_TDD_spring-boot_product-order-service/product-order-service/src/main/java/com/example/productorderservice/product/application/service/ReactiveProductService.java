@@ -0,0 +1,99 @@
+package com.example.productorderservice.product.application.service;
+
+import com.example.productorderservice.inventory.application.port.ReactiveInventoryPort;
+import com.example.productorderservice.product.application.port.ReactiveProductPort;
+import com.example.productorderservice.product.domain.Product;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/**
+ * {@link ProductService} 와 같은 API 를 WebFlux 와 R2DBC 로 처리한다.
+ */
+@RestController
+@RequestMapping("/products")
+@Profile("reactive")
+public class ReactiveProductService {
+    private final ReactiveProductPort productPort;
+    private final ReactiveInventoryPort inventoryPort;
+    private final TransactionalOperator transactionalOperator;
+
+    ReactiveProductService(final ReactiveProductPort productPort, final ReactiveInventoryPort inventoryPort, final TransactionalOperator transactionalOperator) {
+        this.productPort = productPort;
+        this.inventoryPort = inventoryPort;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<Void>> addProduct(@RequestBody final AddProductRequest request) {
+        final Product product = new Product(request.name(), request.price(), request.discountPolicy(), request.discountRules(), request.stock());
+
+        return productPort.save(product)
+                .flatMap(saved -> inventoryPort.register(saved.getId(), saved.getStock()).thenReturn(saved))
+                .as(transactionalOperator::transactional)
+                .map(saved -> ResponseEntity.created(URI.create("/products/" + saved.getId())).build());
+    }
+
+    @GetMapping("/{productId}")
+    public Mono<ResponseEntity<GetProductResponse>> getProduct(@PathVariable final Long productId) {
+        return productPort.getProduct(productId)
+                .map(product -> ResponseEntity.ok()
+                        .eTag(String.valueOf(product.getVersion()))
+                        .body(ProductService.toResponse(product)));
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<GetProductsResponse>> getProducts(final SearchProductsRequest request) {
+        return productPort.findProducts(request.q(), request.minPrice(), request.maxPrice(), request.after(), request.size())
+                .collectList()
+                .map(products -> {
+                    final Long nextCursor = products.size() < request.size() ? null : products.get(products.size() - 1).getId();
+                    return ResponseEntity.ok(new GetProductsResponse(
+                            products.stream().map(ProductService::toResponse).toList(), nextCursor));
+                });
+    }
+
+    @PatchMapping("{productId}")
+    public Mono<ResponseEntity<Void>> updateProduct(
+            @PathVariable final Long productId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final String ifMatch,
+            @RequestBody final UpdateProductRequest request) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            throw new ProductVersionRequiredException("상품 수정에는 If-Match 헤더가 필요합니다.");
+        }
+        return productPort.getProduct(productId)
+                .flatMap(product -> {
+                    if (!ProductService.matchesVersion(ifMatch, product.getVersion())) {
+                        return Mono.error(new ProductVersionMismatchException("다른 요청이 먼저 상품을 수정했습니다. 다시 조회한 후 수정해 주세요."));
+                    }
+                    product.update(request.name(), request.price(), request.discountPolicy(), request.discountRules());
+                    return productPort.save(product);
+                })
+                .as(transactionalOperator::transactional)
+                .map(saved -> ResponseEntity.ok().build());
+    }
+
+    @PostMapping("/{productId}/stock")
+    public Mono<ResponseEntity<Void>> addStock(
+            @PathVariable final Long productId,
+            @RequestBody final AddStockRequest request) {
+        return productPort.getProduct(productId)
+                .flatMap(product -> inventoryPort.restock(productId, request.quantity()).thenReturn(product))
+                .map(product -> ResponseEntity.ok().build());
+    }
+
+    /**
+     * 조회 이후 커밋 전까지 다른 수정이 끼어들면 버전 조건에 걸려 이 예외가 난다.
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Void> handleVersionConflict() {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+    }
+}
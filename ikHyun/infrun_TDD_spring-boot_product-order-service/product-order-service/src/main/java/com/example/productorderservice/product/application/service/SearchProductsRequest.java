@@ -0,0 +1,20 @@
+package com.example.productorderservice.product.application.service;
+
+import org.springframework.util.Assert;
+
+public record SearchProductsRequest(String q, Integer minPrice, Integer maxPrice, Long after, Integer size) {
+
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 100;
+
+    public SearchProductsRequest {
+        minPrice = minPrice == null ? 0 : minPrice;
+        maxPrice = maxPrice == null ? Integer.MAX_VALUE : maxPrice;
+        after = after == null ? 0L : after;
+        size = size == null ? DEFAULT_SIZE : size;
+        Assert.isTrue(minPrice >= 0, "최소 가격은 0 이상이어야 합니다.");
+        Assert.isTrue(minPrice <= maxPrice, "최소 가격은 최대 가격보다 클 수 없습니다.");
+        Assert.isTrue(after >= 0, "조회 기준 ID는 0 이상이어야 합니다.");
+        Assert.isTrue(size > 0 && size <= MAX_SIZE, "조회 개수는 1~" + MAX_SIZE + " 사이여야 합니다.");
+    }
+}
@@ -1,16 +1,28 @@
 package com.example.productorderservice.product.application.service;
 
 import com.example.productorderservice.product.domain.DiscountPolicy;
+import com.example.productorderservice.product.domain.DiscountRule;
 import org.springframework.util.Assert;
 
+import java.util.List;
+
+/**
+ * @param discountRules null 이면(요청에 없으면) 기존 할인 규칙을 그대로 둔다. 빈 목록이면 모두 지운다.
+ */
 public record UpdateProductRequest(
     String name,
     int price,
-    DiscountPolicy discountPolicy
+    DiscountPolicy discountPolicy,
+    List<DiscountRule> discountRules
 ) {
     public UpdateProductRequest{
         Assert.hasText(name, "상품명은 필수입니다.");
         Assert.isTrue(price > 0, "상품 가격은 0보다 커야 합니다.");
         Assert.notNull(discountPolicy, "할인 정책은 필수입니다.");
+        discountRules = discountRules == null ? null : List.copyOf(discountRules);
+    }
+
+    public UpdateProductRequest(final String name, final int price, final DiscountPolicy discountPolicy) {
+        this(name, price, discountPolicy, null);
     }
 }
@@ -0,0 +1,80 @@
+package com.example.productorderservice.product.domain;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 상품 가격과 할인 규칙을 미리 계산해 둔 단가 표.
+ * 시각 경계 x 수량 경계마다 할인된 단가를 저장해 두므로 평가할 때는 표 조회와 곱셈만 하고 객체를 만들지 않는다.
+ * 불변 객체이며 여러 스레드에서 함께 써도 된다.
+ */
+public final class DiscountEvaluator {
+
+    private final long[] timeStarts;
+    private final int[] quantityStarts;
+    private final int[] unitPrices;
+
+    private DiscountEvaluator(final long[] timeStarts, final int[] quantityStarts, final int[] unitPrices) {
+        this.timeStarts = timeStarts;
+        this.quantityStarts = quantityStarts;
+        this.unitPrices = unitPrices;
+    }
+
+    public static DiscountEvaluator compile(final int price, final List<DiscountRule> rules) {
+        final TreeSet<Long> times = new TreeSet<>();
+        final TreeSet<Integer> quantities = new TreeSet<>();
+        times.add(Long.MIN_VALUE);
+        quantities.add(1);
+        for (final DiscountRule rule : rules) {
+            rule.timeBreakpoints(times::add);
+            rule.quantityBreakpoints(quantities::add);
+        }
+
+        final long[] timeStarts = times.stream().mapToLong(Long::longValue).toArray();
+        final int[] quantityStarts = quantities.stream().mapToInt(Integer::intValue).toArray();
+        final int[] unitPrices = new int[timeStarts.length * quantityStarts.length];
+        for (int t = 0; t < timeStarts.length; t++) {
+            for (int q = 0; q < quantityStarts.length; q++) {
+                int unitPrice = price;
+                for (final DiscountRule rule : rules) {
+                    unitPrice = rule.apply(unitPrice, quantityStarts[q], timeStarts[t]);
+                }
+                unitPrices[t * quantityStarts.length + q] = unitPrice;
+            }
+        }
+        return new DiscountEvaluator(timeStarts, quantityStarts, unitPrices);
+    }
+
+    public int unitPrice(final int quantity, final long epochMilli) {
+        return unitPrices[timeIndex(epochMilli) * quantityStarts.length + quantityIndex(quantity)];
+    }
+
+    public int totalPrice(final int quantity, final long epochMilli) {
+        return Math.multiplyExact(unitPrice(quantity, epochMilli), quantity);
+    }
+
+    /**
+     * epochMilli 이후 단가가 처음 바뀔 수 있는 시각. 더 바뀌지 않으면 Long.MAX_VALUE.
+     */
+    public long nextChangeAfter(final long epochMilli) {
+        final int next = timeIndex(epochMilli) + 1;
+        return next < timeStarts.length ? timeStarts[next] : Long.MAX_VALUE;
+    }
+
+    private int timeIndex(final long epochMilli) {
+        if (timeStarts.length == 1) {
+            return 0;
+        }
+        final int found = Arrays.binarySearch(timeStarts, epochMilli);
+        return found >= 0 ? found : -found - 2;
+    }
+
+    private int quantityIndex(final int quantity) {
+        int index = 0;
+        while (index + 1 < quantityStarts.length && quantityStarts[index + 1] <= quantity) {
+            index++;
+        }
+        return index;
+    }
+}
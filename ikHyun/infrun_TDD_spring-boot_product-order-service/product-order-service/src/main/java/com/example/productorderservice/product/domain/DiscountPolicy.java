@@ -1,18 +1,35 @@
 package com.example.productorderservice.product.domain;
 
+import java.util.List;
+
 public enum DiscountPolicy {
     NONE{
         @Override
         public int applyDiscount(int price) {
             return price;
         }
+
+        @Override
+        public List<DiscountRule> toRules() {
+            return List.of();
+        }
     },
     FIX_1000_AMOUNT{
         @Override
         public int applyDiscount(int price) {
             return Math.max(price - 1000, 0);
         }
+
+        @Override
+        public List<DiscountRule> toRules() {
+            return List.of(new FixedAmountDiscount(1000));
+        }
     };
 
     public abstract int applyDiscount(final int price);
+
+    /**
+     * 기존 할인 정책을 할인 규칙으로 표현한다. 상품의 추가 할인 규칙보다 먼저 적용된다.
+     */
+    public abstract List<DiscountRule> toRules();
 }
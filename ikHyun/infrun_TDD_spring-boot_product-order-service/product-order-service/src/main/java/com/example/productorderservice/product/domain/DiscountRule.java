@@ -0,0 +1,36 @@
+package com.example.productorderservice.product.domain;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * 데이터로 표현되는 할인 규칙. 상품에 여러 규칙을 두면 순서대로 겹쳐서(stacked) 적용된다.
+ * 규칙은 상품을 등록/수정할 때 {@link DiscountEvaluator} 로 컴파일되고, 주문 시점에는 직접 평가하지 않는다.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = PercentageDiscount.class, name = "PERCENTAGE"),
+        @JsonSubTypes.Type(value = FixedAmountDiscount.class, name = "FIXED_AMOUNT"),
+        @JsonSubTypes.Type(value = TieredQuantityDiscount.class, name = "TIERED_QUANTITY"),
+        @JsonSubTypes.Type(value = TimeWindowDiscount.class, name = "TIME_WINDOW")
+})
+public sealed interface DiscountRule
+        permits PercentageDiscount, FixedAmountDiscount, TieredQuantityDiscount, TimeWindowDiscount {
+
+    int apply(int unitPrice, int quantity, long epochMilli);
+
+    /**
+     * 결과가 달라지는 최소 주문 수량 경계를 알려준다.
+     */
+    default void quantityBreakpoints(final IntConsumer breakpoints) {
+    }
+
+    /**
+     * 결과가 달라지는 시각(epoch millis) 경계를 알려준다.
+     */
+    default void timeBreakpoints(final LongConsumer breakpoints) {
+    }
+}
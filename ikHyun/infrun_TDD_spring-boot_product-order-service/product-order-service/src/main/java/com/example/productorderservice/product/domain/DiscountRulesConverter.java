@@ -0,0 +1,48 @@
+package com.example.productorderservice.product.domain;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.util.List;
+
+/**
+ * 할인 규칙 목록을 JSON 문자열 컬럼으로 저장한다.
+ */
+@Converter
+public class DiscountRulesConverter implements AttributeConverter<List<DiscountRule>, String> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private static final TypeReference<List<DiscountRule>> RULES = new TypeReference<>() {
+    };
+
+    @Override
+    public String convertToDatabaseColumn(final List<DiscountRule> rules) {
+        if (rules == null || rules.isEmpty()) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.writerFor(RULES).writeValueAsString(rules);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("할인 규칙을 저장할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public List<DiscountRule> convertToEntityAttribute(final String json) {
+        if (json == null || json.isBlank()) {
+            return List.of();
+        }
+        try {
+            return List.copyOf(OBJECT_MAPPER.readValue(json, RULES));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("할인 규칙을 읽을 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.productorderservice.product.domain;
+
+import org.springframework.util.Assert;
+
+public record FixedAmountDiscount(int amount) implements DiscountRule {
+    public FixedAmountDiscount {
+        Assert.isTrue(amount > 0, "할인 금액은 0보다 커야 합니다.");
+    }
+
+    @Override
+    public int apply(final int unitPrice, final int quantity, final long epochMilli) {
+        return Math.max(unitPrice - amount, 0);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.productorderservice.product.domain;
+
+import org.springframework.util.Assert;
+
+public record PercentageDiscount(int percent) implements DiscountRule {
+    public PercentageDiscount {
+        Assert.isTrue(percent > 0 && percent <= 100, "할인율은 1~100 사이여야 합니다.");
+    }
+
+    @Override
+    public int apply(final int unitPrice, final int quantity, final long epochMilli) {
+        return discount(unitPrice, percent);
+    }
+
+    static int discount(final int unitPrice, final int percent) {
+        return (int) ((long) unitPrice * (100 - percent) / 100);
+    }
+}
@@ -6,6 +6,8 @@ import lombok.NoArgsConstructor;
 import org.springframework.util.Assert;
 
 import javax.persistence.*;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
 @Table(name = "products")
@@ -22,27 +24,91 @@ public class Product {
 
     private DiscountPolicy discountPolicy;
 
+    @Convert(converter = DiscountRulesConverter.class)
+    @Column(length = 4000)
+    private List<DiscountRule> discountRules = List.of();
+
+    /**
+     * 등록 시점의 재고. 이후 변경은 재고 예약 엔진이 JDBC 로 직접 반영하므로 JPA 는 이 컬럼을 수정하지 않는다.
+     */
+    @Column(updatable = false)
+    private int stock;
+
+    @Version
+    private Long version;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private DiscountEvaluator discountEvaluator;
+
     public Product(final String name, final int price, final DiscountPolicy discountPolicy) {
+        this(name, price, discountPolicy, List.of());
+    }
+
+    public Product(final String name, final int price, final DiscountPolicy discountPolicy, final List<DiscountRule> discountRules) {
+        this(name, price, discountPolicy, discountRules, 0);
+    }
+
+    public Product(final String name, final int price, final DiscountPolicy discountPolicy, final List<DiscountRule> discountRules, final int stock) {
         Assert.hasText(name, "상품명은 필수입니다.");
         Assert.isTrue(price > 0, "상품 가격은 0보다 커야 합니다.");
         Assert.notNull(discountPolicy, "할인 정책은 필수 입니다.");
+        Assert.notNull(discountRules, "할인 규칙은 null 일 수 없습니다.");
+        Assert.isTrue(stock >= 0, "재고는 0 이상이어야 합니다.");
         this.name = name;
         this.price = price;
         this.discountPolicy = discountPolicy;
-
-
+        this.discountRules = List.copyOf(discountRules);
+        this.stock = stock;
+        compileDiscount();
     }
 
+    /**
+     * 할인 규칙은 그대로 둔다.
+     */
     public void update(String name, int price, DiscountPolicy discountPolicy) {
+        update(name, price, discountPolicy, null);
+    }
+
+    /**
+     * @param discountRules null 이면 기존 할인 규칙을 그대로 둔다.
+     */
+    public void update(String name, int price, DiscountPolicy discountPolicy, List<DiscountRule> discountRules) {
         Assert.hasText(name, "상품며은 필수인니다.");
         Assert.isTrue(price > 0, "상품 가격은 0보다 커야 합니다.");
         Assert.notNull(discountPolicy, "할인 정책은 필수 입니다.");
         this.name = name;
         this.price = price;
         this.discountPolicy = discountPolicy;
+        if (discountRules != null) {
+            this.discountRules = List.copyOf(discountRules);
+        }
+        compileDiscount();
+    }
+
+    public List<DiscountRule> getDiscountRules() {
+        return discountRules == null ? List.of() : discountRules;
     }
 
     public int getDiscountedPrice() {
-        return discountPolicy.applyDiscount(this.price);
+        return discountEvaluator().unitPrice(1, System.currentTimeMillis());
+    }
+
+    public int getTotalPrice(final int quantity, final long epochMilli) {
+        return discountEvaluator().totalPrice(quantity, epochMilli);
+    }
+
+    @PostLoad
+    private void compileDiscount() {
+        final List<DiscountRule> rules = new ArrayList<>(discountPolicy.toRules());
+        rules.addAll(getDiscountRules());
+        this.discountEvaluator = DiscountEvaluator.compile(price, rules);
+    }
+
+    public DiscountEvaluator discountEvaluator() {
+        if (discountEvaluator == null) {
+            compileDiscount();
+        }
+        return discountEvaluator;
     }
 }
@@ -0,0 +1,7 @@
+package com.example.productorderservice.product.domain;
+
+/**
+ * 상품이 등록되거나 수정되었다. 읽기 모델은 이 이벤트로 자기 복사본을 갱신한다.
+ */
+public record ProductChangedEvent(Product product) {
+}
@@ -0,0 +1,9 @@
+package com.example.productorderservice.product.domain;
+
+import java.util.List;
+
+/**
+ * 내보내기용 상품 한 행. 엔티티를 만들지 않고 products 테이블의 컬럼을 그대로 옮긴다.
+ */
+public record ProductExport(long id, String name, int price, DiscountPolicy discountPolicy, List<DiscountRule> discountRules, int stock, long version) {
+}
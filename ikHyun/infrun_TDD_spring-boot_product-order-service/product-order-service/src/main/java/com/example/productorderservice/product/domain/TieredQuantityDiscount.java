@@ -0,0 +1,40 @@
+package com.example.productorderservice.product.domain;
+
+import org.springframework.util.Assert;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * 주문 수량이 minQuantity 이상인 구간 중 가장 높은 구간의 할인율을 적용한다.
+ */
+public record TieredQuantityDiscount(List<Tier> tiers) implements DiscountRule {
+    public TieredQuantityDiscount {
+        Assert.notEmpty(tiers, "수량 구간은 필수입니다.");
+        tiers = tiers.stream().sorted(Comparator.comparingInt(Tier::minQuantity)).toList();
+    }
+
+    @Override
+    public int apply(final int unitPrice, final int quantity, final long epochMilli) {
+        int percent = 0;
+        for (final Tier tier : tiers) {
+            if (quantity >= tier.minQuantity()) {
+                percent = tier.percent();
+            }
+        }
+        return percent == 0 ? unitPrice : PercentageDiscount.discount(unitPrice, percent);
+    }
+
+    @Override
+    public void quantityBreakpoints(final IntConsumer breakpoints) {
+        tiers.forEach(tier -> breakpoints.accept(tier.minQuantity()));
+    }
+
+    public record Tier(int minQuantity, int percent) {
+        public Tier {
+            Assert.isTrue(minQuantity > 0, "구간 최소 수량은 0보다 커야 합니다.");
+            Assert.isTrue(percent > 0 && percent <= 100, "할인율은 1~100 사이여야 합니다.");
+        }
+    }
+}
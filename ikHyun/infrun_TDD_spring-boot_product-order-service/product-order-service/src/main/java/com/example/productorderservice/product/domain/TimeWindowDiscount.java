@@ -0,0 +1,39 @@
+package com.example.productorderservice.product.domain;
+
+import org.springframework.util.Assert;
+
+import java.time.Instant;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * [from, until) 기간에만 내부 규칙(rule)을 적용한다.
+ */
+public record TimeWindowDiscount(Instant from, Instant until, DiscountRule rule) implements DiscountRule {
+    public TimeWindowDiscount {
+        Assert.notNull(from, "할인 시작 시각은 필수입니다.");
+        Assert.notNull(until, "할인 종료 시각은 필수입니다.");
+        Assert.isTrue(from.isBefore(until), "할인 시작 시각은 종료 시각보다 앞서야 합니다.");
+        Assert.notNull(rule, "기간 내 적용할 할인 규칙은 필수입니다.");
+    }
+
+    @Override
+    public int apply(final int unitPrice, final int quantity, final long epochMilli) {
+        if (epochMilli < from.toEpochMilli() || epochMilli >= until.toEpochMilli()) {
+            return unitPrice;
+        }
+        return rule.apply(unitPrice, quantity, epochMilli);
+    }
+
+    @Override
+    public void quantityBreakpoints(final IntConsumer breakpoints) {
+        rule.quantityBreakpoints(breakpoints);
+    }
+
+    @Override
+    public void timeBreakpoints(final LongConsumer breakpoints) {
+        breakpoints.accept(from.toEpochMilli());
+        breakpoints.accept(until.toEpochMilli());
+        rule.timeBreakpoints(breakpoints);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.productorderservice.reactive;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * reactive 프로필의 R2DBC 설정.
+ * 트랜잭션 매니저를 빈으로 등록하면 JPA 트랜잭션 매니저와 겹쳐 @Transactional 이 어느 쪽을 쓸지 정하지 못하므로,
+ * R2DBC 트랜잭션은 {@link TransactionalOperator} 로만 연다.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("reactive")
+public class R2dbcConfiguration {
+
+    @Bean
+    DatabaseClient databaseClient(final ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    @Bean
+    TransactionalOperator transactionalOperator(final ConnectionFactory connectionFactory) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.productorderservice.reconciliation;
+
+public enum MismatchType {
+    /**
+     * 결제 금액과 정산 금액이 다르다.
+     */
+    AMOUNT_MISMATCH,
+    /**
+     * 결제는 있는데 정산 파일에 없다.
+     */
+    MISSING_SETTLEMENT,
+    /**
+     * 정산 파일에는 있는데 결제가 없다.
+     */
+    MISSING_PAYMENT,
+    /**
+     * 정산 파일에 같은 주문이 두 번 이상 있다.
+     */
+    DUPLICATE_SETTLEMENT
+}
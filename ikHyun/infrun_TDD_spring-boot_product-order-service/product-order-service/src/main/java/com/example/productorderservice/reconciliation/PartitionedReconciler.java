@@ -0,0 +1,176 @@
+package com.example.productorderservice.reconciliation;
+
+import com.example.productorderservice.support.LongObjectHashMap;
+import org.springframework.util.Assert;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 결제와 정산 행을 주문 ID 해시로 나눠 파티션 파일에 흘려 쓴 뒤, 파티션을 하나씩 메모리에 올려 맞춰 본다(grace hash join).
+ * 한 번에 메모리에 올라가는 것은 정산 파티션 하나뿐이라 힙 사용량은 전체 건수가 아니라 파티션 크기로 묶인다.
+ * 결제 쪽과 정산 쪽은 각각 한 스레드에서만 쓴다. 두 쪽을 서로 다른 스레드에서 동시에 쓰는 것은 괜찮다.
+ */
+class PartitionedReconciler implements Closeable {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final Path directory;
+    private final int partitions;
+    private final DataOutputStream[] paymentPartitions;
+    private final DataOutputStream[] settlementPartitions;
+    private final long[] paymentCounts;
+    private final long[] settlementCounts;
+
+    PartitionedReconciler(final Path directory, final int partitions) throws IOException {
+        Assert.isTrue(partitions > 0, "파티션 수는 0보다 커야 합니다.");
+        this.directory = Files.createDirectories(directory);
+        this.partitions = partitions;
+        this.paymentPartitions = new DataOutputStream[partitions];
+        this.settlementPartitions = new DataOutputStream[partitions];
+        this.paymentCounts = new long[partitions];
+        this.settlementCounts = new long[partitions];
+        for (int partition = 0; partition < partitions; partition++) {
+            paymentPartitions[partition] = open(paymentFile(partition));
+            settlementPartitions[partition] = open(settlementFile(partition));
+        }
+    }
+
+    void addPayment(final long paymentId, final long orderId, final int amount) throws IOException {
+        final int partition = partition(orderId);
+        final DataOutputStream out = paymentPartitions[partition];
+        out.writeLong(paymentId);
+        out.writeLong(orderId);
+        out.writeInt(amount);
+        paymentCounts[partition]++;
+    }
+
+    void addSettlement(final long orderId, final int amount) throws IOException {
+        final int partition = partition(orderId);
+        final DataOutputStream out = settlementPartitions[partition];
+        out.writeLong(orderId);
+        out.writeInt(amount);
+        settlementCounts[partition]++;
+    }
+
+    /**
+     * 더 이상 add 하지 않는다는 전제로 파티션별로 맞춰 보고 불일치를 report 에 쓴다.
+     */
+    ReconciliationResult reconcile(final ReconciliationReport report) throws IOException {
+        closeAll(paymentPartitions);
+        closeAll(settlementPartitions);
+
+        long payments = 0;
+        long settlements = 0;
+        long matched = 0;
+        final Map<MismatchType, Long> mismatches = new EnumMap<>(MismatchType.class);
+        for (int partition = 0; partition < partitions; partition++) {
+            final LongObjectHashMap<Integer> settled = new LongObjectHashMap<>(Math.toIntExact(settlementCounts[partition]));
+            try (DataInputStream in = input(settlementFile(partition))) {
+                for (long i = 0; i < settlementCounts[partition]; i++) {
+                    final long orderId = in.readLong();
+                    final int amount = in.readInt();
+                    final Integer previous = settled.put(orderId, amount);
+                    if (previous != null) {
+                        report.write(MismatchType.DUPLICATE_SETTLEMENT, orderId, null, null, amount);
+                        mismatches.merge(MismatchType.DUPLICATE_SETTLEMENT, 1L, Long::sum);
+                    }
+                }
+            }
+            settlements += settlementCounts[partition];
+
+            try (DataInputStream in = input(paymentFile(partition))) {
+                for (long i = 0; i < paymentCounts[partition]; i++) {
+                    final long paymentId = in.readLong();
+                    final long orderId = in.readLong();
+                    final int amount = in.readInt();
+                    final Integer settledAmount = settled.remove(orderId);
+                    if (settledAmount == null) {
+                        report.write(MismatchType.MISSING_SETTLEMENT, orderId, paymentId, amount, null);
+                        mismatches.merge(MismatchType.MISSING_SETTLEMENT, 1L, Long::sum);
+                    } else if (settledAmount != amount) {
+                        report.write(MismatchType.AMOUNT_MISMATCH, orderId, paymentId, amount, settledAmount);
+                        mismatches.merge(MismatchType.AMOUNT_MISMATCH, 1L, Long::sum);
+                    } else {
+                        matched++;
+                    }
+                }
+            }
+            payments += paymentCounts[partition];
+
+            final IOException[] failure = new IOException[1];
+            settled.forEach((orderId, amount) -> {
+                if (failure[0] != null) {
+                    return;
+                }
+                try {
+                    report.write(MismatchType.MISSING_PAYMENT, orderId, null, null, amount);
+                } catch (IOException e) {
+                    failure[0] = e;
+                }
+            });
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+            mismatches.merge(MismatchType.MISSING_PAYMENT, (long) settled.size(), Long::sum);
+        }
+        return new ReconciliationResult(payments, settlements, matched, mismatches);
+    }
+
+    /**
+     * 파티션 파일을 모두 지운다.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            closeAll(paymentPartitions);
+            closeAll(settlementPartitions);
+        } finally {
+            FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+
+    private int partition(final long orderId) {
+        // 연속된 주문 ID 가 파티션에 고르게 퍼지도록 섞는다.
+        return Math.floorMod(Long.hashCode(orderId * 0x9e3779b97f4a7c15L), partitions);
+    }
+
+    private Path paymentFile(final int partition) {
+        return directory.resolve("payments-" + partition);
+    }
+
+    private Path settlementFile(final int partition) {
+        return directory.resolve("settlements-" + partition);
+    }
+
+    private static DataOutputStream open(final Path file) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE));
+    }
+
+    private static DataInputStream input(final Path file) throws IOException {
+        return new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE));
+    }
+
+    private static void closeAll(final DataOutputStream[] streams) throws IOException {
+        IOException failure = null;
+        for (final DataOutputStream stream : streams) {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.productorderservice.reconciliation;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 테이블과 PG 정산 파일을 주문 ID 로 대사하고 불일치를 CSV 보고서로 남긴다.
+ * <ul>
+ *     <li>결제는 ID keyset 으로 chunk 씩 DTO 로 읽는다. 엔티티를 올리지 않으므로 영속성 컨텍스트에 쌓이는 것이 없다.</li>
+ *     <li>정산 파일은 다른 스레드에서 동시에 읽는다.</li>
+ *     <li>두 쪽 모두 {@link PartitionedReconciler} 의 파티션 파일로 흘려 쓴 뒤 파티션별로 해시 조인한다.</li>
+ * </ul>
+ * 메모리에는 chunk 하나와 정산 파티션 하나만 올라가므로 결제가 수천만 건이어도 힙 사용량은 일정하다.
+ */
+@Component
+@Profile("!append-log & !in-memory & !sharded")
+@EnableScheduling
+@EnableConfigurationProperties(ReconciliationProperties.class)
+public class PaymentReconciliationJob {
+
+    private static final int MAX_PARTITIONS = 1024;
+
+    private final ReconciliationPaymentRepository reconciliationPaymentRepository;
+    private final ReconciliationProperties properties;
+    private final SettlementCsvReader settlementCsvReader = new SettlementCsvReader();
+
+    PaymentReconciliationJob(final ReconciliationPaymentRepository reconciliationPaymentRepository, final ReconciliationProperties properties) {
+        Assert.isTrue(properties.chunkSize() > 0, "chunk 크기는 0보다 커야 합니다.");
+        Assert.isTrue(properties.maxRowsPerPartition() > 0, "파티션 크기는 0보다 커야 합니다.");
+        this.reconciliationPaymentRepository = reconciliationPaymentRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * reconciliation.cron 이 없으면 돌지 않는다.
+     */
+    @Scheduled(cron = "${reconciliation.cron:-}")
+    public void runNightly() throws IOException {
+        final Path settlementFile = properties.settlementFile();
+        if (settlementFile == null || properties.reportFile() == null || !Files.exists(settlementFile)) {
+            return;
+        }
+        run(settlementFile, properties.reportFile());
+    }
+
+    public ReconciliationResult run(final Path settlementFile, final Path reportFile) throws IOException {
+        final int partitions = partitionsFor(reconciliationPaymentRepository.count());
+        final ExecutorService settlementReader = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "reconciliation-settlement-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (PartitionedReconciler reconciler = new PartitionedReconciler(Files.createTempDirectory("reconciliation"), partitions)) {
+            final Future<Long> settlements = settlementReader.submit(() -> settlementCsvReader.read(settlementFile, reconciler::addSettlement));
+            try {
+                streamPayments(reconciler);
+                settlements.get();
+            } finally {
+                // 실패했으면 읽기 스레드가 파티션 파일을 닫기 전에 멈추게 한다.
+                shutdown(settlementReader);
+            }
+            try (ReconciliationReport report = new ReconciliationReport(reportFile)) {
+                return reconciler.reconcile(report);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("대사가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("정산 파일을 읽지 못했습니다.", e.getCause());
+        }
+    }
+
+    private void streamPayments(final PartitionedReconciler reconciler) throws IOException {
+        final int chunkSize = properties.chunkSize();
+        long after = 0;
+        List<ReconciliationPayment> chunk;
+        do {
+            chunk = reconciliationPaymentRepository.findChunkAfter(after, PageRequest.ofSize(chunkSize));
+            for (final ReconciliationPayment payment : chunk) {
+                reconciler.addPayment(payment.id(), payment.orderId(), payment.price());
+                after = payment.id();
+            }
+        } while (chunk.size() == chunkSize);
+    }
+
+    /**
+     * 정산 파일도 결제와 비슷한 건수라고 보고, 결제 건수로 파티션 수를 정한다.
+     */
+    private int partitionsFor(final long payments) {
+        final long partitions = (payments + properties.maxRowsPerPartition() - 1) / properties.maxRowsPerPartition();
+        return (int) Math.max(1, Math.min(MAX_PARTITIONS, partitions));
+    }
+
+    private static void shutdown(final ExecutorService executor) throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+    }
+}
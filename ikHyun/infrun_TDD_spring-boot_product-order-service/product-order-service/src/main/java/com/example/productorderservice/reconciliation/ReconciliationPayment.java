@@ -0,0 +1,7 @@
+package com.example.productorderservice.reconciliation;
+
+/**
+ * 대사에 필요한 결제 컬럼만 담은 조회 결과. 엔티티가 아니므로 영속성 컨텍스트에 쌓이지 않는다.
+ */
+public record ReconciliationPayment(Long id, Long orderId, int price) {
+}
@@ -0,0 +1,18 @@
+package com.example.productorderservice.reconciliation;
+
+import com.example.productorderservice.payment.domain.Payment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+interface ReconciliationPaymentRepository extends Repository<Payment, Long> {
+
+    @Query("select new com.example.productorderservice.reconciliation.ReconciliationPayment(p.id, p.orderId, p.price)"
+            + " from Payment p where p.id > :after order by p.id")
+    List<ReconciliationPayment> findChunkAfter(@Param("after") long after, Pageable pageable);
+
+    long count();
+}
@@ -0,0 +1,23 @@
+package com.example.productorderservice.reconciliation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * @param chunkSize           결제를 한 번에 읽을 건수
+ * @param maxRowsPerPartition 해시 조인 때 한 파티션에 올릴 최대 결제 건수. 파티션 수는 결제 건수를 이 값으로 나눠 정한다.
+ * @param settlementFile      야간 대사에 쓸 정산 파일. 없으면 야간 대사를 건너뛴다.
+ * @param reportFile          불일치 보고서를 쓸 파일
+ */
+@ConfigurationProperties("reconciliation")
+@ConstructorBinding
+record ReconciliationProperties(
+        @DefaultValue("10000") int chunkSize,
+        @DefaultValue("1000000") int maxRowsPerPartition,
+        Path settlementFile,
+        Path reportFile
+) {
+}
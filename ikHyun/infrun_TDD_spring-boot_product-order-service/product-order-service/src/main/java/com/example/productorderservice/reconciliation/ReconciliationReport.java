@@ -0,0 +1,43 @@
+package com.example.productorderservice.reconciliation;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 불일치 건을 CSV 로 흘려 쓴다. 없는 값은 빈 칸으로 둔다.
+ */
+class ReconciliationReport implements Closeable {
+
+    static final String HEADER = "type,order_id,payment_id,payment_amount,settled_amount";
+
+    private final BufferedWriter writer;
+
+    ReconciliationReport(final Path file) throws IOException {
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        writer.write(HEADER);
+        writer.newLine();
+    }
+
+    void write(final MismatchType type, final long orderId, final Long paymentId, final Integer paymentAmount, final Integer settledAmount)
+            throws IOException {
+        writer.write(type.name());
+        writer.write(',');
+        writer.write(Long.toString(orderId));
+        writer.write(',');
+        writer.write(paymentId == null ? "" : paymentId.toString());
+        writer.write(',');
+        writer.write(paymentAmount == null ? "" : paymentAmount.toString());
+        writer.write(',');
+        writer.write(settledAmount == null ? "" : settledAmount.toString());
+        writer.newLine();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
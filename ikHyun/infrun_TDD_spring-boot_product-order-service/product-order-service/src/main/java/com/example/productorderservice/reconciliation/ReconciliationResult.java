@@ -0,0 +1,29 @@
+package com.example.productorderservice.reconciliation;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * @param payments    읽은 결제 수
+ * @param settlements 읽은 정산 행 수
+ * @param matched     금액까지 일치한 건수
+ * @param mismatches  불일치 유형별 건수
+ */
+public record ReconciliationResult(long payments, long settlements, long matched, Map<MismatchType, Long> mismatches) {
+
+    public ReconciliationResult {
+        final Map<MismatchType, Long> counts = new EnumMap<>(MismatchType.class);
+        for (final MismatchType type : MismatchType.values()) {
+            counts.put(type, mismatches.getOrDefault(type, 0L));
+        }
+        mismatches = Map.copyOf(counts);
+    }
+
+    public long mismatches(final MismatchType type) {
+        return mismatches.get(type);
+    }
+
+    public long totalMismatches() {
+        return mismatches.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
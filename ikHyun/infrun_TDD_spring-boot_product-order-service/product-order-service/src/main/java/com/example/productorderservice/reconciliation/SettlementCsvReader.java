@@ -0,0 +1,50 @@
+package com.example.productorderservice.reconciliation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * PG 정산 파일(CSV)을 한 줄씩 읽는다. 첫 줄은 헤더이고, 앞의 두 열이 주문 ID 와 정산 금액이다. 나머지 열은 무시한다.
+ */
+class SettlementCsvReader {
+
+    @FunctionalInterface
+    interface Row {
+        void accept(long orderId, int amount) throws IOException;
+    }
+
+    /**
+     * @return 읽은 행 수
+     */
+    long read(final Path file, final Row row) throws IOException {
+        long rows = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            reader.readLine();
+            int lineNumber = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                final int first = line.indexOf(',');
+                if (first < 0) {
+                    throw new IllegalArgumentException("정산 파일 " + lineNumber + "번째 줄의 형식이 잘못되었습니다.");
+                }
+                final int second = line.indexOf(',', first + 1);
+                try {
+                    row.accept(
+                            Long.parseLong(line.substring(0, first).trim()),
+                            Integer.parseInt(line.substring(first + 1, second < 0 ? line.length() : second).trim()));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("정산 파일 " + lineNumber + "번째 줄의 형식이 잘못되었습니다.", e);
+                }
+                rows++;
+            }
+        }
+        return rows;
+    }
+}
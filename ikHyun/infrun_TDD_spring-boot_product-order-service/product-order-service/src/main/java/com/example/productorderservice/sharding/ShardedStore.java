@@ -0,0 +1,217 @@
+package com.example.productorderservice.sharding;
+
+import com.example.productorderservice.order.domain.Order;
+import com.example.productorderservice.order.domain.OrderStatus;
+import com.example.productorderservice.payment.domain.Payment;
+import com.example.productorderservice.payment.domain.PaymentView;
+import com.example.productorderservice.support.TransactionHooks;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * sharded 프로필에서 주문과 결제를 샤드 N 개(기본은 임베디드 H2 N 개)에 나눠 저장한다.
+ * 주문은 돌아가며 샤드를 고르고, 고른 샤드 번호를 {@link SnowflakeIdGenerator} ID 에 넣는다.
+ * 결제는 주문 ID 의 샤드에 같이 두므로 결제 한 건의 읽기/쓰기는 모두 샤드 하나 안에서 끝난다.
+ * 상품은 나누지 않고 기본 데이터소스(JPA)에 그대로 둔다.
+ * ID 의 워커 번호(sharding.worker-id)는 인스턴스마다 달라야 한다.
+ */
+@Component
+@Profile("sharded")
+public class ShardedStore implements DisposableBean {
+
+    private static final String ORDER_COLUMNS = "id, product_id, quantity, unit_price, discount_amount, total_price, status";
+
+    private final List<HikariDataSource> dataSources = new ArrayList<>();
+    private final List<JdbcTemplate> shards = new ArrayList<>();
+    private final SnowflakeIdGenerator idGenerator;
+    private final AtomicInteger nextShard = new AtomicInteger();
+
+    public ShardedStore(
+            @Value("${sharding.shards:4}") final int shardCount,
+            @Value("${sharding.url:jdbc:h2:mem:${spring.datasource.name:testdb}-shard-%d;DB_CLOSE_DELAY=-1}") final String urlTemplate,
+            @Value("${sharding.pool-size:8}") final int poolSize,
+            @Value("${sharding.worker-id:0}") final int workerId) {
+        Assert.isTrue(shardCount > 0 && shardCount <= SnowflakeIdGenerator.MAX_SHARDS,
+                "샤드 수는 1 이상 " + SnowflakeIdGenerator.MAX_SHARDS + " 이하여야 합니다.");
+        this.idGenerator = new SnowflakeIdGenerator(workerId);
+        for (int shard = 0; shard < shardCount; shard++) {
+            final HikariConfig config = new HikariConfig();
+            config.setJdbcUrl(String.format(urlTemplate, shard));
+            config.setMaximumPoolSize(poolSize);
+            config.setPoolName("shard-" + shard);
+            final HikariDataSource dataSource = new HikariDataSource(config);
+            dataSources.add(dataSource);
+            final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            createTables(jdbcTemplate);
+            shards.add(jdbcTemplate);
+        }
+    }
+
+    private static void createTables(final JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS orders (id BIGINT PRIMARY KEY, product_id BIGINT, quantity INT,"
+                + " unit_price INT, discount_amount INT, total_price INT, status VARCHAR(32))");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS payments (id BIGINT PRIMARY KEY, order_id BIGINT, price INT,"
+                + " card_number VARCHAR(255))");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_payments_order_id ON payments (order_id)");
+    }
+
+    public long nextOrderId() {
+        return idGenerator.next(Math.floorMod(nextShard.getAndIncrement(), shards.size()));
+    }
+
+    /**
+     * 결제 ID 는 주문과 같은 샤드 번호로 만든다.
+     */
+    public long nextPaymentId(final long orderId) {
+        return idGenerator.next(shardIndex(orderId));
+    }
+
+    public void saveOrder(final Order order) {
+        shard(order.getId()).update("INSERT INTO orders (" + ORDER_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?)",
+                order.getId(), order.getProduct().getId(), order.getQuantity(), order.getUnitPrice(),
+                order.getDiscountAmount(), order.getTotalPrice(), order.getStatus().name());
+    }
+
+    /**
+     * 결제 대기 중인 주문을 결제 완료로 바꾸고 결제 행을 넣는다. 두 쓰기는 주문의 샤드에서 트랜잭션 하나로 바로 커밋한다.
+     * PG 승인 뒤에 부르므로 샤드 커넥션과 주문 행 잠금은 쓰기 두 번 동안만 잡는다.
+     *
+     * @return 이미 결제됐거나 닫힌 주문이면 아무것도 쓰지 않고 false
+     */
+    public boolean savePaidPayment(final Payment payment) {
+        final ShardTransaction transaction = ShardTransaction.begin(dataSources.get(shardIndex(payment.getOrderId())));
+        boolean committed = false;
+        try {
+            final int updated = transaction.jdbcTemplate().update("UPDATE orders SET status = ? WHERE id = ? AND status = ?",
+                    OrderStatus.PAID.name(), payment.getOrderId(), OrderStatus.ORDERED.name());
+            if (updated == 0) {
+                return false;
+            }
+            transaction.jdbcTemplate().update("INSERT INTO payments (id, order_id, price, card_number) VALUES (?, ?, ?, ?)",
+                    payment.getId(), payment.getOrderId(), payment.getPrice(), payment.getCardNumber());
+            committed = true;
+            return true;
+        } finally {
+            transaction.end(committed);
+        }
+    }
+
+    /**
+     * @return 주문이 없으면 null
+     */
+    public PaymentView findPaymentView(final long orderId) {
+        final int shard = SnowflakeIdGenerator.shardOf(orderId);
+        if (shard >= shards.size()) {
+            return null;
+        }
+        return shards.get(shard).query("SELECT id, product_id, quantity, total_price, status FROM orders WHERE id = ?",
+                rs -> rs.next()
+                        ? new PaymentView(rs.getLong(1), rs.getObject(2, Long.class), rs.getInt(3), rs.getInt(4),
+                        OrderStatus.valueOf(rs.getString(5)))
+                        : null,
+                orderId);
+    }
+
+    /**
+     * 결제 대기 중인 주문을 결제 실패로 바꾼다. 롤백되면 원래 상태로 되돌린다.
+     *
+     * @return 결제 대기 중이 아니면 false
+     */
+    public boolean markFailed(final long orderId) {
+        return closeOrder(orderId, OrderStatus.FAILED);
+    }
+
+    private boolean closeOrder(final long orderId, final OrderStatus status) {
+        final JdbcTemplate shard = shard(orderId);
+        final int updated = shard.update("UPDATE orders SET status = ? WHERE id = ? AND status = ?",
+                status.name(), orderId, OrderStatus.ORDERED.name());
+        if (updated == 0) {
+            return false;
+        }
+        TransactionHooks.onCompletion(() -> {
+        }, () -> shard.update("UPDATE orders SET status = ? WHERE id = ? AND status = ?",
+                OrderStatus.ORDERED.name(), orderId, status.name()));
+        return true;
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    public JdbcTemplate shard(final int index) {
+        return shards.get(index);
+    }
+
+    /**
+     * 샤드 하나에 묶인 JDBC 트랜잭션. 커넥션은 끝날 때 풀로 돌려준다.
+     */
+    private record ShardTransaction(Connection connection, JdbcTemplate jdbcTemplate) {
+
+        static ShardTransaction begin(final DataSource dataSource) {
+            try {
+                final Connection connection = dataSource.getConnection();
+                connection.setAutoCommit(false);
+                return new ShardTransaction(connection, new JdbcTemplate(new SingleConnectionDataSource(connection, true)));
+            } catch (SQLException e) {
+                throw new DataAccessResourceFailureException("샤드 커넥션을 열 수 없습니다.", e);
+            }
+        }
+
+        void end(final boolean commit) {
+            try {
+                if (commit) {
+                    connection.commit();
+                } else {
+                    connection.rollback();
+                }
+            } catch (SQLException e) {
+                throw new DataAccessResourceFailureException("샤드 트랜잭션을 끝내지 못했습니다.", e);
+            } finally {
+                try {
+                    connection.setAutoCommit(true);
+                    connection.close();
+                } catch (SQLException ignored) {
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        for (final JdbcTemplate shard : shards) {
+            shard.execute("TRUNCATE TABLE payments");
+            shard.execute("TRUNCATE TABLE orders");
+        }
+    }
+
+    @Override
+    public void destroy() {
+        dataSources.forEach(HikariDataSource::close);
+    }
+
+    private JdbcTemplate shard(final long id) {
+        return shards.get(shardIndex(id));
+    }
+
+    private int shardIndex(final long id) {
+        final int shard = SnowflakeIdGenerator.shardOf(id);
+        if (shard >= shards.size()) {
+            throw new IllegalArgumentException("주문이 존재하지 않습니다.");
+        }
+        return shard;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.productorderservice.sharding;
+
+import org.springframework.util.Assert;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 샤드 번호를 품은 64비트 ID 를 만든다. 상위부터 41비트 밀리초(2023-01-01 기준), 6비트 샤드, 4비트 워커, 12비트 순번이다.
+ * ID 만 보고 샤드를 알 수 있으므로 샤드 수를 바꿔도 이미 만든 ID 의 위치는 그대로다.
+ * 워커 번호는 인스턴스마다 달라야 한다. 여러 인스턴스가 같은 밀리초에 같은 샤드로 ID 를 만들어도 겹치지 않는다.
+ * 같은 밀리초에 순번 4096 개를 다 쓰면 다음 밀리초까지 기다린다. 시계가 뒤로 가면 마지막 시각을 계속 쓴다.
+ */
+public final class SnowflakeIdGenerator {
+
+    public static final int MAX_SHARDS = 1 << 6;
+    public static final int MAX_WORKERS = 1 << 4;
+
+    static final long EPOCH_MILLIS = 1_672_531_200_000L;
+    private static final int SEQUENCE_BITS = 12;
+    private static final int WORKER_SHIFT = SEQUENCE_BITS;
+    private static final int SHARD_SHIFT = WORKER_SHIFT + 4;
+    private static final int TIMESTAMP_SHIFT = SHARD_SHIFT + 6;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final int workerId;
+    private final LongSupplier clock;
+    private long lastMillis = -1;
+    private long sequence;
+
+    public SnowflakeIdGenerator(final int workerId) {
+        this(workerId, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(final int workerId, final LongSupplier clock) {
+        Assert.isTrue(workerId >= 0 && workerId < MAX_WORKERS, "워커 번호는 0 이상 " + MAX_WORKERS + " 미만이어야 합니다.");
+        this.workerId = workerId;
+        this.clock = clock;
+    }
+
+    public synchronized long next(final int shard) {
+        Assert.isTrue(shard >= 0 && shard < MAX_SHARDS, "샤드 번호는 0 이상 " + MAX_SHARDS + " 미만이어야 합니다.");
+        long now = Math.max(clock.getAsLong(), lastMillis);
+        if (now == lastMillis) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                now = waitUntilAfter(lastMillis);
+            }
+        } else {
+            sequence = 0;
+        }
+        lastMillis = now;
+        return ((now - EPOCH_MILLIS) << TIMESTAMP_SHIFT) | ((long) shard << SHARD_SHIFT) | ((long) workerId << WORKER_SHIFT) | sequence;
+    }
+
+    public static int shardOf(final long id) {
+        return (int) ((id >>> SHARD_SHIFT) & (MAX_SHARDS - 1));
+    }
+
+    public static int workerOf(final long id) {
+        return (int) ((id >>> WORKER_SHIFT) & (MAX_WORKERS - 1));
+    }
+
+    private long waitUntilAfter(final long millis) {
+        long now = clock.getAsLong();
+        while (now <= millis) {
+            Thread.onSpinWait();
+            now = clock.getAsLong();
+        }
+        return now;
+    }
+}
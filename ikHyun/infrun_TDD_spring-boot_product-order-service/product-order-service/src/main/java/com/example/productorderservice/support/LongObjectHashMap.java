@@ -0,0 +1,167 @@
+package com.example.productorderservice.support;
+
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+
+/**
+ * long 키를 박싱하지 않는 open addressing(선형 탐사) 해시 맵. 스레드 안전하지 않으므로 바깥에서 잠근다.
+ * 삭제는 묘비를 남기지 않고 뒤쪽 항목을 당겨 와서 탐사 길이가 늘어나지 않게 한다.
+ */
+public final class LongObjectHashMap<V> {
+
+    @FunctionalInterface
+    public interface Entry<V> {
+        void accept(long key, V value);
+    }
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    public LongObjectHashMap() {
+        this(16);
+    }
+
+    public LongObjectHashMap(final int expectedSize) {
+        Assert.isTrue(expectedSize >= 0, "예상 크기는 0 이상이어야 합니다.");
+        allocate(capacityFor(expectedSize));
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(final long key) {
+        int slot = slot(key);
+        Object value;
+        while ((value = values[slot]) != null) {
+            if (keys[slot] == key) {
+                return (V) value;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * @return 이전 값, 없었으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(final long key, final V value) {
+        Assert.notNull(value, "값은 null 일 수 없습니다.");
+        int slot = slot(key);
+        Object existing;
+        while ((existing = values[slot]) != null) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return (V) existing;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeAt) {
+            rehash(values.length << 1);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(final long key) {
+        int slot = slot(key);
+        Object value;
+        while ((value = values[slot]) != null) {
+            if (keys[slot] == key) {
+                shiftBack(slot);
+                size--;
+                return (V) value;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(final Entry<? super V> action) {
+        for (int slot = 0; slot < values.length; slot++) {
+            final Object value = values[slot];
+            if (value != null) {
+                action.accept(keys[slot], (V) value);
+            }
+        }
+    }
+
+    private void shiftBack(int gap) {
+        int slot = gap;
+        while (true) {
+            slot = (slot + 1) & mask;
+            final Object value = values[slot];
+            if (value == null) {
+                break;
+            }
+            final int home = slot(keys[slot]);
+            // home 이 (gap, slot] 구간 밖이면 빈자리로 당겨 와도 탐사 경로가 끊기지 않는다.
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = keys[slot];
+                values[gap] = value;
+                gap = slot;
+            }
+        }
+        values[gap] = null;
+    }
+
+    private void rehash(final int capacity) {
+        final long[] oldKeys = keys;
+        final Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = slot(oldKeys[i]);
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private int slot(final long key) {
+        // MurmurHash3 fmix64. 연속된 ID 가 한곳에 몰리지 않게 섞는다.
+        long hash = key;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+
+    private static int capacityFor(final int expectedSize) {
+        final long needed = Math.max(4, (long) Math.ceil(expectedSize / LOAD_FACTOR) + 1);
+        Assert.isTrue(needed <= (1 << 30), "맵 크기가 너무 큽니다.");
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.productorderservice.support;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 행을 한 줄에 JSON 하나씩(NDJSON) 흘려 쓰는 응답을 만든다.
+ * 행은 만들어지는 대로 버퍼를 거쳐 바로 나가므로 첫 바이트까지의 시간과 메모리 사용량이 전체 행 수와 관계없다.
+ * 클라이언트가 gzip 을 받을 수 있으면 압축해서 보낸다.
+ */
+public final class NdjsonResponses {
+
+    public static final MediaType NDJSON = new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /**
+     * 압축하면 출력이 한참 모였다가 나가므로, 이만큼 쓸 때마다 밀어내서 받는 쪽이 꾸준히 읽게 한다.
+     */
+    private static final int FLUSH_EVERY_ROWS = 1_000;
+
+    private NdjsonResponses() {
+    }
+
+    /**
+     * @param source 받은 Consumer 에 행을 하나씩 넘긴다. 응답을 쓰는 스레드에서 불린다.
+     */
+    public static <T> ResponseEntity<StreamingResponseBody> stream(
+            final ObjectMapper objectMapper, final String acceptEncoding, final Consumer<Consumer<T>> source) {
+        final boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        // 줄 구분은 직접 쓰므로 최상위 값 사이의 기본 구분자(공백)는 쓰지 않는다.
+        final ObjectWriter writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("");
+        final StreamingResponseBody body = out -> {
+            final OutputStream target = gzip ? new GZIPOutputStream(out, BUFFER_SIZE, true) : new BufferedOutputStream(out, BUFFER_SIZE);
+            try (JsonGenerator generator = writer.createGenerator(target)) {
+                final long[] rows = {0};
+                source.accept(row -> {
+                    try {
+                        writer.writeValue(generator, row);
+                        generator.writeRaw('\n');
+                        if (++rows[0] % FLUSH_EVERY_ROWS == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.productorderservice.support;
+
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link TransactionHooks} 의 리액티브 버전. 트랜잭션 정보는 스레드가 아니라 구독 컨텍스트에 있다.
+ */
+public final class ReactiveTransactionHooks {
+
+    private ReactiveTransactionHooks() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 실행한다. 트랜잭션이 없으면 바로 실행한다.
+     */
+    public static Mono<Void> afterCommit(final Runnable action) {
+        return onCompletion(action, () -> {
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 committed 를, 롤백되면 rolledBack 을 실행한다. 트랜잭션이 없으면 커밋된 것으로 보고 바로 실행한다.
+     */
+    public static Mono<Void> onCompletion(final Runnable committed, final Runnable rolledBack) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .flatMap(manager -> {
+                    if (!manager.isSynchronizationActive()) {
+                        return Mono.<Void>fromRunnable(committed);
+                    }
+                    manager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public Mono<Void> afterCompletion(final int status) {
+                            return Mono.fromRunnable(status == STATUS_COMMITTED ? committed : rolledBack);
+                        }
+                    });
+                    return Mono.<Void>empty();
+                })
+                .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(committed));
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.productorderservice.support;
+
+import org.springframework.util.Assert;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * {@link LongObjectHashMap} 여러 개를 키의 해시로 나눠 각각 읽기/쓰기 잠금으로 감싼 맵.
+ * 읽기끼리는 막지 않고, 쓰기는 같은 stripe 에 걸린 요청만 막는다.
+ */
+public final class StripedLongObjectMap<V> {
+
+    private final LongObjectHashMap<V>[] maps;
+    private final ReadWriteLock[] locks;
+    private final int mask;
+
+    public StripedLongObjectMap() {
+        this(16, 16);
+    }
+
+    @SuppressWarnings("unchecked")
+    public StripedLongObjectMap(final int stripes, final int expectedSize) {
+        Assert.isTrue(stripes > 0 && stripes <= 64 && Integer.bitCount(stripes) == 1, "stripe 수는 64 이하의 2의 거듭제곱이어야 합니다.");
+        Assert.isTrue(expectedSize >= 0, "예상 크기는 0 이상이어야 합니다.");
+        this.maps = new LongObjectHashMap[stripes];
+        this.locks = new ReadWriteLock[stripes];
+        this.mask = stripes - 1;
+        for (int i = 0; i < stripes; i++) {
+            maps[i] = new LongObjectHashMap<>(expectedSize / stripes);
+            locks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    public V get(final long key) {
+        final int stripe = stripe(key);
+        locks[stripe].readLock().lock();
+        try {
+            return maps[stripe].get(key);
+        } finally {
+            locks[stripe].readLock().unlock();
+        }
+    }
+
+    public V put(final long key, final V value) {
+        return update(key, map -> map.put(key, value));
+    }
+
+    public V remove(final long key) {
+        return update(key, map -> map.remove(key));
+    }
+
+    /**
+     * key 가 속한 stripe 를 쓰기 잠금한 채로 action 을 실행한다. 읽고 바꾸는 작업을 원자적으로 할 때 쓴다.
+     */
+    public <R> R update(final long key, final Function<LongObjectHashMap<V>, R> action) {
+        final int stripe = stripe(key);
+        locks[stripe].writeLock().lock();
+        try {
+            return action.apply(maps[stripe]);
+        } finally {
+            locks[stripe].writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (int stripe = 0; stripe < maps.length; stripe++) {
+            locks[stripe].readLock().lock();
+            try {
+                size += maps[stripe].size();
+            } finally {
+                locks[stripe].readLock().unlock();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * stripe 별로 읽기 잠금을 잡고 순회한다. 전체를 한 시점에 본 스냅샷은 아니다.
+     */
+    public void forEach(final LongObjectHashMap.Entry<? super V> action) {
+        for (int stripe = 0; stripe < maps.length; stripe++) {
+            locks[stripe].readLock().lock();
+            try {
+                maps[stripe].forEach(action);
+            } finally {
+                locks[stripe].readLock().unlock();
+            }
+        }
+    }
+
+    public void clear() {
+        for (int stripe = 0; stripe < maps.length; stripe++) {
+            locks[stripe].writeLock().lock();
+            try {
+                maps[stripe].clear();
+            } finally {
+                locks[stripe].writeLock().unlock();
+            }
+        }
+    }
+
+    private int stripe(final long key) {
+        // LongObjectHashMap 은 하위 비트로 슬롯을 고르므로 stripe 는 상위 비트로 고른다.
+        return (int) ((key * 0x9e3779b97f4a7c15L) >>> 58) & mask;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.productorderservice.support;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA 밖의 저장소가 현재 트랜잭션의 결과를 따라가게 한다. 트랜잭션이 없으면 커밋된 것으로 보고 바로 실행한다.
+ */
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    public static void afterCommit(final Runnable action) {
+        onCompletion(action, () -> {
+        });
+    }
+
+    public static void onCompletion(final Runnable committed, final Runnable rolledBack) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            committed.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status == STATUS_COMMITTED) {
+                    committed.run();
+                } else {
+                    rolledBack.run();
+                }
+            }
+        });
+    }
+}
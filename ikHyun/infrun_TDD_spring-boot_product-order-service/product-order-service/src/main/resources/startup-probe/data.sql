@@ -0,0 +1 @@
+INSERT INTO products (name, price, discount_policy, discount_rules, stock, version) VALUES ('기동측정상품', 1000, 0, NULL, 1000000, 0);
@@ -1,14 +1,29 @@
 package com.example.productorderservice;
 
 import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.TestReporter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Import(SqlStatementCounter.class)
 public class ApiTest {
 
+    /**
+     * 테스트 클래스는 병렬로 돌기 때문에 전역 RestAssured.port 대신 스레드마다 자기 서버 포트를 가진 스펙을 쓴다.
+     */
+    private static final ThreadLocal<RequestSpecification> REQUEST_SPEC = new ThreadLocal<>();
+
     @Autowired
     private DatabaseCleanup databaseCleanup;
 
@@ -16,12 +31,31 @@ public class ApiTest {
     private int port;
 
     @BeforeEach
-    void setUp(){
-        if(RestAssured.port == RestAssured.UNDEFINED_PORT){
-            RestAssured.port = port;
-            databaseCleanup.afterPropertiesSet();
-        }
-        databaseCleanup.execute();
+    void setUp(final TestInfo testInfo, final TestReporter testReporter){
+        useRequestSpec(new RequestSpecBuilder().setPort(port).build());
+        final long startedAt = System.nanoTime();
+        final List<String> cleanedTables = databaseCleanup.execute();
+        final long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt);
+        testReporter.publishEntry("cleanup", String.format("%s.%s %dus %s",
+                getClass().getSimpleName(), testInfo.getDisplayName(), elapsedMicros, cleanedTables));
+    }
+
+    @AfterEach
+    void tearDownRequestSpec() {
+        REQUEST_SPEC.remove();
+    }
+
+    /**
+     * 현재 스레드의 Step 요청에 쓸 스펙을 바꾼다. 테스트 스레드가 아닌 곳(부하 생성기 등)에서 Step 을 부를 때 쓴다.
+     */
+    public static void useRequestSpec(final RequestSpecification requestSpec) {
+        REQUEST_SPEC.set(requestSpec);
+    }
 
+    /**
+     * Step 클래스는 RestAssured.given() 대신 이 메서드로 요청을 시작한다.
+     */
+    public static RequestSpecification given() {
+        return RestAssured.given(REQUEST_SPEC.get());
     }
 }
@@ -1,8 +1,16 @@
 package com.example.productorderservice;
 
 
+import com.example.productorderservice.analytics.OrderFactStore;
+import com.example.productorderservice.appendlog.AppendLogStore;
+import com.example.productorderservice.inmemory.InMemoryStore;
+import com.example.productorderservice.inventory.adapter.InventoryAdapter;
+import com.example.productorderservice.product.application.service.ProductViewStore;
+import com.example.productorderservice.sharding.ShardedStore;
 import com.google.common.base.CaseFormat;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,7 +19,11 @@ import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import javax.persistence.Table;
 import javax.persistence.metamodel.EntityType;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -21,7 +33,30 @@ public class DatabaseCleanup implements InitializingBean {
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Autowired
+    private InventoryAdapter inventoryAdapter;
+
+    @Autowired
+    private DirtyTableTracker dirtyTableTracker;
+
+    @Autowired
+    private ObjectProvider<AppendLogStore> appendLogStore;
+
+    @Autowired
+    private ObjectProvider<InMemoryStore> inMemoryStore;
+
+    @Autowired
+    private ObjectProvider<ProductViewStore> productViewStore;
+
+    @Autowired
+    private ObjectProvider<ShardedStore> shardedStore;
+
+    @Autowired
+    private ObjectProvider<OrderFactStore> orderFactStore;
+
     private List<String> tableNames;
+    private final Map<String, Long> snapshotNextIds = new HashMap<>();
+    private final Set<String> forcedTables = new HashSet<>();
 
     @Override
     public void afterPropertiesSet() {
@@ -51,19 +86,73 @@ public class DatabaseCleanup implements InitializingBean {
         return null != e.getJavaType().getAnnotation(Table.class);
     }
 
+    /**
+     * 마지막 정리 이후 변경된 테이블만 비우고 ID 를 되돌린다. 스냅샷이 있으면 그 시점의 데이터로 복원한다.
+     *
+     * @return 정리한 테이블 목록
+     */
     @Transactional
-    public void execute() {
+    public List<String> execute() {
         entityManager.flush();
+        final Set<String> dirtyTables = dirtyTableTracker.drain();
+        final List<String> targets = tableNames.stream()
+                .filter(tableName -> dirtyTables == null || dirtyTables.contains(tableName.toLowerCase(Locale.ROOT)) || forcedTables.contains(tableName))
+                .toList();
+        forcedTables.clear();
+        inventoryAdapter.clear();
+        appendLogStore.ifAvailable(AppendLogStore::clear);
+        inMemoryStore.ifAvailable(InMemoryStore::clear);
+        productViewStore.ifAvailable(ProductViewStore::clear);
+        shardedStore.ifAvailable(ShardedStore::clear);
+        orderFactStore.ifAvailable(OrderFactStore::clear);
+        if (targets.isEmpty()) {
+            return targets;
+        }
+
         entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY FALSE").executeUpdate();
+        for (final String tableName : targets) {
+            entityManager.createNativeQuery("TRUNCATE TABLE " + tableName).executeUpdate(); // 테이블 데이터 비우기
+            final Long nextId = snapshotNextIds.get(tableName);
+            if (nextId != null) {
+                entityManager.createNativeQuery("INSERT INTO " + tableName + " SELECT * FROM " + snapshotTable(tableName)).executeUpdate();
+            }
+            entityManager.createNativeQuery("ALTER TABLE " + tableName + " ALTER COLUMN ID RESTART WITH " + (nextId == null ? 1 : nextId)).executeUpdate(); // pk 값 되돌리기
+        }
+        entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+        // 복원하면서 실행한 INSERT 는 테스트가 바꾼 것이 아니다.
+        dirtyTableTracker.drain();
+        return targets;
+    }
 
-        /*
-         * 각테이블 마다 아래 SQL 실행
-         */
+    /**
+     * 현재 데이터를 기준 상태로 저장한다. 이후 {@link #execute()} 는 테이블을 비우는 대신 이 상태로 되돌린다.
+     * 테스트 클래스에서 공통 데이터를 한 번만 넣고 싶을 때 쓴다.
+     */
+    @Transactional
+    public void snapshot() {
+        entityManager.flush();
         for (final String tableName : tableNames) {
-            entityManager.createNativeQuery("TRUNCATE TABLE " + tableName).executeUpdate(); // 테이블 데이터 비우시
-            entityManager.createNativeQuery("ALTER TABLE " + tableName + " ALTER COLUMN ID RESTART WITH 1").executeUpdate(); // pk 값 1로 시작하기
+            entityManager.createNativeQuery("DROP TABLE IF EXISTS " + snapshotTable(tableName)).executeUpdate();
+            entityManager.createNativeQuery("CREATE TABLE " + snapshotTable(tableName) + " AS SELECT * FROM " + tableName).executeUpdate();
+            final Number maxId = (Number) entityManager.createNativeQuery("SELECT COALESCE(MAX(ID), 0) FROM " + tableName).getSingleResult();
+            snapshotNextIds.put(tableName, maxId.longValue() + 1);
+        }
+        dirtyTableTracker.drain();
+    }
+
+    /**
+     * 스냅샷을 지운다. 스냅샷 데이터가 남아 있는 테이블은 다음 정리 때 모두 비운다.
+     */
+    @Transactional
+    public void discardSnapshot() {
+        for (final String tableName : snapshotNextIds.keySet()) {
+            entityManager.createNativeQuery("DROP TABLE IF EXISTS " + snapshotTable(tableName)).executeUpdate();
         }
+        forcedTables.addAll(snapshotNextIds.keySet());
+        snapshotNextIds.clear();
+    }
 
-        entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+    private static String snapshotTable(final String tableName) {
+        return "cleanup_snapshot_" + tableName;
     }
 }
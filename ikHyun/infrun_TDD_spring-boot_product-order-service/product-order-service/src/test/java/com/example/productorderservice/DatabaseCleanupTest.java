@@ -0,0 +1,55 @@
+package com.example.productorderservice;
+
+import com.example.productorderservice.order.OrderSteps;
+import com.example.productorderservice.product.ProductSteps;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DatabaseCleanupTest extends ApiTest {
+
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanup.discardSnapshot();
+    }
+
+    @Test
+    void 변경된_테이블만_정리한다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+
+        assertThat(databaseCleanup.execute()).containsExactly("products");
+        assertThat(databaseCleanup.execute()).isEmpty();
+    }
+
+    @Test
+    void JdbcTemplate_으로_바꾼_테이블도_정리한다() {
+        jdbcTemplate.update("INSERT INTO products (name, price, discount_policy, stock, version) VALUES ('상품명', 1000, 0, 1, 0)");
+
+        assertThat(databaseCleanup.execute()).containsExactly("products");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Integer.class)).isZero();
+    }
+
+    @Test
+    void 스냅샷이_있으면_그_상태로_되돌린다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        databaseCleanup.snapshot();
+        OrderSteps.상품주문요청(OrderSteps.상품주문요청_생성());
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+
+        databaseCleanup.execute();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Integer.class)).isZero();
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        assertThat(jdbcTemplate.queryForObject("SELECT MAX(id) FROM products", Long.class)).isEqualTo(2L);
+    }
+}
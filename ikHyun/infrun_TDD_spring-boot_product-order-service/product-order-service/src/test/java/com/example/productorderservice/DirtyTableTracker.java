@@ -0,0 +1,143 @@
+package com.example.productorderservice;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Mono;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * DataSource 를 감싸 INSERT/UPDATE/DELETE/MERGE 가 실행된 테이블을 기록한다.
+ * JPA 뿐 아니라 JdbcTemplate 으로 나가는 SQL 도 잡기 위해 Hibernate 이벤트가 아니라 JDBC 단에서 본다.
+ * reactive 프로필에서는 R2DBC ConnectionFactory 도 같은 방식으로 감싼다.
+ * 컨텍스트가 막 뜬 상태에서는 무엇이 바뀌었는지 모르므로 첫 drain 은 전체 초기화를 요구한다.
+ */
+@Component
+public class DirtyTableTracker implements BeanPostProcessor {
+
+    private static final Pattern WRITE = Pattern.compile(
+            "^\\s*(?:insert\\s+into|update|delete\\s+from|merge\\s+into)\\s+([\\w.\"]+)",
+            Pattern.CASE_INSENSITIVE);
+
+    private final Set<String> dirtyTables = ConcurrentHashMap.newKeySet();
+    private volatile boolean unknown = true;
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof TrackingDataSource)) {
+            return new TrackingDataSource(dataSource);
+        }
+        if (bean instanceof ConnectionFactory connectionFactory && !Proxy.isProxyClass(bean.getClass())) {
+            return trackConnectionFactory(connectionFactory);
+        }
+        return bean;
+    }
+
+    /**
+     * 마지막 drain 이후 변경된 테이블을 꺼낸다. 알 수 없는 상태면 null 을 돌려준다.
+     */
+    public Set<String> drain() {
+        if (unknown) {
+            unknown = false;
+            dirtyTables.clear();
+            return null;
+        }
+        final Set<String> drained = new HashSet<>();
+        for (final String table : dirtyTables) {
+            if (dirtyTables.remove(table)) {
+                drained.add(table);
+            }
+        }
+        return drained;
+    }
+
+    void record(final String sql) {
+        if (sql == null) {
+            return;
+        }
+        final Matcher matcher = WRITE.matcher(sql);
+        if (matcher.find()) {
+            final String qualified = matcher.group(1).replace("\"", "");
+            dirtyTables.add(qualified.substring(qualified.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private final class TrackingDataSource extends DelegatingDataSource {
+
+        private TrackingDataSource(final DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return track(super.getConnection(), Connection.class);
+        }
+
+        @Override
+        public Connection getConnection(final String username, final String password) throws SQLException {
+            return track(super.getConnection(username, password), Connection.class);
+        }
+    }
+
+    private <T> T track(final T target, final Class<T> type) {
+        final InvocationHandler handler = (proxy, method, args) -> {
+            final String name = method.getName();
+            if (args != null && args.length > 0 && args[0] instanceof String sql
+                    && (name.startsWith("prepare") || name.startsWith("execute") || name.equals("addBatch"))) {
+                record(sql);
+            }
+            final Object result = invoke(target, method, args);
+            if (result instanceof Statement statement && name.equals("createStatement")) {
+                return track(statement, Statement.class);
+            }
+            return result;
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private Object trackConnectionFactory(final ConnectionFactory target) {
+        final InvocationHandler handler = (proxy, method, args) -> {
+            final Object result = invoke(target, method, args);
+            if (method.getName().equals("create") && result instanceof Publisher<?> connections) {
+                return Mono.from(connections).map(connection -> trackConnection((io.r2dbc.spi.Connection) connection));
+            }
+            return result;
+        };
+        return Proxy.newProxyInstance(target.getClass().getClassLoader(), ClassUtils.getAllInterfaces(target), handler);
+    }
+
+    private Object trackConnection(final io.r2dbc.spi.Connection target) {
+        final InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().equals("createStatement") && args != null && args[0] instanceof String sql) {
+                record(sql);
+            }
+            return invoke(target, method, args);
+        };
+        return Proxy.newProxyInstance(target.getClass().getClassLoader(), ClassUtils.getAllInterfaces(target), handler);
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.productorderservice;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.test.context.ContextConfigurationAttributes;
+import org.springframework.test.context.ContextCustomizer;
+import org.springframework.test.context.ContextCustomizerFactory;
+import org.springframework.test.context.MergedContextConfiguration;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 병렬 실행 워커(스레드)마다 H2 데이터베이스를 따로 둔다. 동시에 도는 테스트 클래스끼리 ID 나 데이터가 섞이지 않게 하기 위해서다.
+ * 커스터마이저가 워커 번호로 같음을 판단하므로, 설정이 같은 클래스는 같은 워커에서 컨텍스트를 이어 쓰고
+ * 컨텍스트 수는 클래스 수가 아니라 워커 수만큼만 늘어난다.
+ * 워커 하나는 한 번에 클래스 하나만 돌리고, 앞 클래스가 남긴 데이터는 {@link DatabaseCleanup} 이 테스트마다 지운다.
+ */
+class IsolatedDatabaseContextCustomizerFactory implements ContextCustomizerFactory {
+
+    private static final AtomicInteger WORKERS = new AtomicInteger();
+    private static final ThreadLocal<Integer> WORKER = ThreadLocal.withInitial(WORKERS::incrementAndGet);
+
+    @Override
+    public ContextCustomizer createContextCustomizer(
+            final Class<?> testClass, final List<ContextConfigurationAttributes> configAttributes) {
+        if (!AnnotatedElementUtils.hasAnnotation(testClass, SpringBootTest.class)) {
+            return null;
+        }
+        return new IsolatedDatabase("testdb-worker-" + WORKER.get());
+    }
+
+    private record IsolatedDatabase(String databaseName) implements ContextCustomizer {
+
+        @Override
+        public void customizeContext(final ConfigurableApplicationContext context, final MergedContextConfiguration mergedConfig) {
+            TestPropertyValues.of(
+                    "spring.datasource.generate-unique-name=false",
+                    "spring.datasource.name=" + databaseName
+            ).applyTo(context);
+        }
+    }
+}
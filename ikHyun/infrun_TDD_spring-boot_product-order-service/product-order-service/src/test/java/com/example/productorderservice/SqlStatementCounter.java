@@ -0,0 +1,47 @@
+package com.example.productorderservice;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hibernate 가 실행하는 SQL 을 종류별로 센다. 요청은 서버 스레드에서 처리되므로 카운터는 공유한다.
+ */
+@TestComponent
+public class SqlStatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private final AtomicInteger selects = new AtomicInteger();
+    private final AtomicInteger others = new AtomicInteger();
+
+    @Override
+    public void customize(final Map<String, Object> hibernateProperties) {
+        hibernateProperties.put("hibernate.session_factory.statement_inspector", this);
+    }
+
+    @Override
+    public String inspect(final String sql) {
+        if (sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select")) {
+            selects.incrementAndGet();
+        } else {
+            others.incrementAndGet();
+        }
+        return sql;
+    }
+
+    public void reset() {
+        selects.set(0);
+        others.set(0);
+    }
+
+    public int selects() {
+        return selects.get();
+    }
+
+    public int others() {
+        return others.get();
+    }
+}
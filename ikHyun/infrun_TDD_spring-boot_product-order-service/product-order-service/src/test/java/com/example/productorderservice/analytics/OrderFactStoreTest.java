@@ -0,0 +1,110 @@
+package com.example.productorderservice.analytics;
+
+import com.example.productorderservice.order.domain.OrderPaidEvent;
+import com.example.productorderservice.order.domain.OrderPlacedEvent;
+import com.example.productorderservice.product.domain.DiscountPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderFactStoreTest {
+
+    private static final long START_MILLIS = Instant.parse("2026-10-19T00:00:00Z").toEpochMilli();
+    private static final int ROWS = 200_000;
+    private static final long TTL_MILLIS = 600_000L;
+
+    @Test
+    void 여러_조각에_걸친_집계가_행을_하나씩_더한_결과와_같다() {
+        final OrderFactStore store = new OrderFactStore(TTL_MILLIS);
+        final Map<String, long[]> byProduct = new HashMap<>();
+        final Map<String, long[]> byPolicy = new HashMap<>();
+        final Map<String, long[]> byHour = new HashMap<>();
+        final Random random = new Random(42);
+
+        for (int i = 0; i < ROWS; i++) {
+            final long productId = 1 + random.nextInt(50);
+            final int quantity = 1 + random.nextInt(5);
+            final int unitPrice = 1000 * (1 + random.nextInt(10));
+            final int totalPrice = unitPrice * quantity - random.nextInt(1000);
+            final DiscountPolicy policy = DiscountPolicy.values()[random.nextInt(DiscountPolicy.values().length)];
+            final long orderedAt = START_MILLIS + i * 1_000L;
+            store.append(productId, quantity, unitPrice, totalPrice, policy.ordinal(), orderedAt);
+
+            final long[] row = {1, quantity, (long) unitPrice * quantity, totalPrice};
+            add(byProduct, Long.toString(productId), row);
+            add(byPolicy, policy.name(), row);
+            add(byHour, Instant.ofEpochMilli(orderedAt - orderedAt % 3_600_000).toString(), row);
+        }
+
+        assertThat(store.size()).isEqualTo(ROWS);
+        assertThat(totals(store, RevenueGroupBy.PRODUCT, null, null)).usingRecursiveComparison().isEqualTo(byProduct);
+        assertThat(totals(store, RevenueGroupBy.DISCOUNT_POLICY, null, null)).usingRecursiveComparison().isEqualTo(byPolicy);
+        assertThat(totals(store, RevenueGroupBy.HOUR, null, null)).usingRecursiveComparison().isEqualTo(byHour);
+    }
+
+    @Test
+    void 기간_밖의_주문은_세지_않는다() {
+        final OrderFactStore store = new OrderFactStore(TTL_MILLIS);
+        for (int hour = 0; hour < 10; hour++) {
+            store.append(1L, 1, 1000, 1000, DiscountPolicy.NONE.ordinal(), START_MILLIS + hour * 3_600_000L);
+        }
+
+        final Map<String, long[]> totals = totals(store, RevenueGroupBy.PRODUCT,
+                Instant.parse("2026-10-19T02:00:00Z"), Instant.parse("2026-10-19T05:00:00Z"));
+
+        assertThat(totals.get("1")[RevenueTotals.ORDERS]).isEqualTo(3);
+    }
+
+    @Test
+    void 결제된_주문만_쌓는다() {
+        final OrderFactStore store = new OrderFactStore(TTL_MILLIS);
+        store.on(new OrderPlacedEvent(1L, 1L, 2, 1000, 2000, DiscountPolicy.NONE, START_MILLIS));
+        store.on(new OrderPlacedEvent(2L, 1L, 1, 1000, 1000, DiscountPolicy.NONE, START_MILLIS));
+
+        store.on(new OrderPaidEvent(1L));
+        store.on(new OrderPaidEvent(1L));
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.unpaid()).isEqualTo(1);
+        assertThat(totals(store, RevenueGroupBy.PRODUCT, null, null).get("1")[RevenueTotals.REVENUE]).isEqualTo(2000);
+    }
+
+    @Test
+    void 예약이_만료될_만큼_오래된_결제_대기는_버린다() {
+        final OrderFactStore store = new OrderFactStore(TTL_MILLIS);
+        final long now = System.currentTimeMillis();
+        store.on(new OrderPlacedEvent(1L, 1L, 1, 1000, 1000, DiscountPolicy.NONE, now - 3 * TTL_MILLIS));
+        for (long orderId = 2; orderId <= 1024; orderId++) {
+            store.on(new OrderPlacedEvent(orderId, 1L, 1, 1000, 1000, DiscountPolicy.NONE, now));
+        }
+
+        store.on(new OrderPaidEvent(1L));
+
+        assertThat(store.unpaid()).isEqualTo(1023);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void 비어_있으면_묶음이_없다() {
+        assertThat(new OrderFactStore(TTL_MILLIS).aggregate(RevenueGroupBy.HOUR, null, null).size()).isZero();
+    }
+
+    private static void add(final Map<String, long[]> totals, final String key, final long[] row) {
+        final long[] sums = totals.computeIfAbsent(key, ignored -> new long[4]);
+        for (int i = 0; i < row.length; i++) {
+            sums[i] += row[i];
+        }
+    }
+
+    private static Map<String, long[]> totals(final OrderFactStore store, final RevenueGroupBy groupBy,
+                                              final Instant from, final Instant to) {
+        final Map<String, long[]> result = new HashMap<>();
+        store.aggregate(groupBy, from, to).forEach((key, sums) -> result.put(groupBy.label(key), sums));
+        return result;
+    }
+}
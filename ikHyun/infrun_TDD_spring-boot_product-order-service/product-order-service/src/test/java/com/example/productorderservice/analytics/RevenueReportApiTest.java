@@ -0,0 +1,90 @@
+package com.example.productorderservice.analytics;
+
+import com.example.productorderservice.ApiTest;
+import com.example.productorderservice.order.OrderSteps;
+import com.example.productorderservice.order.application.service.CreateOrderRequest;
+import com.example.productorderservice.payment.PaymentSteps;
+import com.example.productorderservice.payment.application.service.PaymentRequest;
+import com.example.productorderservice.product.ProductSteps;
+import com.example.productorderservice.product.application.service.AddProductRequest;
+import com.example.productorderservice.product.domain.DiscountPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevenueReportApiTest extends ApiTest {
+
+    @BeforeEach
+    void 주문() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        ProductSteps.상품등록요청(new AddProductRequest("할인상품", 3000, DiscountPolicy.FIX_1000_AMOUNT, List.of(), 100));
+        OrderSteps.상품주문요청(new CreateOrderRequest(1L, 2));
+        OrderSteps.상품주문요청(new CreateOrderRequest(1L, 1));
+        OrderSteps.상품주문요청(new CreateOrderRequest(2L, 1));
+        for (long orderId = 1; orderId <= 3; orderId++) {
+            PaymentSteps.주문결제요청(new PaymentRequest(orderId, "1234-1234-1234-1234"));
+        }
+    }
+
+    @Test
+    void 상품별_매출() {
+        final var response = RevenueReportSteps.매출보고서요청("product");
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getLong("orders")).isEqualTo(3);
+        assertThat(response.jsonPath().getLong("revenue")).isEqualTo(5000);
+        assertThat(response.jsonPath().getList("rows.key", String.class)).containsExactly("1", "2");
+        assertThat(response.jsonPath().getList("rows.quantity", Long.class)).containsExactly(3L, 1L);
+        assertThat(response.jsonPath().getList("rows.grossRevenue", Long.class)).containsExactly(3000L, 3000L);
+        assertThat(response.jsonPath().getList("rows.revenue", Long.class)).containsExactly(3000L, 2000L);
+    }
+
+    @Test
+    void 할인정책별_매출() {
+        final var response = RevenueReportSteps.매출보고서요청("discount-policy");
+
+        assertThat(response.jsonPath().getList("rows.key", String.class)).containsExactly("NONE", "FIX_1000_AMOUNT");
+        assertThat(response.jsonPath().getList("rows.orders", Long.class)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 시간대별_매출은_기간으로_거른다() {
+        final Instant now = Instant.now();
+
+        final var all = RevenueReportSteps.매출보고서요청(Map.of("groupBy", "hour",
+                "from", now.minus(1, ChronoUnit.HOURS).toString(), "to", now.plus(1, ChronoUnit.HOURS).toString()));
+        final var before = RevenueReportSteps.매출보고서요청(Map.of("groupBy", "hour",
+                "to", now.minus(1, ChronoUnit.HOURS).toString()));
+
+        assertThat(all.jsonPath().getLong("orders")).isEqualTo(3);
+        assertThat(all.jsonPath().getList("rows.key", String.class)).allMatch(key -> key.endsWith(":00:00Z"));
+        assertThat(before.jsonPath().getLong("orders")).isZero();
+        assertThat(before.jsonPath().getList("rows")).isEmpty();
+    }
+
+    @Test
+    void 롤백된_주문은_매출에_넣지_않는다() {
+        final var rejected = OrderSteps.상품주문요청(new CreateOrderRequest(1L, 1_000));
+
+        final var response = RevenueReportSteps.매출보고서요청("product");
+
+        assertThat(rejected.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+        assertThat(response.jsonPath().getLong("orders")).isEqualTo(3);
+    }
+
+    @Test
+    void 결제하지_않은_주문은_매출에_넣지_않는다() {
+        OrderSteps.상품주문요청(new CreateOrderRequest(1L, 1));
+
+        final var response = RevenueReportSteps.매출보고서요청("product");
+
+        assertThat(response.jsonPath().getLong("orders")).isEqualTo(3);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.productorderservice.analytics;
+
+import com.example.productorderservice.ApiTest;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+
+import java.util.Map;
+
+public class RevenueReportSteps {
+
+    public static ExtractableResponse<Response> 매출보고서요청(final String groupBy) {
+        return 매출보고서요청(Map.of("groupBy", groupBy));
+    }
+
+    public static ExtractableResponse<Response> 매출보고서요청(final Map<String, ?> parameters) {
+        return ApiTest.given().log().all()
+                .queryParams(parameters)
+                .when()
+                .get("/reports/revenue")
+                .then().log().all()
+                .extract();
+    }
+}
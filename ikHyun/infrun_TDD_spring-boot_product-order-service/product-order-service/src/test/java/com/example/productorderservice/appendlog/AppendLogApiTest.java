@@ -0,0 +1,50 @@
+package com.example.productorderservice.appendlog;
+
+import com.example.productorderservice.ApiTest;
+import com.example.productorderservice.order.OrderSteps;
+import com.example.productorderservice.order.application.service.CreateOrderRequest;
+import com.example.productorderservice.order.domain.OrderStatus;
+import com.example.productorderservice.payment.PaymentSteps;
+import com.example.productorderservice.product.ProductSteps;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("append-log")
+@TestPropertySource(properties = "append-log.directory=${java.io.tmpdir}/product-order-service/append-log-api-test")
+class AppendLogApiTest extends ApiTest {
+
+    @Autowired
+    private AppendLogStore appendLogStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 주문과_결제를_로그에_저장한다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        OrderSteps.상품주문요청(OrderSteps.상품주문요청_생성());
+
+        final var response = PaymentSteps.주문결제요청(PaymentSteps.주문결제요청_생성());
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(appendLogStore.findOrder(1L).status()).isEqualTo(OrderStatus.PAID);
+        assertThat(appendLogStore.findPayment(1L).price()).isEqualTo(2000);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Integer.class)).isZero();
+    }
+
+    @Test
+    void 재고가_부족해서_롤백된_주문은_로그에_남지_않는다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+
+        final var response = OrderSteps.상품주문요청(new CreateOrderRequest(1L, 1_000));
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+        assertThat(appendLogStore.findOrder(1L)).isNull();
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.productorderservice.appendlog;
+
+import com.example.productorderservice.order.domain.OrderStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AppendLogStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 재시작하면_로그를_재생해서_마지막_상태와_ID_를_복원한다() {
+        final AppendLogStore store = open(4096);
+        final long orderId = store.nextOrderId();
+        store.saveOrder(order(orderId, OrderStatus.ORDERED));
+        store.markPaid(orderId);
+        store.savePayment(new PaymentRecord(store.nextPaymentId(), orderId, 2000, "1234-1234-1234-1234"));
+        store.destroy();
+
+        final AppendLogStore restarted = open(4096);
+
+        assertThat(restarted.findOrder(orderId).status()).isEqualTo(OrderStatus.PAID);
+        assertThat(restarted.findPayment(1L).cardNumber()).isEqualTo("1234-1234-1234-1234");
+        assertThat(restarted.nextOrderId()).isEqualTo(orderId + 1);
+    }
+
+    @Test
+    void 이미_결제된_주문은_다시_결제_완료로_바꿀_수_없다() {
+        final AppendLogStore store = open(4096);
+        store.saveOrder(order(store.nextOrderId(), OrderStatus.ORDERED));
+
+        assertThat(store.markPaid(1L)).isTrue();
+        assertThat(store.markPaid(1L)).isFalse();
+    }
+
+    @Test
+    void 세그먼트가_쌓이면_최신_상태만_남기고_압축한다() {
+        final AppendLogStore store = open(256);
+        final long orderId = store.nextOrderId();
+        for (int i = 0; i < 100; i++) {
+            store.saveOrder(order(orderId, i % 2 == 0 ? OrderStatus.ORDERED : OrderStatus.PAID));
+        }
+
+        assertThat(store.segmentCount()).isLessThanOrEqualTo(4);
+        store.destroy();
+        final AppendLogStore restarted = open(256);
+        assertThat(restarted.findOrder(orderId).status()).isEqualTo(OrderStatus.PAID);
+    }
+
+    private AppendLogStore open(final int segmentBytes) {
+        return new AppendLogStore(directory, segmentBytes, 4, false);
+    }
+
+    private static OrderRecord order(final long id, final OrderStatus status) {
+        return new OrderRecord(id, 1L, 2, 1000, 0, 2000, status);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.productorderservice.appendlog;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SegmentLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 다시_열면_쓴_순서대로_재생한다() {
+        final SegmentLog log = open(1024);
+        replay(log);
+        log.append((byte) 1, "첫번째".getBytes(UTF_8));
+        log.append((byte) 2, "두번째".getBytes(UTF_8));
+        log.close();
+
+        assertThat(replay(open(1024))).containsExactly("1:첫번째", "2:두번째");
+    }
+
+    @Test
+    void 세그먼트가_차면_다음_파일로_넘어간다() {
+        final SegmentLog log = open(64);
+        replay(log);
+        for (int i = 0; i < 10; i++) {
+            log.append((byte) 1, ("record-" + i).getBytes(UTF_8));
+        }
+        log.close();
+
+        final SegmentLog reopened = open(64);
+        assertThat(replay(reopened)).hasSize(10).last().isEqualTo("1:record-9");
+        assertThat(reopened.segmentCount()).isGreaterThan(1);
+    }
+
+    @Test
+    void 체크섬이_맞지_않는_레코드부터는_버리고_그_자리에_이어_쓴다() throws IOException {
+        final SegmentLog log = open(1024);
+        replay(log);
+        log.append((byte) 1, "정상".getBytes(UTF_8));
+        log.append((byte) 1, "손상".getBytes(UTF_8));
+        log.close();
+        corruptLastByteOf("손상".getBytes(UTF_8).length);
+
+        final SegmentLog reopened = open(1024);
+        assertThat(replay(reopened)).containsExactly("1:정상");
+        reopened.append((byte) 1, "복구".getBytes(UTF_8));
+        reopened.close();
+
+        assertThat(replay(open(1024))).containsExactly("1:정상", "1:복구");
+    }
+
+    @Test
+    void 압축하면_다시_쓴_레코드만_남는다() {
+        final SegmentLog log = open(64);
+        replay(log);
+        for (int i = 0; i < 10; i++) {
+            log.append((byte) 1, ("old-" + i).getBytes(UTF_8));
+        }
+
+        log.compact(() -> log.append((byte) 1, "live".getBytes(UTF_8)));
+        log.close();
+
+        final SegmentLog reopened = open(64);
+        assertThat(replay(reopened)).containsExactly("1:live");
+        assertThat(reopened.segmentCount()).isEqualTo(1);
+    }
+
+    private SegmentLog open(final int segmentBytes) {
+        return new SegmentLog(directory, segmentBytes, false);
+    }
+
+    private static List<String> replay(final SegmentLog log) {
+        final List<String> records = new ArrayList<>();
+        log.replay((type, payload) -> {
+            final byte[] bytes = new byte[payload.remaining()];
+            payload.get(bytes);
+            records.add(type + ":" + new String(bytes, UTF_8));
+        });
+        return records;
+    }
+
+    private void corruptLastByteOf(final int secondPayloadLength) throws IOException {
+        final Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.sorted().findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final int firstRecord = SegmentLog.HEADER_BYTES + "정상".getBytes(UTF_8).length;
+            final int position = firstRecord + SegmentLog.HEADER_BYTES + secondPayloadLength - 1;
+            channel.write(ByteBuffer.wrap(new byte[]{0x7f}), position);
+        }
+    }
+}
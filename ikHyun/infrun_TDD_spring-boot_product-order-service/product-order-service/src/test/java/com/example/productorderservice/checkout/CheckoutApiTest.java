@@ -0,0 +1,92 @@
+package com.example.productorderservice.checkout;
+
+import com.example.productorderservice.ApiTest;
+import com.example.productorderservice.SqlStatementCounter;
+import com.example.productorderservice.analytics.RevenueReportSteps;
+import com.example.productorderservice.checkout.application.service.CheckoutRequest;
+import com.example.productorderservice.inventory.adapter.InventoryAdapter;
+import com.example.productorderservice.payment.PaymentSteps;
+import com.example.productorderservice.payment.adapter.DecliningPaymentGatewayConfiguration;
+import com.example.productorderservice.payment.adapter.FakePaymentGateway;
+import com.example.productorderservice.payment.application.service.PaymentRequest;
+import com.example.productorderservice.product.ProductSteps;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(DecliningPaymentGatewayConfiguration.class)
+class CheckoutApiTest extends ApiTest {
+
+    @Autowired
+    private InventoryAdapter inventoryAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Test
+    void 주문과_결제를_한_번에_처리한다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+
+        final var response = CheckoutSteps.주문결제요청(CheckoutSteps.주문결제요청_생성());
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(response.header(HttpHeaders.LOCATION)).endsWith("/orders/1");
+        assertThat(response.jsonPath().getLong("orderId")).isEqualTo(1L);
+        assertThat(response.jsonPath().getInt("totalPrice")).isEqualTo(2000);
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM orders WHERE id = 1", String.class)).isEqualTo("PAID");
+        assertThat(jdbcTemplate.queryForObject("SELECT price FROM payments WHERE order_id = 1", Integer.class)).isEqualTo(2000);
+        assertThat(inventoryAdapter.availableStock(1L)).isEqualTo(98);
+    }
+
+    @Test
+    void 결제_금액은_주문을_다시_읽지_않고_쓴다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        sqlStatementCounter.reset();
+
+        CheckoutSteps.주문결제요청(CheckoutSteps.주문결제요청_생성());
+
+        assertThat(sqlStatementCounter.selects()).isEqualTo(1);
+    }
+
+    @Test
+    void 결제가_거절되면_주문을_실패로_닫고_재고를_되돌린다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+
+        final var response = CheckoutSteps.주문결제요청(new CheckoutRequest(1L, 2, FakePaymentGateway.DECLINED_CARD_NUMBER));
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.PAYMENT_REQUIRED.value());
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM orders WHERE id = 1", String.class)).isEqualTo("FAILED");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payments", Integer.class)).isZero();
+        assertThat(inventoryAdapter.availableStock(1L)).isEqualTo(100);
+    }
+
+    @Test
+    void 실패한_주문은_다시_결제할_수_없다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        CheckoutSteps.주문결제요청(new CheckoutRequest(1L, 2, FakePaymentGateway.DECLINED_CARD_NUMBER));
+
+        final var response = PaymentSteps.주문결제요청(new PaymentRequest(1L, "1234-1234-1234-1234"));
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+    }
+
+    @Test
+    void 거절된_주문은_매출에_넣지_않는다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        CheckoutSteps.주문결제요청(CheckoutSteps.주문결제요청_생성());
+        CheckoutSteps.주문결제요청(new CheckoutRequest(1L, 2, FakePaymentGateway.DECLINED_CARD_NUMBER));
+
+        final var response = RevenueReportSteps.매출보고서요청("product");
+
+        assertThat(response.jsonPath().getLong("orders")).isEqualTo(1);
+        assertThat(response.jsonPath().getLong("revenue")).isEqualTo(2000);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.productorderservice.checkout;
+
+import com.example.productorderservice.ApiTest;
+import com.example.productorderservice.checkout.application.service.CheckoutRequest;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.springframework.http.MediaType;
+
+public class CheckoutSteps {
+
+    public static CheckoutRequest 주문결제요청_생성() {
+        final Long productId = 1L;
+        final int quantity = 2;
+        final String cardNumber = "1234-1234-1234-1234";
+        return new CheckoutRequest(productId, quantity, cardNumber);
+    }
+
+    public static ExtractableResponse<Response> 주문결제요청(final CheckoutRequest request) {
+        return ApiTest.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(request)
+                .when()
+                .post("/checkout")
+                .then().log().all()
+                .extract();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.productorderservice.checkout;
+
+import com.example.productorderservice.ApiTest;
+import com.example.productorderservice.inventory.adapter.InventoryAdapter;
+import com.example.productorderservice.payment.PaymentSteps;
+import com.example.productorderservice.payment.adapter.FaultInjectingPaymentGateway;
+import com.example.productorderservice.payment.application.service.PaymentRequest;
+import com.example.productorderservice.product.ProductSteps;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(CheckoutTimeoutApiTest.SlowPaymentGatewayConfiguration.class)
+@TestPropertySource(properties = {
+        "payment.resilience.timeout-ms=100",
+        "payment.resilience.hedge-enabled=false"
+})
+class CheckoutTimeoutApiTest extends ApiTest {
+
+    @Autowired
+    private FaultInjectingPaymentGateway paymentGateway;
+
+    @Autowired
+    private InventoryAdapter inventoryAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 응답_시간이_초과된_주문은_실패로_닫지_않고_같은_카드로_다시_결제한다() throws InterruptedException {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        paymentGateway.slowNextCalls(1, 500);
+
+        final var timedOut = CheckoutSteps.주문결제요청(CheckoutSteps.주문결제요청_생성());
+
+        assertThat(timedOut.statusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM orders WHERE id = 1", String.class)).isEqualTo("ORDERED");
+        assertThat(inventoryAdapter.availableStock(1L)).isEqualTo(98);
+
+        // 제한 시간이 지난 요청도 PG 에서는 승인된다.
+        for (int i = 0; i < 100 && paymentGateway.charges() == 0; i++) {
+            Thread.sleep(10);
+        }
+        final var retried = PaymentSteps.주문결제요청(new PaymentRequest(1L, CheckoutSteps.주문결제요청_생성().cardNumber()));
+
+        assertThat(retried.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(paymentGateway.charges()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM orders WHERE id = 1", String.class)).isEqualTo("PAID");
+    }
+
+    @TestConfiguration
+    static class SlowPaymentGatewayConfiguration {
+
+        @Bean
+        @Primary
+        FaultInjectingPaymentGateway faultInjectingPaymentGateway() {
+            return new FaultInjectingPaymentGateway();
+        }
+    }
+}
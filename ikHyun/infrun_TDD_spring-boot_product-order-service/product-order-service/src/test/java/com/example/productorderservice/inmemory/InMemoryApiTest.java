@@ -0,0 +1,90 @@
+package com.example.productorderservice.inmemory;
+
+import com.example.productorderservice.ApiTest;
+import com.example.productorderservice.order.OrderSteps;
+import com.example.productorderservice.order.application.service.CreateOrderRequest;
+import com.example.productorderservice.order.domain.OrderStatus;
+import com.example.productorderservice.payment.PaymentSteps;
+import com.example.productorderservice.product.ProductSteps;
+import com.example.productorderservice.product.application.service.UpdateProductRequest;
+import com.example.productorderservice.product.domain.DiscountPolicy;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("in-memory")
+class InMemoryApiTest extends ApiTest {
+
+    @Autowired
+    private InMemoryStore inMemoryStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 상품_주문_결제를_메모리에만_저장한다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        OrderSteps.상품주문요청(OrderSteps.상품주문요청_생성());
+
+        final var response = PaymentSteps.주문결제요청(PaymentSteps.주문결제요청_생성());
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(ProductSteps.상품조회요청(1L).jsonPath().getString("name")).isEqualTo("상품명");
+        assertThat(inMemoryStore.findOrder(1L).getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(inMemoryStore.findPayment(1L).getPrice()).isEqualTo(2000);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Integer.class)).isZero();
+    }
+
+    @Test
+    void 이미_결제된_주문은_다시_결제할_수_없다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        OrderSteps.상품주문요청(OrderSteps.상품주문요청_생성());
+        PaymentSteps.주문결제요청(PaymentSteps.주문결제요청_생성());
+
+        final var response = PaymentSteps.주문결제요청(PaymentSteps.주문결제요청_생성());
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+    }
+
+    @Test
+    void 재고가_부족해서_롤백된_주문은_남지_않는다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+
+        final var response = OrderSteps.상품주문요청(new CreateOrderRequest(1L, 1_000));
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+        assertThat(inMemoryStore.findOrder(1L)).isNull();
+    }
+
+    @Test
+    void 이전_버전으로_상품수정하면_실패한다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        final String staleETag = ProductSteps.상품조회요청(1L).header(HttpHeaders.ETAG);
+        assertThat(상품수정요청(staleETag).statusCode()).isEqualTo(HttpStatus.OK.value());
+
+        final ExtractableResponse<Response> response = 상품수정요청(staleETag);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED.value());
+        assertThat(ProductSteps.상품조회요청(1L).jsonPath().getString("name")).isEqualTo("상품 수정");
+    }
+
+    private static ExtractableResponse<Response> 상품수정요청(final String eTag) {
+        return ApiTest.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .body(new UpdateProductRequest("상품 수정", 2000, DiscountPolicy.NONE))
+                .when()
+                .patch("/products/{productId}", 1L)
+                .then()
+                .log().all().extract();
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.productorderservice.inmemory;
+
+import com.example.productorderservice.product.domain.DiscountPolicy;
+import com.example.productorderservice.product.domain.Product;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 N 개(기본 백만 개)를 들고 있을 때 늘어나는 힙을 비교해서 출력한다.
+ * <ul>
+ *     <li>inMemoryStore: in-memory 프로필이 쓰는 {@link InMemoryStore}</li>
+ *     <li>hashMap: 기준선인 {@code HashMap<Long, Product>}</li>
+ *     <li>h2: JPA 어댑터가 쓰는 것과 같은 products 테이블을 메모리 H2 에 둔 경우</li>
+ * </ul>
+ * 기본 test 태스크에서는 빠지고 ./gradlew loadTest --tests '*ProductFootprintTest' -Dload.products=1000000 로 돌린다.
+ */
+@Tag("load")
+class ProductFootprintTest {
+
+    private final int count = Integer.getInteger("load.products", 1_000_000);
+
+    @Test
+    void 상품_저장소별_메모리_사용량을_비교한다() throws SQLException {
+        final long inMemoryStore = measure(() -> {
+            final InMemoryStore store = new InMemoryStore();
+            for (int i = 1; i <= count; i++) {
+                store.saveProduct(product(i));
+            }
+            assertThat(store.findProduct(count)).isNotNull();
+            return store;
+        });
+
+        final long hashMap = measure(() -> {
+            final Map<Long, Product> map = new HashMap<>();
+            for (long id = 1; id <= count; id++) {
+                map.put(id, product(id));
+            }
+            assertThat(map).hasSize(count);
+            return map;
+        });
+
+        final long h2;
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:product-footprint")) {
+            h2 = measure(() -> {
+                insertProducts(connection);
+                return connection;
+            });
+        }
+
+        System.out.printf("%,d products%n", count);
+        print("inMemoryStore", inMemoryStore);
+        print("hashMap", hashMap);
+        print("h2", h2);
+    }
+
+    private void insertProducts(final Connection connection) {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE products (id BIGINT PRIMARY KEY, name VARCHAR(255), price INT, "
+                    + "discount_policy INT, discount_rules VARCHAR(4000), stock INT, version BIGINT)");
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO products VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+                for (int i = 1; i <= count; i++) {
+                    insert.setLong(1, i);
+                    insert.setString(2, "상품" + i);
+                    insert.setInt(3, 1000 + i % 1000);
+                    insert.setInt(4, DiscountPolicy.NONE.ordinal());
+                    insert.setString(5, "[]");
+                    insert.setInt(6, 100);
+                    insert.setLong(7, 0L);
+                    insert.addBatch();
+                    if (i % 10_000 == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Product product(final long id) {
+        return new Product("상품" + id, 1000 + (int) (id % 1000), DiscountPolicy.NONE);
+    }
+
+    private void print(final String name, final long bytes) {
+        System.out.printf("%-14s %,8.1f MB  %,6.1f B/product%n", name, bytes / 1024.0 / 1024.0, (double) bytes / count);
+    }
+
+    /**
+     * 채우기 전후의 사용 힙 차이. 결과를 붙잡고 있는 동안 잰다.
+     */
+    private static long measure(final Filler filler) throws SQLException {
+        final long before = usedHeap();
+        final Object retained = filler.fill();
+        final long after = usedHeap();
+        assertThat(retained).isNotNull();
+        return after - before;
+    }
+
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @FunctionalInterface
+    private interface Filler {
+        Object fill() throws SQLException;
+    }
+}
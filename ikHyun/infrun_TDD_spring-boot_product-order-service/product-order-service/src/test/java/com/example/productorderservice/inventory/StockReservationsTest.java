@@ -0,0 +1,137 @@
+package com.example.productorderservice.inventory;
+
+import com.example.productorderservice.inventory.domain.OutOfStockException;
+import com.example.productorderservice.inventory.domain.StockReservations;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StockReservationsTest {
+
+    private static final long PRODUCT_ID = 1L;
+
+    private final AtomicLong now = new AtomicLong();
+    private final StockReservations reservations = new StockReservations(productId -> 10, 1_000, now::get);
+
+    @Test
+    void 재고가_부족하면_예약할_수_없다() {
+        reservations.reserve(1L, PRODUCT_ID, 7);
+
+        assertThatThrownBy(() -> reservations.reserve(2L, PRODUCT_ID, 4)).isInstanceOf(OutOfStockException.class);
+        assertThat(reservations.availableStock(PRODUCT_ID)).isEqualTo(3);
+    }
+
+    @Test
+    void 확정된_예약은_DB_반영_대상이_된다() {
+        reservations.reserve(1L, PRODUCT_ID, 3);
+
+        reservations.confirm(1L);
+
+        assertThat(reservations.availableStock(PRODUCT_ID)).isEqualTo(7);
+        assertThat(reservations.drainChanges()).isEqualTo(Map.of(PRODUCT_ID, -3));
+        assertThat(reservations.drainChanges()).isEmpty();
+    }
+
+    @Test
+    void 꺼낸_예약을_되돌리면_다시_확정할_수_있다() {
+        reservations.reserve(1L, PRODUCT_ID, 3);
+
+        reservations.restore(reservations.claim(1L));
+
+        assertThat(reservations.availableStock(PRODUCT_ID)).isEqualTo(7);
+        assertThat(reservations.drainChanges()).isEmpty();
+        reservations.confirm(1L);
+        assertThat(reservations.drainChanges()).isEqualTo(Map.of(PRODUCT_ID, -3));
+    }
+
+    @Test
+    void 만료된_예약은_재고를_돌려놓고_확정할_수_없다() {
+        reservations.reserve(1L, PRODUCT_ID, 3);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        assertThat(reservations.expire()).isEqualTo(1);
+        assertThat(reservations.availableStock(PRODUCT_ID)).isEqualTo(10);
+        assertThatThrownBy(() -> reservations.confirm(1L)).isInstanceOf(OutOfStockException.class);
+    }
+
+    @Test
+    void 확정된_예약은_만료되지_않는다() {
+        reservations.reserve(1L, PRODUCT_ID, 3);
+        reservations.confirm(1L);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        assertThat(reservations.expire()).isZero();
+        assertThat(reservations.availableStock(PRODUCT_ID)).isEqualTo(7);
+    }
+
+    @Test
+    void 처리가_끝난_예약은_만료_전에도_큐에서_치운다() {
+        reservations.reserve(1L, PRODUCT_ID, 1);
+        reservations.reserve(2L, PRODUCT_ID, 1);
+        reservations.confirm(1L);
+        reservations.release(2L);
+
+        assertThat(reservations.expire()).isZero();
+        assertThat(reservations.pendingExpirations()).isZero();
+    }
+
+    @Test
+    void 취소된_예약은_재고를_돌려놓는다() {
+        reservations.reserve(1L, PRODUCT_ID, 3);
+
+        reservations.release(1L);
+
+        assertThat(reservations.availableStock(PRODUCT_ID)).isEqualTo(10);
+        assertThat(reservations.drainChanges()).isEmpty();
+    }
+
+    @Test
+    void 스레드_64개가_동시에_예약해도_초과_판매하지_않는다() throws Exception {
+        final int stock = 10_000;
+        final StockReservations flashSale = new StockReservations(productId -> stock, 60_000);
+        final int threads = 64;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicLong orderIds = new AtomicLong();
+        final List<Future<Integer>> results = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                int reserved = 0;
+                for (int i = 0; i < 1_000; i++) {
+                    final int quantity = ThreadLocalRandom.current().nextInt(1, 4);
+                    try {
+                        flashSale.reserve(orderIds.incrementAndGet(), PRODUCT_ID, quantity);
+                        reserved += quantity;
+                    } catch (OutOfStockException ignored) {
+                    }
+                }
+                return reserved;
+            }));
+        }
+        start.countDown();
+
+        int totalReserved = 0;
+        for (final Future<Integer> result : results) {
+            totalReserved += result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(totalReserved).isLessThanOrEqualTo(stock);
+        assertThat(flashSale.availableStock(PRODUCT_ID)).isGreaterThanOrEqualTo(0);
+        assertThat(totalReserved + flashSale.availableStock(PRODUCT_ID)).isEqualTo(stock);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.productorderservice.load;
+
+import com.example.productorderservice.ApiTest;
+import com.example.productorderservice.checkout.CheckoutSteps;
+import com.example.productorderservice.checkout.application.service.CheckoutRequest;
+import com.example.productorderservice.order.OrderSteps;
+import com.example.productorderservice.order.application.service.CreateOrderRequest;
+import com.example.productorderservice.payment.PaymentSteps;
+import com.example.productorderservice.payment.application.service.PaymentRequest;
+import com.example.productorderservice.product.ProductSteps;
+import com.example.productorderservice.product.application.service.AddProductRequest;
+import com.example.productorderservice.product.domain.DiscountPolicy;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.LogConfig;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 → 결제를 두 번의 요청(POST /orders, POST /payments)으로 할 때와 POST /checkout 한 번으로 할 때의 종단 지연 시간을 비교한다.
+ * 같은 사용자 수로 차례로 돌리고 시나리오 전체의 p50/p99 를 나란히 출력한다.
+ * 기본 test 태스크에서는 빠지고 ./gradlew loadTest --tests '*CheckoutLoadTest' 로 돌린다.
+ */
+@Tag("load")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+class CheckoutLoadTest extends ApiTest {
+
+    private static final int PRODUCTS = 10;
+    private static final String CARD_NUMBER = "1234-1234-1234-1234";
+
+    private final Duration duration = Duration.ofSeconds(Long.getLong("load.duration-seconds", 10));
+    private final int users = Integer.getInteger("load.users", 4);
+
+    @LocalServerPort
+    private int port;
+
+    private LoadGenerator loadGenerator;
+
+    @BeforeEach
+    void seed() {
+        for (int i = 1; i <= PRODUCTS; i++) {
+            ProductSteps.상품등록요청(new AddProductRequest("상품" + i, 1000 * i, DiscountPolicy.NONE, List.of(), 10_000_000));
+        }
+        final RequestSpecification quiet = new RequestSpecBuilder()
+                .setPort(port)
+                .setConfig(RestAssured.config().logConfig(
+                        LogConfig.logConfig().defaultStream(new PrintStream(OutputStream.nullOutputStream()))))
+                .build();
+        loadGenerator = new LoadGenerator(quiet);
+    }
+
+    @Test
+    void 두_번_요청과_한_번_요청의_지연_시간() throws InterruptedException {
+        final LoadReport twoCalls = loadGenerator.closedLoop("orders+payments", users, Duration.ZERO, duration, this::주문후결제);
+        final LoadReport checkout = loadGenerator.closedLoop("checkout", users, Duration.ZERO, duration, this::한번에주문결제);
+
+        System.out.println(twoCalls.format());
+        System.out.println(checkout.format());
+        System.out.printf("[checkout] p50 %.2f ms vs %.2f ms, p99 %.2f ms vs %.2f ms (orders+payments vs checkout)%n",
+                twoCalls.percentileMillis(LoadReport.SCENARIO, 50), checkout.percentileMillis(LoadReport.SCENARIO, 50),
+                twoCalls.percentileMillis(LoadReport.SCENARIO, 99), checkout.percentileMillis(LoadReport.SCENARIO, 99));
+        assertThat(twoCalls.totalErrors()).isZero();
+        assertThat(checkout.totalErrors()).isZero();
+    }
+
+    private void 주문후결제(final LoadGenerator.Steps steps) {
+        final long productId = ThreadLocalRandom.current().nextLong(1, PRODUCTS + 1);
+        final ExtractableResponse<Response> order = steps.step("주문",
+                () -> expect(OrderSteps.상품주문요청(new CreateOrderRequest(productId, 1)), HttpStatus.CREATED));
+        final String location = order.header("Location");
+        final Long orderId = Long.valueOf(location.substring(location.lastIndexOf('/') + 1));
+        steps.step("결제", () -> expect(PaymentSteps.주문결제요청(new PaymentRequest(orderId, CARD_NUMBER)), HttpStatus.OK));
+    }
+
+    private void 한번에주문결제(final LoadGenerator.Steps steps) {
+        final long productId = ThreadLocalRandom.current().nextLong(1, PRODUCTS + 1);
+        steps.step("주문결제",
+                () -> expect(CheckoutSteps.주문결제요청(new CheckoutRequest(productId, 1, CARD_NUMBER)), HttpStatus.CREATED));
+    }
+
+    private static ExtractableResponse<Response> expect(final ExtractableResponse<Response> response, final HttpStatus status) {
+        assertThat(response.statusCode()).isEqualTo(status.value());
+        return response;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.productorderservice.load;
+
+import com.example.productorderservice.ApiTest;
+import io.restassured.specification.RequestSpecification;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Step 클래스를 그대로 써서 시나리오를 여러 스레드로 반복 실행한다.
+ * <ul>
+ *     <li>closed-loop: 가상 사용자 N 명이 pacing 간격마다 한 번씩 시나리오를 돈다.</li>
+ *     <li>open-loop: 응답과 상관없이 초당 rate 건씩 시나리오를 시작한다.</li>
+ * </ul>
+ * 두 방식 모두 지연 시간을 "실제로 보낸 시각"이 아니라 "보냈어야 할 시각"부터 잰다.
+ * 서버가 밀려서 요청이 늦게 나간 시간까지 포함되므로 coordinated omission 이 보정된다.
+ */
+public class LoadGenerator {
+
+    private final RequestSpecification requestSpec;
+
+    public LoadGenerator(final RequestSpecification requestSpec) {
+        this.requestSpec = requestSpec;
+    }
+
+    @FunctionalInterface
+    public interface Scenario {
+        void run(Steps steps);
+    }
+
+    /**
+     * 시나리오 안의 단계를 감싸 단계별 지연 시간을 기록한다.
+     * 첫 단계는 예정 시각부터, 이후 단계는 앞 단계가 끝난 시각부터 잰다.
+     */
+    public static final class Steps {
+        private final LoadReport report;
+        private long nextStart;
+
+        private Steps(final LoadReport report, final long intendedStart) {
+            this.report = report;
+            this.nextStart = intendedStart;
+        }
+
+        public <T> T step(final String name, final Supplier<T> call) {
+            final long startedAt = nextStart;
+            try {
+                return call.get();
+            } catch (RuntimeException | AssertionError e) {
+                report.recordError(name);
+                throw e;
+            } finally {
+                final long endedAt = System.nanoTime();
+                report.record(name, endedAt - startedAt);
+                nextStart = endedAt;
+            }
+        }
+    }
+
+    public LoadReport closedLoop(final String name, final int users, final Duration pacing, final Duration duration, final Scenario scenario)
+            throws InterruptedException {
+        final LoadReport report = new LoadReport(name);
+        final ExecutorService workers = Executors.newFixedThreadPool(users, workerThreads(name));
+        final long startedAt = System.nanoTime();
+        final long endAt = startedAt + duration.toNanos();
+        final long pacingNanos = pacing.toNanos();
+        for (int user = 0; user < users; user++) {
+            workers.execute(() -> {
+                long intendedStart = System.nanoTime();
+                while (intendedStart < endAt) {
+                    parkUntil(intendedStart);
+                    runIteration(scenario, report, intendedStart);
+                    intendedStart = pacingNanos == 0 ? System.nanoTime() : intendedStart + pacingNanos;
+                }
+            });
+        }
+        return finish(report, workers, startedAt);
+    }
+
+    public LoadReport openLoop(final String name, final int ratePerSecond, final int maxConcurrency, final Duration duration, final Scenario scenario)
+            throws InterruptedException {
+        final LoadReport report = new LoadReport(name);
+        final ExecutorService workers = Executors.newFixedThreadPool(maxConcurrency, workerThreads(name));
+        final long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        final long startedAt = System.nanoTime();
+        final long endAt = startedAt + duration.toNanos();
+        for (long intendedStart = startedAt; intendedStart < endAt; intendedStart += intervalNanos) {
+            parkUntil(intendedStart);
+            final long scheduled = intendedStart;
+            workers.execute(() -> runIteration(scenario, report, scheduled));
+        }
+        return finish(report, workers, startedAt);
+    }
+
+    private static void runIteration(final Scenario scenario, final LoadReport report, final long intendedStart) {
+        try {
+            scenario.run(new Steps(report, intendedStart));
+            report.record(LoadReport.SCENARIO, System.nanoTime() - intendedStart);
+        } catch (RuntimeException | AssertionError e) {
+            report.recordError(LoadReport.SCENARIO);
+        }
+    }
+
+    private static LoadReport finish(final LoadReport report, final ExecutorService workers, final long startedAt)
+            throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+            workers.shutdownNow();
+        }
+        report.finish(System.nanoTime() - startedAt);
+        return report;
+    }
+
+    private ThreadFactory workerThreads(final String name) {
+        final AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(() -> {
+                ApiTest.useRequestSpec(requestSpec);
+                runnable.run();
+            }, "load-" + name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static void parkUntil(final long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
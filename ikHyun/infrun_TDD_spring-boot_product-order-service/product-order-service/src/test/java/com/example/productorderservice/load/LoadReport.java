@@ -0,0 +1,97 @@
+package com.example.productorderservice.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단계별 지연 시간(마이크로초)과 실패 수를 모은다. 기록은 여러 스레드에서 동시에 한다.
+ */
+public class LoadReport {
+
+    public static final String SCENARIO = "시나리오";
+
+    private final String name;
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private final List<String> steps = new CopyOnWriteArrayList<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> histograms = new LinkedHashMap<>();
+    private long elapsedNanos;
+
+    LoadReport(final String name) {
+        this.name = name;
+    }
+
+    void record(final String step, final long latencyNanos) {
+        recorders.computeIfAbsent(step, ignored -> {
+                    steps.add(step);
+                    return new Recorder(3);
+                })
+                .recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+    }
+
+    void recordError(final String step) {
+        errors.computeIfAbsent(step, ignored -> new LongAdder()).increment();
+    }
+
+    void finish(final long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+        // 처음 기록된 순서대로 출력한다. 시나리오 전체 행은 맨 뒤에 둔다.
+        steps.stream()
+                .sorted((left, right) -> Boolean.compare(left.equals(SCENARIO), right.equals(SCENARIO)))
+                .forEach(step -> histograms.put(step, recorders.get(step).getIntervalHistogram()));
+    }
+
+    public Histogram histogram(final String step) {
+        final Histogram histogram = histograms.get(step);
+        return histogram == null ? new Histogram(3) : histogram;
+    }
+
+    public long errors(final String step) {
+        final LongAdder count = errors.get(step);
+        return count == null ? 0 : count.sum();
+    }
+
+    public long totalErrors() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * 초당 완료 건수.
+     */
+    public double throughput(final String step) {
+        return histogram(step).getTotalCount() / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    public double percentileMillis(final String step, final double percentile) {
+        return histogram(step).getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public String format() {
+        final StringBuilder report = new StringBuilder();
+        report.append(String.format("%n[load] %s (%.1fs)%n", name, elapsedNanos / 1_000_000_000.0));
+        report.append(String.format("%-10s %8s %6s %9s %9s %9s %9s %9s %9s%n",
+                "단계", "건수", "실패", "처리량/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+        for (final Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            final Histogram histogram = entry.getValue();
+            report.append(String.format("%-10s %8d %6d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(),
+                    histogram.getTotalCount(),
+                    errors(entry.getKey()),
+                    throughput(entry.getKey()),
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(90) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0));
+        }
+        return report.toString();
+    }
+}
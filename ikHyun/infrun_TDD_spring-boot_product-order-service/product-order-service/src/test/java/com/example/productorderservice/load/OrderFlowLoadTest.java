@@ -0,0 +1,116 @@
+package com.example.productorderservice.load;
+
+import com.example.productorderservice.ApiTest;
+import com.example.productorderservice.order.OrderSteps;
+import com.example.productorderservice.order.application.service.CreateOrderRequest;
+import com.example.productorderservice.payment.PaymentSteps;
+import com.example.productorderservice.payment.application.service.PaymentRequest;
+import com.example.productorderservice.product.ProductSteps;
+import com.example.productorderservice.product.application.service.AddProductRequest;
+import com.example.productorderservice.product.domain.DiscountPolicy;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.LogConfig;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 조회 → 주문 → 결제 흐름에 부하를 걸어 단계별 처리량과 지연 시간 분포를 출력한다.
+ * 기본 test 태스크에서는 빠지고 ./gradlew loadTest 로 돌린다.
+ * 시간과 목표치는 -Dload.duration-seconds, -Dload.users, -Dload.rate, -Dload.p99-ms 로 바꾼다.
+ * 같은 시나리오를 reactive 프로필로 돌리는 {@link ReactiveOrderFlowLoadTest} 와 나란히 비교한다.
+ */
+@Tag("load")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+class OrderFlowLoadTest extends ApiTest {
+
+    private static final int PRODUCTS = 10;
+    private static final String CARD_NUMBER = "1234-1234-1234-1234";
+
+    private final Duration duration = Duration.ofSeconds(Long.getLong("load.duration-seconds", 10));
+    private final int users = Integer.getInteger("load.users", 4);
+    private final int rate = Integer.getInteger("load.rate", 10);
+    private final double p99Millis = Double.parseDouble(System.getProperty("load.p99-ms", "2000"));
+
+    @LocalServerPort
+    private int port;
+
+    private LoadGenerator loadGenerator;
+
+    @BeforeEach
+    void seed() {
+        for (int i = 1; i <= PRODUCTS; i++) {
+            ProductSteps.상품등록요청(new AddProductRequest("상품" + i, 1000 * i, DiscountPolicy.NONE, List.of(), 10_000_000));
+        }
+        final RequestSpecification quiet = new RequestSpecBuilder()
+                .setPort(port)
+                .setConfig(RestAssured.config().logConfig(
+                        LogConfig.logConfig().defaultStream(new PrintStream(OutputStream.nullOutputStream()))))
+                .build();
+        loadGenerator = new LoadGenerator(quiet);
+    }
+
+    @Test
+    void closed_loop() throws InterruptedException {
+        final ResourceSampler resources = new ResourceSampler();
+        resources.start();
+        final LoadReport report = loadGenerator.closedLoop("closed-loop", users, Duration.ZERO, duration, this::상품주문결제);
+        resources.stop();
+
+        System.out.println(report.format());
+        System.out.print(resources.format(users));
+        assertCapacity(report);
+    }
+
+    @Test
+    void open_loop() throws InterruptedException {
+        final ResourceSampler resources = new ResourceSampler();
+        resources.start();
+        final LoadReport report = loadGenerator.openLoop("open-loop", rate, users * 4, duration, this::상품주문결제);
+        resources.stop();
+
+        System.out.println(report.format());
+        System.out.print(resources.format(users * 4));
+        assertCapacity(report);
+        assertThat(report.throughput(LoadReport.SCENARIO)).isGreaterThan(rate * 0.9);
+    }
+
+    private void 상품주문결제(final LoadGenerator.Steps steps) {
+        final long productId = ThreadLocalRandom.current().nextLong(1, PRODUCTS + 1);
+        steps.step("상품조회", () -> expect(ProductSteps.상품조회요청(productId), HttpStatus.OK));
+        final ExtractableResponse<Response> order = steps.step("주문",
+                () -> expect(OrderSteps.상품주문요청(new CreateOrderRequest(productId, 1)), HttpStatus.CREATED));
+        final String location = order.header("Location");
+        final Long orderId = Long.valueOf(location.substring(location.lastIndexOf('/') + 1));
+        steps.step("결제", () -> expect(PaymentSteps.주문결제요청(new PaymentRequest(orderId, CARD_NUMBER)), HttpStatus.OK));
+    }
+
+    private static ExtractableResponse<Response> expect(final ExtractableResponse<Response> response, final HttpStatus status) {
+        assertThat(response.statusCode()).isEqualTo(status.value());
+        return response;
+    }
+
+    private void assertCapacity(final LoadReport report) {
+        assertThat(report.totalErrors()).isZero();
+        assertThat(report.histogram(LoadReport.SCENARIO).getTotalCount()).isPositive();
+        assertThat(report.percentileMillis(LoadReport.SCENARIO, 99)).isLessThanOrEqualTo(p99Millis);
+    }
+}
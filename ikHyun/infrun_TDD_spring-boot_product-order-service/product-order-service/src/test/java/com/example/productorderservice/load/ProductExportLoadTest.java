@@ -0,0 +1,99 @@
+package com.example.productorderservice.load;
+
+import com.example.productorderservice.ApiTest;
+import com.example.productorderservice.product.application.port.ProductPort;
+import com.example.productorderservice.product.domain.DiscountPolicy;
+import com.example.productorderservice.product.domain.Product;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 수를 늘려 가며 GET /products/export 의 첫 바이트까지 걸린 시간, 전체 시간, 힙 사용량을 출력한다.
+ * 테이블이 커져도 첫 바이트까지의 시간과 힙은 비슷해야 한다.
+ * 기본 test 태스크에서는 빠지고 ./gradlew loadTest --tests '*ProductExportLoadTest' -Dload.export-rows=1000000 로 돌린다.
+ */
+@Tag("load")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+class ProductExportLoadTest extends ApiTest {
+
+    private static final int CHUNK_SIZE = 10_000;
+
+    private final int maxRows = Integer.getInteger("load.export-rows", 1_000_000);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductPort productPort;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void 상품_수와_관계없이_첫_바이트와_힙이_일정하다() throws IOException, InterruptedException {
+        final HttpClient client = HttpClient.newHttpClient();
+        final HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/products/export")).build();
+        int rows = 0;
+        for (int target = Math.max(1, maxRows / 100); target <= maxRows; target *= 10) {
+            insertProducts(rows, target);
+            rows = target;
+
+            final ResourceSampler resources = new ResourceSampler();
+            resources.start();
+            final long startedAt = System.nanoTime();
+            final HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            long lines = 0;
+            long firstByteNanos = -1;
+            try (InputStream body = response.body()) {
+                final byte[] buffer = new byte[64 * 1024];
+                int read;
+                while ((read = body.read(buffer)) >= 0) {
+                    if (firstByteNanos < 0 && read > 0) {
+                        firstByteNanos = System.nanoTime() - startedAt;
+                    }
+                    for (int i = 0; i < read; i++) {
+                        if (buffer[i] == '\n') {
+                            lines++;
+                        }
+                    }
+                }
+            }
+            final long totalNanos = System.nanoTime() - startedAt;
+            resources.stop();
+
+            System.out.printf("[export] %,d rows, 첫 바이트 %,d ms, 전체 %,d ms%n",
+                    lines, TimeUnit.NANOSECONDS.toMillis(firstByteNanos), TimeUnit.NANOSECONDS.toMillis(totalNanos));
+            System.out.print(resources.format(1));
+            assertThat(lines).isEqualTo(rows);
+        }
+    }
+
+    private void insertProducts(final int from, final int to) {
+        for (int start = from; start < to; start += CHUNK_SIZE) {
+            final List<Product> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (int i = start + 1; i <= Math.min(to, start + CHUNK_SIZE); i++) {
+                chunk.add(new Product("상품" + i, 1000 + i % 1000, DiscountPolicy.NONE));
+            }
+            transactionTemplate.executeWithoutResult(status -> productPort.saveAll(chunk));
+        }
+    }
+}
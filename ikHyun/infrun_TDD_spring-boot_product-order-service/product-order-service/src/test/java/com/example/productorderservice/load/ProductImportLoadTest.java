@@ -0,0 +1,84 @@
+package com.example.productorderservice.load;
+
+import com.example.productorderservice.ApiTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * POST /products/import 에 상품 N 개(기본 백만 개)를 NDJSON 으로 흘려 보내고 초당 처리 행 수와 힙 사용량을 출력한다.
+ * 본문은 보내는 쪽에서도 한 줄씩 만들어 chunked 로 보내므로 양쪽 모두 본문 크기만큼 메모리를 잡지 않는다.
+ * 기본 test 태스크에서는 빠지고 ./gradlew loadTest --tests '*ProductImportLoadTest' -Dload.import-rows=1000000 로 돌린다.
+ */
+@Tag("load")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+class ProductImportLoadTest extends ApiTest {
+
+    private final int rows = Integer.getInteger("load.import-rows", 1_000_000);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void 상품_대량등록_처리량() throws IOException, InterruptedException {
+        final HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/products/import"))
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofInputStream(this::ndjson))
+                .build();
+
+        final ResourceSampler resources = new ResourceSampler();
+        resources.start();
+        final HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+        resources.stop();
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        final JsonNode result = objectMapper.readTree(response.body());
+        System.out.printf("[import] %,d rows, %,d ms, %,d rows/s%n",
+                result.get("imported").asLong(), result.get("elapsedMillis").asLong(), result.get("rowsPerSecond").asLong());
+        System.out.print(resources.format(1));
+        assertThat(result.get("imported").asLong()).isEqualTo(rows);
+        assertThat(result.get("failed").asLong()).isZero();
+    }
+
+    private InputStream ndjson() {
+        return new SequenceInputStream(new Enumeration<>() {
+            private int next = 1;
+
+            @Override
+            public boolean hasMoreElements() {
+                return next <= rows;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                final int id = next++;
+                final String line = "{\"name\":\"상품" + id + "\",\"price\":" + (1000 + id % 1000)
+                        + ",\"discountPolicy\":\"NONE\",\"stock\":100}\n";
+                return new ByteArrayInputStream(line.getBytes(StandardCharsets.UTF_8));
+            }
+        });
+    }
+}
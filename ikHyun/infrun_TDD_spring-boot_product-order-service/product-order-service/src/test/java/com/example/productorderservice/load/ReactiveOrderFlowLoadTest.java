@@ -0,0 +1,11 @@
+package com.example.productorderservice.load;
+
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * {@link OrderFlowLoadTest} 와 같은 시나리오를 WebFlux + R2DBC 스택에 건다.
+ * 두 결과의 처리량, 지연 시간, 연결당 힙과 스레드 수를 나란히 비교한다.
+ */
+@ActiveProfiles("reactive")
+class ReactiveOrderFlowLoadTest extends OrderFlowLoadTest {
+}
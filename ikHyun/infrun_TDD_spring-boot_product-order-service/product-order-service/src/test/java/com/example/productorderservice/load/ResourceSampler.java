@@ -0,0 +1,67 @@
+package com.example.productorderservice.load;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 부하를 거는 동안 힙 사용량과 스레드 수를 주기적으로 잰다.
+ * 서버와 부하 생성기가 한 JVM 에 있으므로 절대값보다 같은 조건에서 돌린 두 스택의 차이를 보는 용도다.
+ */
+class ResourceSampler {
+
+    private static final long INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final AtomicLong heapSum = new AtomicLong();
+    private final AtomicLong samples = new AtomicLong();
+    private final AtomicLong peakHeap = new AtomicLong();
+    private final AtomicLong peakThreads = new AtomicLong();
+    private long baselineHeap;
+    private int baselineThreads;
+    private volatile boolean running;
+    private Thread sampler;
+
+    void start() {
+        System.gc();
+        baselineHeap = memory.getHeapMemoryUsage().getUsed();
+        baselineThreads = threads.getThreadCount();
+        running = true;
+        sampler = new Thread(() -> {
+            while (running) {
+                final long heap = memory.getHeapMemoryUsage().getUsed();
+                heapSum.addAndGet(heap);
+                samples.incrementAndGet();
+                peakHeap.accumulateAndGet(heap, Math::max);
+                peakThreads.accumulateAndGet(threads.getThreadCount(), Math::max);
+                LockSupport.parkNanos(INTERVAL_NANOS);
+            }
+        }, "load-resource-sampler");
+        sampler.setDaemon(true);
+        sampler.start();
+    }
+
+    void stop() throws InterruptedException {
+        running = false;
+        sampler.join();
+    }
+
+    /**
+     * 동시 연결 하나당 평균 힙 증가량과 늘어난 스레드 수.
+     */
+    String format(final int concurrentConnections) {
+        final long averageHeap = samples.get() == 0 ? baselineHeap : heapSum.get() / samples.get();
+        final double heapPerConnection = (double) Math.max(0, averageHeap - baselineHeap) / concurrentConnections;
+        return String.format("[resources] 동시 연결 %d, 평균 힙 +%.1fMB (최대 +%.1fMB), 연결당 %.1fKB, 스레드 %d -> 최대 %d%n",
+                concurrentConnections,
+                (averageHeap - baselineHeap) / 1024.0 / 1024.0,
+                (peakHeap.get() - baselineHeap) / 1024.0 / 1024.0,
+                heapPerConnection / 1024.0,
+                baselineThreads,
+                peakThreads.get());
+    }
+}
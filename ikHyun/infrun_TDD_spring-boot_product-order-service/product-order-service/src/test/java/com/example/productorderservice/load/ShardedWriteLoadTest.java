@@ -0,0 +1,89 @@
+package com.example.productorderservice.load;
+
+import com.example.productorderservice.order.domain.Order;
+import com.example.productorderservice.payment.domain.Payment;
+import com.example.productorderservice.payment.domain.PaymentView;
+import com.example.productorderservice.product.domain.DiscountPolicy;
+import com.example.productorderservice.product.domain.Product;
+import com.example.productorderservice.sharding.ShardedStore;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.DirectFieldAccessor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ShardedStore} 에 주문 저장 → 결제 완료 → 결제 저장을 여러 스레드로 반복해서 샤드 1 개와 N 개의 초당 처리 건수를 비교한다.
+ * 샤드마다 H2 메모리 DB 와 커넥션 풀이 따로 있으므로 쓰기 경합이 샤드 수만큼 나뉜다. 코어 수가 샤드 수보다 적으면 그만큼 덜 늘어난다.
+ * 기본 test 태스크에서는 빠지고 ./gradlew loadTest --tests '*ShardedWriteLoadTest' -Dload.shards=4 -Dload.users=16 로 돌린다.
+ */
+@Tag("load")
+class ShardedWriteLoadTest {
+
+    private static final String CARD_NUMBER = "1234-1234-1234-1234";
+
+    private final Duration duration = Duration.ofSeconds(Long.getLong("load.duration-seconds", 10));
+    private final int users = Integer.getInteger("load.users", 8);
+    private final int shards = Integer.getInteger("load.shards", 4);
+
+    @Test
+    void 샤드_수에_따른_쓰기_처리량() throws Exception {
+        final double single = throughput(1);
+        final double sharded = throughput(shards);
+
+        System.out.printf("[sharded] %d users, 1 shard %,.0f flows/s, %d shards %,.0f flows/s (x%.2f)%n",
+                users, single, shards, sharded, sharded / single);
+        assertThat(single).isPositive();
+        assertThat(sharded).isPositive();
+    }
+
+    private double throughput(final int shardCount) throws Exception {
+        final ShardedStore store = new ShardedStore(shardCount,
+                "jdbc:h2:mem:sharded-write-load-" + shardCount + "-%d;DB_CLOSE_DELAY=-1", users, 0);
+        final Product product = new Product("상품명", 1000, DiscountPolicy.NONE);
+        new DirectFieldAccessor(product).setPropertyValue("id", 1L);
+        final ExecutorService executor = Executors.newFixedThreadPool(users);
+        try {
+            final long deadline = System.nanoTime() + duration.toNanos();
+            final List<Future<Long>> flows = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                flows.add(executor.submit(() -> {
+                    long completed = 0;
+                    while (System.nanoTime() < deadline) {
+                        orderAndPay(store, product);
+                        completed++;
+                    }
+                    return completed;
+                }));
+            }
+            long total = 0;
+            for (final Future<Long> flow : flows) {
+                total += flow.get();
+            }
+            return total / (double) duration.toSeconds();
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+            store.clear();
+            store.destroy();
+        }
+    }
+
+    private static void orderAndPay(final ShardedStore store, final Product product) {
+        final Order order = new Order(product, 2);
+        new DirectFieldAccessor(order).setPropertyValue("id", store.nextOrderId());
+        store.saveOrder(order);
+        final PaymentView view = store.findPaymentView(order.getId());
+        final Payment payment = new Payment(view, CARD_NUMBER);
+        new DirectFieldAccessor(payment).setPropertyValue("id", store.nextPaymentId(view.orderId()));
+        assertThat(store.savePaidPayment(payment)).isTrue();
+    }
+}
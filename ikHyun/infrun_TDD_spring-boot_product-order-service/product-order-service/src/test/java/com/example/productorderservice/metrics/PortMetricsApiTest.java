@@ -0,0 +1,57 @@
+package com.example.productorderservice.metrics;
+
+import com.example.productorderservice.ApiTest;
+import com.example.productorderservice.order.OrderSteps;
+import com.example.productorderservice.product.ProductSteps;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@AutoConfigureMetrics
+class PortMetricsApiTest extends ApiTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void 포트_호출마다_엔드포인트별_시간을_기록한다() {
+        final long productSaves = count("ProductPort", "save", "POST /products", "none");
+        final long reservations = count("InventoryPort", "reserve", "POST /orders", "none");
+
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        OrderSteps.상품주문요청(OrderSteps.상품주문요청_생성());
+
+        assertThat(count("ProductPort", "save", "POST /products", "none")).isEqualTo(productSaves + 1);
+        assertThat(count("InventoryPort", "reserve", "POST /orders", "none")).isEqualTo(reservations + 1);
+    }
+
+    @Test
+    void 실패한_호출은_예외_태그를_단다() {
+        final long failures = count("ProductPort", "getProduct", "GET /products/{productId}", "IllegalArgumentException");
+
+        ProductSteps.상품조회요청(999L);
+
+        assertThat(count("ProductPort", "getProduct", "GET /products/{productId}", "IllegalArgumentException"))
+                .isEqualTo(failures + 1);
+    }
+
+    @Test
+    void 프로메테우스_엔드포인트로_노출한다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+
+        final String scrape = ApiTest.given().get("/actuator/prometheus").then().statusCode(200).extract().asString();
+
+        assertThat(scrape).contains("port_calls_seconds_count{endpoint=\"POST /products\"");
+    }
+
+    private long count(final String port, final String method, final String endpoint, final String exception) {
+        final Timer timer = meterRegistry.find("port.calls")
+                .tag("port", port).tag("method", method).tag("endpoint", endpoint).tag("exception", exception)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
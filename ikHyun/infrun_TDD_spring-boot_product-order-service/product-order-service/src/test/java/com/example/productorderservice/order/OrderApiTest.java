@@ -1,10 +1,15 @@
 package com.example.productorderservice.order;
 
 import com.example.productorderservice.ApiTest;
+import com.example.productorderservice.order.application.service.CreateOrderRequest;
 import com.example.productorderservice.product.ProductSteps;
+import com.example.productorderservice.product.application.service.AddProductRequest;
+import com.example.productorderservice.product.domain.DiscountPolicy;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class OrderApiTest extends ApiTest {
@@ -21,4 +26,28 @@ public class OrderApiTest extends ApiTest {
 
     }
 
+    @Test
+    void 주문내보내기(){
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        OrderSteps.상품주문요청(OrderSteps.상품주문요청_생성());
+        OrderSteps.상품주문요청(new CreateOrderRequest(1L, 1));
+
+        final var response = OrderSteps.주문내보내기요청();
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.asString().split("\n")).containsExactly(
+                "{\"id\":1,\"productId\":1,\"quantity\":2,\"unitPrice\":1000,\"discountAmount\":0,\"totalPrice\":2000,\"status\":\"ORDERED\"}",
+                "{\"id\":2,\"productId\":1,\"quantity\":1,\"unitPrice\":1000,\"discountAmount\":0,\"totalPrice\":1000,\"status\":\"ORDERED\"}");
+    }
+
+    @Test
+    void 재고보다_많이_주문(){
+        ProductSteps.상품등록요청(new AddProductRequest("상품명", 1000, DiscountPolicy.NONE, List.of(), 3));
+        OrderSteps.상품주문요청(new CreateOrderRequest(1L, 2));
+
+        final var response = OrderSteps.상품주문요청(new CreateOrderRequest(1L, 2));
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+    }
+
 }
@@ -1,9 +1,10 @@
 package com.example.productorderservice.order;
 
+import com.example.productorderservice.ApiTest;
 import com.example.productorderservice.order.application.service.CreateOrderRequest;
-import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
 public class OrderSteps {
@@ -16,7 +17,7 @@ public class OrderSteps {
     }
 
     public static ExtractableResponse<Response> 상품주문요청(final CreateOrderRequest request){
-        return RestAssured.given().log().all()
+        return ApiTest.given().log().all()
                 .contentType(MediaType.APPLICATION_JSON_VALUE)
                 .body(request)
                 .when()
@@ -24,4 +25,13 @@ public class OrderSteps {
                 .then()
                 .log().all().extract();
     }
+
+    public static ExtractableResponse<Response> 주문내보내기요청(){
+        return ApiTest.given().log().all()
+                .header(HttpHeaders.ACCEPT_ENCODING, "identity")
+                .when()
+                .get("/orders/export")
+                .then()
+                .log().all().extract();
+    }
 }
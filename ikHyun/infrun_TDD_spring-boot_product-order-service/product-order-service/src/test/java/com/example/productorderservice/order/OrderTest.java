@@ -17,4 +17,16 @@ class OrderTest {
 
         assertThat(totalPrice).isEqualTo(2000);
     }
-}
\ No newline at end of file
+
+    @Test
+    void 주문_이후_상품이_수정되어도_주문_금액은_그대로다() {
+        final Product product = new Product("상품명", 2000, DiscountPolicy.FIX_1000_AMOUNT);
+        final Order order = new Order(product, 2);
+
+        product.update("상품 수정", 5000, DiscountPolicy.NONE);
+
+        assertThat(order.getUnitPrice()).isEqualTo(2000);
+        assertThat(order.getDiscountAmount()).isEqualTo(2000);
+        assertThat(order.getTotalPrice()).isEqualTo(2000);
+    }
+}
@@ -1,15 +1,36 @@
 package com.example.productorderservice.payment;
 
 import com.example.productorderservice.ApiTest;
+import com.example.productorderservice.SqlStatementCounter;
+import com.example.productorderservice.inventory.adapter.InventoryAdapter;
 import com.example.productorderservice.order.OrderSteps;
+import com.example.productorderservice.payment.adapter.DecliningPaymentGatewayConfiguration;
+import com.example.productorderservice.payment.adapter.FakePaymentGateway;
+import com.example.productorderservice.payment.application.service.PaymentRequest;
 import com.example.productorderservice.product.ProductSteps;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.http.HttpStatus;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+@Import(DecliningPaymentGatewayConfiguration.class)
 public class PaymentApiTest extends ApiTest {
 
+    @Autowired
+    private InventoryAdapter inventoryAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private FakePaymentGateway paymentGateway;
+
     @Test
     void  상품주문(){
         ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
@@ -20,4 +41,80 @@ public class PaymentApiTest extends ApiTest {
         assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
     }
 
-}
\ No newline at end of file
+    @Test
+    void 결제하면_재고가_DB에_반영된다(){
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        OrderSteps.상품주문요청(OrderSteps.상품주문요청_생성());
+
+        PaymentSteps.주문결제요청(PaymentSteps.주문결제요청_생성());
+        inventoryAdapter.flush();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT stock FROM products WHERE id = 1", Integer.class)).isEqualTo(98);
+    }
+
+    @Test
+    void 주문_이후_상품_가격이_바뀌어도_주문_금액으로_결제한다(){
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        OrderSteps.상품주문요청(OrderSteps.상품주문요청_생성());
+        jdbcTemplate.update("UPDATE products SET price = 5000 WHERE id = 1");
+
+        PaymentSteps.주문결제요청(PaymentSteps.주문결제요청_생성());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT price FROM payments WHERE order_id = 1", Integer.class)).isEqualTo(2000);
+    }
+
+    @Test
+    void 이미_결제된_주문은_다시_결제할_수_없다(){
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        OrderSteps.상품주문요청(OrderSteps.상품주문요청_생성());
+        PaymentSteps.주문결제요청(PaymentSteps.주문결제요청_생성());
+
+        final var response = PaymentSteps.주문결제요청(PaymentSteps.주문결제요청_생성());
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+    }
+
+    @Test
+    void 결제는_주문을_한_번의_조회로_읽는다(){
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        OrderSteps.상품주문요청(OrderSteps.상품주문요청_생성());
+        sqlStatementCounter.reset();
+
+        PaymentSteps.주문결제요청(PaymentSteps.주문결제요청_생성());
+
+        assertThat(sqlStatementCounter.selects()).isEqualTo(1);
+    }
+
+    @Test
+    void 결제가_거절된_주문은_다른_카드로_다시_결제할_수_있다(){
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        OrderSteps.상품주문요청(OrderSteps.상품주문요청_생성());
+
+        final var declined = PaymentSteps.주문결제요청(new PaymentRequest(1L, FakePaymentGateway.DECLINED_CARD_NUMBER));
+        assertThat(declined.statusCode()).isEqualTo(HttpStatus.PAYMENT_REQUIRED.value());
+        assertThat(inventoryAdapter.availableStock(1L)).isEqualTo(98);
+
+        final var retried = PaymentSteps.주문결제요청(PaymentSteps.주문결제요청_생성());
+
+        assertThat(retried.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM orders WHERE id = 1", String.class)).isEqualTo("PAID");
+        inventoryAdapter.flush();
+        assertThat(jdbcTemplate.queryForObject("SELECT stock FROM products WHERE id = 1", Integer.class)).isEqualTo(98);
+        assertThat(inventoryAdapter.availableStock(1L)).isEqualTo(98);
+    }
+
+    @Test
+    void 재고_예약이_만료된_주문은_PG를_부르지_않고_거절한다(){
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        OrderSteps.상품주문요청(OrderSteps.상품주문요청_생성());
+        inventoryAdapter.release(1L);
+        final int calls = paymentGateway.calls();
+
+        final var response = PaymentSteps.주문결제요청(PaymentSteps.주문결제요청_생성());
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+        assertThat(paymentGateway.calls()).isEqualTo(calls);
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM orders WHERE id = 1", String.class)).isEqualTo("ORDERED");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payments", Integer.class)).isZero();
+    }
+}
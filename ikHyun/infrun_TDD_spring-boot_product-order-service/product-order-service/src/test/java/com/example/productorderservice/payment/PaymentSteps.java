@@ -1,7 +1,7 @@
 package com.example.productorderservice.payment;
 
+import com.example.productorderservice.ApiTest;
 import com.example.productorderservice.payment.application.service.PaymentRequest;
-import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import org.springframework.http.MediaType;
@@ -15,7 +15,7 @@ public class PaymentSteps {
     }
 
     public static ExtractableResponse<Response> 주문결제요청(final PaymentRequest request){
-        return RestAssured.given().log().all()
+        return ApiTest.given().log().all()
                 .contentType(MediaType.APPLICATION_JSON_VALUE)
                 .body(request)
                 .when()
@@ -0,0 +1,18 @@
+package com.example.productorderservice.payment.adapter;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * API 테스트에서 {@link FakePaymentGateway#DECLINED_CARD_NUMBER} 로 결제하면 PG 가 거절하게 한다.
+ */
+@TestConfiguration
+public class DecliningPaymentGatewayConfiguration {
+
+    @Bean
+    @Primary
+    FakePaymentGateway fakePaymentGateway() {
+        return new FakePaymentGateway();
+    }
+}
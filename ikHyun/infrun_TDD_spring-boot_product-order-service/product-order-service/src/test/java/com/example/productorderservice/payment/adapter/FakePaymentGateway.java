@@ -0,0 +1,80 @@
+package com.example.productorderservice.payment.adapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 실제 PG 대신 쓰는 로컬 게이트웨이.
+ * 호출당 고정 지연(callLatency)과 건당 지연(itemLatency)을 흉내 내고, 지정한 카드 번호는 승인 거절한다.
+ */
+public class FakePaymentGateway implements PaymentGateway {
+
+    public static final String DECLINED_CARD_NUMBER = "0000-0000-0000-0000";
+
+    private final long callLatencyNanos;
+    private final long itemLatencyNanos;
+    private final Set<String> declinedCardNumbers;
+    private final AtomicInteger calls = new AtomicInteger();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    public FakePaymentGateway() {
+        this(0, 0);
+    }
+
+    public FakePaymentGateway(final long callLatencyMicros, final long itemLatencyMicros) {
+        this(callLatencyMicros, itemLatencyMicros, Set.of(DECLINED_CARD_NUMBER));
+    }
+
+    public FakePaymentGateway(final long callLatencyMicros, final long itemLatencyMicros, final Set<String> declinedCardNumbers) {
+        this.callLatencyNanos = TimeUnit.MICROSECONDS.toNanos(callLatencyMicros);
+        this.itemLatencyNanos = TimeUnit.MICROSECONDS.toNanos(itemLatencyMicros);
+        this.declinedCardNumbers = declinedCardNumbers;
+    }
+
+    @Override
+    public void excute(final String idempotencyKey, final int totalPrice, final String cardNumber) {
+        calls.incrementAndGet();
+        batchSizes.add(1);
+        sleep(callLatencyNanos + itemLatencyNanos);
+        if (declinedCardNumbers.contains(cardNumber)) {
+            throw new IllegalStateException("승인 거절된 카드입니다.");
+        }
+    }
+
+    @Override
+    public List<PaymentGatewayResult> excuteBatch(final List<PaymentGatewayRequest> requests) {
+        calls.incrementAndGet();
+        batchSizes.add(requests.size());
+        sleep(callLatencyNanos + itemLatencyNanos * requests.size());
+
+        final List<PaymentGatewayResult> results = new ArrayList<>(requests.size());
+        for (final PaymentGatewayRequest request : requests) {
+            results.add(declinedCardNumbers.contains(request.cardNumber())
+                    ? PaymentGatewayResult.failure("승인 거절된 카드입니다.")
+                    : PaymentGatewayResult.success());
+        }
+        return results;
+    }
+
+    public int calls() {
+        return calls.get();
+    }
+
+    public List<Integer> batchSizes() {
+        return List.copyOf(batchSizes);
+    }
+
+    private static void sleep(final long nanos) {
+        final long deadline = System.nanoTime() + nanos;
+        long remaining = nanos;
+        while (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+            remaining = deadline - System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.productorderservice.payment.adapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PG 장애를 흉내 내는 로컬 게이트웨이.
+ * 실패율, 느린 응답, 다음 N 건 지연을 실행 중에 바꿀 수 있다.
+ * deduplicates 면 실제 PG 처럼 같은 멱등 키는 한 번만 승인(청구)하고, 아니면 들어온 만큼 청구한 것으로 센다.
+ */
+public class FaultInjectingPaymentGateway implements PaymentGateway {
+
+    private final boolean deduplicates;
+
+    private volatile double failureRate;
+    private volatile double slowCallRate;
+    private volatile long slowCallMillis;
+    private final AtomicInteger slowCallsRemaining = new AtomicInteger();
+    private volatile long slowNextCallMillis;
+    private final AtomicInteger calls = new AtomicInteger();
+    private final Set<String> approvedKeys = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger duplicates = new AtomicInteger();
+    private final AtomicInteger charges = new AtomicInteger();
+
+    public FaultInjectingPaymentGateway() {
+        this(true);
+    }
+
+    public FaultInjectingPaymentGateway(final boolean deduplicates) {
+        this.deduplicates = deduplicates;
+    }
+
+    public void setFailureRate(final double failureRate) {
+        this.failureRate = failureRate;
+    }
+
+    public void setSlowCalls(final double slowCallRate, final long slowCallMillis) {
+        this.slowCallRate = slowCallRate;
+        this.slowCallMillis = slowCallMillis;
+    }
+
+    public void slowNextCalls(final int count, final long millis) {
+        this.slowNextCallMillis = millis;
+        this.slowCallsRemaining.set(count);
+    }
+
+    @Override
+    public void excute(final String idempotencyKey, final int totalPrice, final String cardNumber) {
+        excuteBatch(List.of(new PaymentGatewayRequest(idempotencyKey, totalPrice, cardNumber)));
+    }
+
+    @Override
+    public List<PaymentGatewayResult> excuteBatch(final List<PaymentGatewayRequest> requests) {
+        calls.incrementAndGet();
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (slowCallsRemaining.getAndUpdate(remaining -> Math.max(remaining - 1, 0)) > 0) {
+            sleep(slowNextCallMillis);
+        } else if (random.nextDouble() < slowCallRate) {
+            sleep(slowCallMillis);
+        }
+        if (random.nextDouble() < failureRate) {
+            throw new IllegalStateException("PG 장애");
+        }
+
+        final List<PaymentGatewayResult> results = new ArrayList<>(requests.size());
+        for (final PaymentGatewayRequest request : requests) {
+            if (FakePaymentGateway.DECLINED_CARD_NUMBER.equals(request.cardNumber())) {
+                results.add(PaymentGatewayResult.failure("승인 거절된 카드입니다."));
+                continue;
+            }
+            if (approvedKeys.add(request.idempotencyKey())) {
+                charges.incrementAndGet();
+            } else {
+                duplicates.incrementAndGet();
+                if (!deduplicates) {
+                    charges.incrementAndGet();
+                }
+            }
+            results.add(PaymentGatewayResult.success());
+        }
+        return results;
+    }
+
+    @Override
+    public boolean deduplicates() {
+        return deduplicates;
+    }
+
+    public int calls() {
+        return calls.get();
+    }
+
+    /**
+     * 카드에 실제로 청구된 건수.
+     */
+    public int charges() {
+        return charges.get();
+    }
+
+    /**
+     * 이미 승인된 멱등 키로 다시 들어온 요청 수.
+     */
+    public int duplicates() {
+        return duplicates.get();
+    }
+
+    private static void sleep(final long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
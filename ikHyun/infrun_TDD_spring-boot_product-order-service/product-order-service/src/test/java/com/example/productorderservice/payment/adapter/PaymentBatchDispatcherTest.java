@@ -0,0 +1,125 @@
+package com.example.productorderservice.payment.adapter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PaymentBatchDispatcherTest {
+
+    private PaymentBatchDispatcher dispatcher;
+    private long nextOrderId = 1;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (dispatcher != null) {
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    void 최대_배치_크기만큼_모아서_한번에_호출한다() {
+        final FakePaymentGateway gateway = new FakePaymentGateway();
+        dispatcher = new PaymentBatchDispatcher(gateway, 10, 1_000, 1);
+
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(dispatcher.submit(nextOrderId++, 1000, "1234-1234-1234-1234"));
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        assertThat(gateway.calls()).isEqualTo(1);
+        assertThat(gateway.batchSizes()).containsExactly(10);
+    }
+
+    @Test
+    void 대기_시간이_지나면_모인_만큼만_보낸다() throws Exception {
+        final FakePaymentGateway gateway = new FakePaymentGateway();
+        dispatcher = new PaymentBatchDispatcher(gateway, 100, 10, 1);
+
+        dispatcher.submit(nextOrderId++, 1000, "1234-1234-1234-1234").get(1, TimeUnit.SECONDS);
+
+        assertThat(gateway.batchSizes()).containsExactly(1);
+    }
+
+    @Test
+    void 건별_실패는_해당_요청만_실패시킨다() {
+        final FakePaymentGateway gateway = new FakePaymentGateway();
+        dispatcher = new PaymentBatchDispatcher(gateway, 3, 1_000, 1);
+
+        final CompletableFuture<Void> first = dispatcher.submit(nextOrderId++, 1000, "1234-1234-1234-1234");
+        final CompletableFuture<Void> declined = dispatcher.submit(nextOrderId++, 1000, FakePaymentGateway.DECLINED_CARD_NUMBER);
+        final CompletableFuture<Void> third = dispatcher.submit(nextOrderId++, 1000, "1234-1234-1234-1234");
+
+        first.join();
+        third.join();
+        assertThatThrownBy(declined::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("승인 거절된 카드입니다.");
+        assertThat(gateway.calls()).isEqualTo(1);
+    }
+
+    @Test
+    void 게이트웨이_호출이_실패하면_배치_전체를_실패시킨다() {
+        final PaymentGateway gateway = new PaymentGateway() {
+            @Override
+            public void excute(final String idempotencyKey, final int totalPrice, final String cardNumber) {
+            }
+
+            @Override
+            public List<PaymentGatewayResult> excuteBatch(final List<PaymentGatewayRequest> requests) {
+                throw new IllegalStateException("PG 연결 실패");
+            }
+        };
+        dispatcher = new PaymentBatchDispatcher(gateway, 2, 1_000, 1);
+
+        final CompletableFuture<Void> first = dispatcher.submit(nextOrderId++, 1000, "1234-1234-1234-1234");
+        final CompletableFuture<Void> second = dispatcher.submit(nextOrderId++, 1000, "1234-1234-1234-1234");
+
+        assertThatThrownBy(() -> first.get(1, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class).hasMessageContaining("PG 연결 실패");
+        assertThatThrownBy(() -> second.get(1, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class).hasMessageContaining("PG 연결 실패");
+    }
+
+    @Test
+    void 종료후_요청은_바로_실패한다() throws InterruptedException {
+        dispatcher = new PaymentBatchDispatcher(new FakePaymentGateway(), 1, 0, 1);
+        dispatcher.destroy();
+
+        assertThat(dispatcher.submit(nextOrderId++, 1000, "1234-1234-1234-1234")).isCompletedExceptionally();
+    }
+
+    @Test
+    void 종료와_겹친_요청도_모두_완료된다() throws Exception {
+        dispatcher = new PaymentBatchDispatcher(new FakePaymentGateway(1_000, 0), 4, 1, 2);
+        final List<CompletableFuture<Void>> futures = Collections.synchronizedList(new ArrayList<>());
+        final ExecutorService clients = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            clients.execute(() -> {
+                for (int j = 0; j < 2_000; j++) {
+                    futures.add(dispatcher.submit(j, 1000, "1234-1234-1234-1234"));
+                }
+            });
+        }
+
+        dispatcher.destroy();
+        clients.shutdown();
+        assertThat(clients.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .handle((ignored, error) -> null)
+                .get(5, TimeUnit.SECONDS);
+        assertThat(futures).allMatch(CompletableFuture::isDone);
+    }
+}
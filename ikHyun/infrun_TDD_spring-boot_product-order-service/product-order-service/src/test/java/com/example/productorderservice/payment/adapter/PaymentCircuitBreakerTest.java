@@ -0,0 +1,77 @@
+package com.example.productorderservice.payment.adapter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaymentCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final PaymentCircuitBreaker circuitBreaker = new PaymentCircuitBreaker(
+            new PaymentResilienceProperties(4, 4, 50, 1_000, 1, 2_000, false, 100, 10), now::get);
+
+    @Test
+    void 최소_호출_수_전에는_열리지_않는다() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.state()).isEqualTo(PaymentCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void 실패율이_임계치를_넘으면_열린다() {
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.state()).isEqualTo(PaymentCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void 오래된_결과는_윈도우에서_밀려난다() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+
+        assertThat(circuitBreaker.failureRate()).isZero();
+    }
+
+    @Test
+    void 반_열림에서_시험_호출이_실패하면_다시_열린다() {
+        open();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.state()).isEqualTo(PaymentCircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+        circuitBreaker.onFailure();
+        assertThat(circuitBreaker.state()).isEqualTo(PaymentCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void 반_열림에서_시험_호출이_성공하면_닫힌다() {
+        open();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        circuitBreaker.tryAcquire();
+        circuitBreaker.onSuccess();
+
+        assertThat(circuitBreaker.state()).isEqualTo(PaymentCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.failureRate()).isZero();
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onFailure();
+        }
+    }
+}
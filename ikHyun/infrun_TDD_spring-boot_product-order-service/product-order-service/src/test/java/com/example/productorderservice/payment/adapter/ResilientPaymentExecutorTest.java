@@ -0,0 +1,161 @@
+package com.example.productorderservice.payment.adapter;
+
+import com.example.productorderservice.payment.domain.PaymentDeclinedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Isolated("헤지 지연과 응답 시간을 재므로 다른 테스트와 CPU 를 나눠 쓰지 않는다")
+class ResilientPaymentExecutorTest {
+
+    private static final String CARD_NUMBER = "1234-1234-1234-1234";
+
+    private FaultInjectingPaymentGateway gateway = new FaultInjectingPaymentGateway();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PaymentBatchDispatcher dispatcher;
+    private ResilientPaymentExecutor executor;
+    private long nextOrderId = 1;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.destroy();
+        dispatcher.destroy();
+    }
+
+    @Test
+    void 장애가_계속되면_서킷이_열리고_PG를_호출하지_않고_실패한다() {
+        executor = executor(new PaymentResilienceProperties(10, 5, 50, 60_000, 1, 2_000, false, 100, 10));
+        gateway.setFailureRate(1.0);
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> pay(CARD_NUMBER)).isInstanceOf(PaymentUnavailableException.class);
+        }
+        final int callsWhenOpened = gateway.calls();
+
+        assertThatThrownBy(() -> pay(CARD_NUMBER))
+                .isInstanceOf(PaymentUnavailableException.class)
+                .hasMessageContaining("일시적으로 불안정");
+        assertThat(executor.circuitState()).isEqualTo(PaymentCircuitBreaker.State.OPEN);
+        assertThat(gateway.calls()).isEqualTo(callsWhenOpened);
+        assertThat(meterRegistry.get("payment.circuit.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("payment.circuit.state").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void 열림_시간이_지나고_시험_호출이_성공하면_서킷이_닫힌다() throws InterruptedException {
+        executor = executor(new PaymentResilienceProperties(10, 5, 50, 50, 1, 2_000, false, 100, 10));
+        gateway.setFailureRate(1.0);
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> pay(CARD_NUMBER)).isInstanceOf(PaymentUnavailableException.class);
+        }
+
+        Thread.sleep(100);
+        gateway.setFailureRate(0);
+        pay(CARD_NUMBER);
+
+        assertThat(executor.circuitState()).isEqualTo(PaymentCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void 응답이_늦으면_헤지_요청이_먼저_성공하고_한_번만_청구된다() throws InterruptedException {
+        executor = executor(new PaymentResilienceProperties(10, 5, 50, 60_000, 1, 5_000, true, 20, 10));
+        gateway.slowNextCalls(1, 1_000);
+
+        final long startedAt = System.nanoTime();
+        pay(CARD_NUMBER);
+        final long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertThat(elapsedMillis).isLessThan(800);
+        assertThat(meterRegistry.get("payment.hedge.sent").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("payment.hedge.won").counter().count()).isEqualTo(1);
+        awaitDuplicates(1);
+        assertThat(gateway.duplicates()).isEqualTo(1);
+        assertThat(gateway.charges()).isEqualTo(1);
+    }
+
+    @Test
+    void PG_가_중복_승인을_막지_않으면_헤지하지_않는다() {
+        gateway = new FaultInjectingPaymentGateway(false);
+        executor = executor(new PaymentResilienceProperties(10, 5, 50, 60_000, 1, 5_000, true, 20, 10));
+        gateway.slowNextCalls(1, 300);
+
+        pay(CARD_NUMBER);
+
+        assertThat(meterRegistry.get("payment.hedge.sent").counter().count()).isZero();
+        assertThat(gateway.calls()).isEqualTo(1);
+        assertThat(gateway.charges()).isEqualTo(1);
+    }
+
+    @Test
+    void 같은_주문을_같은_카드로_다시_결제하면_같은_멱등_키로_보낸다() {
+        executor = executor(new PaymentResilienceProperties(10, 5, 50, 60_000, 1, 2_000, false, 100, 10));
+
+        executor.pay(1L, 1000, CARD_NUMBER);
+        executor.pay(1L, 1000, CARD_NUMBER);
+
+        assertThat(gateway.calls()).isEqualTo(2);
+        assertThat(gateway.charges()).isEqualTo(1);
+    }
+
+    @Test
+    void 시간이_초과되면_아직_보내지_않은_요청은_PG_로_보내지_않는다() throws InterruptedException {
+        executor = executor(new PaymentResilienceProperties(10, 5, 50, 60_000, 1, 100, false, 100, 10), 1);
+        gateway.slowNextCalls(1, 400);
+
+        assertThatThrownBy(() -> pay(CARD_NUMBER)).hasMessageContaining("시간이 초과");
+        // 전송 스레드가 앞의 느린 호출에 묶여 있어 두 번째 요청은 큐에서 기다리다 시간이 초과된다.
+        assertThatThrownBy(() -> pay(CARD_NUMBER)).hasMessageContaining("시간이 초과");
+        Thread.sleep(600);
+
+        assertThat(gateway.calls()).isEqualTo(1);
+        assertThat(meterRegistry.get("payment.gateway.late.approved").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 승인_거절은_서킷_실패로_세지_않는다() {
+        executor = executor(new PaymentResilienceProperties(10, 5, 50, 60_000, 1, 2_000, false, 100, 10));
+
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> pay(FakePaymentGateway.DECLINED_CARD_NUMBER))
+                    .isInstanceOf(PaymentDeclinedException.class);
+        }
+
+        assertThat(executor.circuitState()).isEqualTo(PaymentCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void 제한_시간을_넘기면_실패로_기록한다() {
+        executor = executor(new PaymentResilienceProperties(10, 1, 50, 60_000, 1, 50, false, 100, 10));
+        gateway.slowNextCalls(1, 500);
+
+        assertThatThrownBy(() -> pay(CARD_NUMBER))
+                .isInstanceOf(PaymentUnavailableException.class)
+                .hasMessageContaining("시간이 초과");
+        assertThat(executor.circuitState()).isEqualTo(PaymentCircuitBreaker.State.OPEN);
+    }
+
+    private ResilientPaymentExecutor executor(final PaymentResilienceProperties properties) {
+        return executor(properties, 4);
+    }
+
+    private ResilientPaymentExecutor executor(final PaymentResilienceProperties properties, final int concurrency) {
+        dispatcher = new PaymentBatchDispatcher(gateway, 1, 0, concurrency);
+        return new ResilientPaymentExecutor(dispatcher, properties, meterRegistry);
+    }
+
+    private void pay(final String cardNumber) {
+        executor.pay(nextOrderId++, 1000, cardNumber);
+    }
+
+    private void awaitDuplicates(final int duplicates) throws InterruptedException {
+        final long deadline = System.nanoTime() + 2_000_000_000L;
+        while (gateway.duplicates() < duplicates && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.productorderservice.product;
+
+import com.example.productorderservice.product.domain.DiscountEvaluator;
+import com.example.productorderservice.product.domain.FixedAmountDiscount;
+import com.example.productorderservice.product.domain.PercentageDiscount;
+import com.example.productorderservice.product.domain.TieredQuantityDiscount;
+import com.example.productorderservice.product.domain.TimeWindowDiscount;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DiscountEvaluatorTest {
+
+    private static final Instant SALE_FROM = Instant.parse("2024-11-11T00:00:00Z");
+    private static final Instant SALE_UNTIL = Instant.parse("2024-11-12T00:00:00Z");
+
+    @Test
+    void 규칙이_없으면_정가() {
+        final DiscountEvaluator evaluator = DiscountEvaluator.compile(1000, List.of());
+
+        assertThat(evaluator.totalPrice(3, 0)).isEqualTo(3000);
+    }
+
+    @Test
+    void 정률_할인() {
+        final DiscountEvaluator evaluator = DiscountEvaluator.compile(1000, List.of(new PercentageDiscount(10)));
+
+        assertThat(evaluator.unitPrice(1, 0)).isEqualTo(900);
+    }
+
+    @Test
+    void 수량_구간_할인() {
+        final DiscountEvaluator evaluator = DiscountEvaluator.compile(1000, List.of(new TieredQuantityDiscount(List.of(
+                new TieredQuantityDiscount.Tier(10, 20),
+                new TieredQuantityDiscount.Tier(5, 10)))));
+
+        assertThat(evaluator.unitPrice(4, 0)).isEqualTo(1000);
+        assertThat(evaluator.unitPrice(5, 0)).isEqualTo(900);
+        assertThat(evaluator.unitPrice(9, 0)).isEqualTo(900);
+        assertThat(evaluator.totalPrice(10, 0)).isEqualTo(8000);
+    }
+
+    @Test
+    void 기간_할인은_기간_안에서만_적용된다() {
+        final DiscountEvaluator evaluator = DiscountEvaluator.compile(1000, List.of(
+                new TimeWindowDiscount(SALE_FROM, SALE_UNTIL, new PercentageDiscount(50))));
+
+        assertThat(evaluator.unitPrice(1, SALE_FROM.toEpochMilli() - 1)).isEqualTo(1000);
+        assertThat(evaluator.unitPrice(1, SALE_FROM.toEpochMilli())).isEqualTo(500);
+        assertThat(evaluator.unitPrice(1, SALE_UNTIL.toEpochMilli() - 1)).isEqualTo(500);
+        assertThat(evaluator.unitPrice(1, SALE_UNTIL.toEpochMilli())).isEqualTo(1000);
+    }
+
+    @Test
+    void 여러_규칙은_순서대로_겹쳐_적용된다() {
+        final DiscountEvaluator evaluator = DiscountEvaluator.compile(10_000, List.of(
+                new FixedAmountDiscount(1000),
+                new PercentageDiscount(10),
+                new TimeWindowDiscount(SALE_FROM, SALE_UNTIL, new TieredQuantityDiscount(List.of(new TieredQuantityDiscount.Tier(2, 50))))));
+
+        assertThat(evaluator.unitPrice(1, SALE_FROM.toEpochMilli())).isEqualTo(8100);
+        assertThat(evaluator.unitPrice(2, SALE_FROM.toEpochMilli())).isEqualTo(4050);
+        assertThat(evaluator.unitPrice(2, SALE_UNTIL.toEpochMilli())).isEqualTo(8100);
+    }
+
+    @Test
+    void 할인_금액이_가격보다_크면_0원() {
+        final DiscountEvaluator evaluator = DiscountEvaluator.compile(500, List.of(new FixedAmountDiscount(1000)));
+
+        assertThat(evaluator.unitPrice(1, 0)).isZero();
+    }
+}
@@ -1,17 +1,31 @@
 package com.example.productorderservice.product;
 
 import com.example.productorderservice.ApiTest;
+import com.example.productorderservice.SqlStatementCounter;
 import com.example.productorderservice.product.adapter.ProductRepository;
 import com.example.productorderservice.product.application.service.AddProductRequest;
 import com.example.productorderservice.product.application.service.ProductService;
-import io.restassured.RestAssured;
+import com.example.productorderservice.product.domain.DiscountPolicy;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class ProductApiTest extends ApiTest {
@@ -23,6 +37,12 @@ public class ProductApiTest extends ApiTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @LocalServerPort
+    private int port;
+
     @Test
     void 상품등록(){
         final AddProductRequest request = ProductSteps.상품등록요청_생성();
@@ -39,7 +59,7 @@ public class ProductApiTest extends ApiTest {
         ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
         Long productId = 1L;
 
-        final ExtractableResponse<Response> response = RestAssured.given().log().all()
+        final ExtractableResponse<Response> response = ApiTest.given().log().all()
                 .when()
                 .get("/products/{productId}", productId)
                 .then().log().all()
@@ -49,22 +69,151 @@ public class ProductApiTest extends ApiTest {
         assertThat(response.jsonPath().getString("name")).isEqualTo("상품명");
     }
 
+    @Test
+    void 할인규칙_상품등록(){
+        ProductSteps.상품등록요청(ProductSteps.할인규칙_상품등록요청_생성());
+
+        final ExtractableResponse<Response> response = ProductSteps.상품조회요청(1L);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("discountRules.type")).containsExactly("PERCENTAGE", "TIERED_QUANTITY");
+        assertThat(productRepository.findById(1L).get().getTotalPrice(10, System.currentTimeMillis())).isEqualTo(64800);
+    }
+
+    @Test
+    void 상품조회는_DB를_거치지_않고_할인가를_함께_준다(){
+        ProductSteps.상품등록요청(ProductSteps.할인규칙_상품등록요청_생성());
+        sqlStatementCounter.reset();
+
+        final ExtractableResponse<Response> response = ProductSteps.상품조회요청(1L);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getInt("discountedPrice")).isEqualTo(8100);
+        assertThat(sqlStatementCounter.selects()).isZero();
+    }
+
+    @Test
+    void 수정한_상품은_바로_조회된다(){
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        상품수정요청(1L, ProductSteps.상품조회요청(1L).header(HttpHeaders.ETAG));
+
+        final ExtractableResponse<Response> response = ProductSteps.상품조회요청(1L);
+
+        assertThat(response.jsonPath().getString("name")).isEqualTo("상품 수정");
+        assertThat(response.header(HttpHeaders.ETAG)).isEqualTo("\"1\"");
+    }
+
+    @Test
+    void 상품목록조회(){
+        for (int i = 1; i <= 5; i++) {
+            ProductSteps.상품등록요청(new AddProductRequest("상품" + i, i * 1000, DiscountPolicy.NONE));
+        }
+
+        final ExtractableResponse<Response> firstPage = ProductSteps.상품목록조회요청(Map.of("size", 2));
+        final ExtractableResponse<Response> secondPage = ProductSteps.상품목록조회요청(
+                Map.of("size", 2, "after", firstPage.jsonPath().getLong("nextCursor")));
+
+        assertThat(firstPage.jsonPath().getList("products.name")).containsExactly("상품1", "상품2");
+        assertThat(secondPage.jsonPath().getList("products.name")).containsExactly("상품3", "상품4");
+    }
+
+    @Test
+    void 상품검색(){
+        ProductSteps.상품등록요청(new AddProductRequest("무선 키보드", 30000, DiscountPolicy.NONE));
+        ProductSteps.상품등록요청(new AddProductRequest("무선 마우스", 20000, DiscountPolicy.NONE));
+        ProductSteps.상품등록요청(new AddProductRequest("유선 키보드", 10000, DiscountPolicy.NONE));
+
+        final ExtractableResponse<Response> response = ProductSteps.상품목록조회요청(Map.of("q", "키보드", "minPrice", 15000));
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("products.name")).containsExactly("무선 키보드");
+        assertThat(response.jsonPath().getString("nextCursor")).isNull();
+    }
+
+    @Test
+    void 상품내보내기(){
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        ProductSteps.상품등록요청(ProductSteps.할인규칙_상품등록요청_생성());
+
+        final ExtractableResponse<Response> response = ProductSteps.상품내보내기요청("identity");
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.contentType()).startsWith("application/x-ndjson");
+        assertThat(response.header(HttpHeaders.CONTENT_ENCODING)).isNull();
+        final String[] lines = response.asString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"id\":1,\"name\":\"상품명\",\"price\":1000,");
+        assertThat(lines[1]).contains("\"discountRules\":[{\"type\":\"PERCENTAGE\"");
+    }
+
+    @Test
+    void 상품내보내기_gzip() throws IOException, InterruptedException {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        // REST Assured 는 gzip 을 알아서 풀어 버리므로 압축된 응답은 직접 받아 확인한다.
+        final HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/products/export"))
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .build();
+
+        final HttpResponse<InputStream> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofInputStream());
+
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        try (InputStream body = new GZIPInputStream(response.body())) {
+            assertThat(new String(body.readAllBytes(), StandardCharsets.UTF_8)).startsWith("{\"id\":1,").endsWith("}\n");
+        }
+    }
+
     @Test
     void 상품수정(){
         ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
         final long productId = 1l;
+        final String eTag = ProductSteps.상품조회요청(productId).header(HttpHeaders.ETAG);
 
-        final ExtractableResponse<Response> response = 상품수정요청(1L);
+        final ExtractableResponse<Response> response = 상품수정요청(productId, eTag);
 
 
         assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
         assertThat(productRepository.findById(1L).get().getName()).isEqualTo("상품 수정");
+        assertThat(ProductSteps.상품조회요청(productId).header(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+    }
+
+    @Test
+    void If_Match_없이_상품수정(){
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+
+        final ExtractableResponse<Response> response = 상품수정요청(1L, null);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.PRECONDITION_REQUIRED.value());
+    }
+
+    @Test
+    void 이전_버전으로_상품수정(){
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        final String staleETag = ProductSteps.상품조회요청(1L).header(HttpHeaders.ETAG);
+        상품수정요청(1L, staleETag);
+
+        final ExtractableResponse<Response> response = 상품수정요청(1L, staleETag);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED.value());
+    }
+
+    @Test
+    void 약한_ETag로는_상품수정할_수_없다(){
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        final String eTag = ProductSteps.상품조회요청(1L).header(HttpHeaders.ETAG);
+
+        final ExtractableResponse<Response> response = 상품수정요청(1L, "W/" + eTag);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED.value());
     }
 
-    private static ExtractableResponse<Response> 상품수정요청(final long productId){
-        return RestAssured.given().log().all()
+    private static ExtractableResponse<Response> 상품수정요청(final long productId, final String eTag){
+        final RequestSpecification request = ApiTest.given().log().all()
                 .contentType(MediaType.APPLICATION_JSON_VALUE)
-                .body(ProductSteps.상품수정요청_생성())
+                .body(ProductSteps.상품수정요청_생성());
+        if (eTag != null) {
+            request.header(HttpHeaders.IF_MATCH, eTag);
+        }
+        return request
                 .when()
                 .patch("/products/{priductId}", productId)
                 .then()
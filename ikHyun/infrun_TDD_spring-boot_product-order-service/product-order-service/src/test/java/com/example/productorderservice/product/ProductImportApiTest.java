@@ -0,0 +1,60 @@
+package com.example.productorderservice.product;
+
+import com.example.productorderservice.ApiTest;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProductImportApiTest extends ApiTest {
+
+    @Test
+    void NDJSON_대량등록(){
+        final String body = """
+                {"name":"무선 키보드","price":30000,"discountPolicy":"NONE","stock":10}
+                {"name":"무선 마우스","price":0,"discountPolicy":"NONE"}
+
+                {"name":"유선 마우스","price":10000,"discountPolicy":"FIX_1000_AMOUNT","discountRules":[{"type":"PERCENTAGE","percent":10}]}
+                {"name":
+                """;
+
+        final ExtractableResponse<Response> response = ProductSteps.상품대량등록요청("application/x-ndjson", body);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getLong("imported")).isEqualTo(2);
+        assertThat(response.jsonPath().getLong("failed")).isEqualTo(2);
+        assertThat(response.jsonPath().getList("errors.line", Integer.class)).containsExactly(2, 5);
+        assertThat(response.jsonPath().getString("errors[0].message")).isEqualTo("상품 가격은 0보다 커야 합니다.");
+        assertThat(ProductSteps.상품조회요청(2L).jsonPath().getInt("discountedPrice")).isEqualTo(8100);
+        assertThat(ProductSteps.상품목록조회요청(Map.of("q", "마우스")).jsonPath().getList("products.name"))
+                .containsExactly("유선 마우스");
+    }
+
+    @Test
+    void CSV_대량등록(){
+        final String body = """
+                name,price,discount_policy,stock
+                "키보드, 무선",30000,NONE,10
+                마우스,abc,NONE,10
+                모니터,200000,,
+                """;
+
+        final ExtractableResponse<Response> response = ProductSteps.상품대량등록요청("text/csv", body);
+
+        assertThat(response.jsonPath().getLong("imported")).isEqualTo(2);
+        assertThat(response.jsonPath().getList("errors.line", Integer.class)).containsExactly(3);
+        assertThat(ProductSteps.상품조회요청(1L).jsonPath().getString("name")).isEqualTo("키보드, 무선");
+        assertThat(ProductSteps.상품조회요청(2L).jsonPath().getString("discountPolicy")).isEqualTo("NONE");
+    }
+
+    @Test
+    void CSV_헤더에_필수_열이_없으면_실패한다(){
+        final ExtractableResponse<Response> response = ProductSteps.상품대량등록요청("text/csv", "name,stock\n키보드,10\n");
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+}
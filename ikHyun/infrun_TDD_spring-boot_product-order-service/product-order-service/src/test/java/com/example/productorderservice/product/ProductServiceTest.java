@@ -23,7 +23,9 @@ public class ProductServiceTest {
         final Long productId = 1L;
         final UpdateProductRequest request = new UpdateProductRequest("상품 수정", 2000, DiscountPolicy.NONE);
 
-        productService.updateProduct(productId, request);
+        final String eTag = productService.getProduct(productId).getHeaders().getETag();
+
+        productService.updateProduct(productId, eTag, request);
 
         final ResponseEntity<GetProductResponse> response = productService.getProduct(productId);
         final GetProductResponse productResponse = response.getBody();
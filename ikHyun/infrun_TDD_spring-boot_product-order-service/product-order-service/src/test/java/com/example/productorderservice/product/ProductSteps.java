@@ -1,17 +1,24 @@
 package com.example.productorderservice.product;
 
+import com.example.productorderservice.ApiTest;
 import com.example.productorderservice.product.application.service.AddProductRequest;
 import com.example.productorderservice.product.application.service.UpdateProductRequest;
 import com.example.productorderservice.product.domain.DiscountPolicy;
-import io.restassured.RestAssured;
+import com.example.productorderservice.product.domain.DiscountRule;
+import com.example.productorderservice.product.domain.PercentageDiscount;
+import com.example.productorderservice.product.domain.TieredQuantityDiscount;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
+import java.util.List;
+import java.util.Map;
+
 public class ProductSteps {
 
     public static ExtractableResponse<Response> 상품등록요청(final AddProductRequest request){
-        return RestAssured.given().log().all()
+        return ApiTest.given().log().all()
                 .contentType(MediaType.APPLICATION_JSON_VALUE)
                 .body(request)
                 .when()
@@ -24,17 +31,53 @@ public class ProductSteps {
         final String name = "상품명";
         final int price = 1000;
         final DiscountPolicy discountPolicy = DiscountPolicy.NONE;
-        return new AddProductRequest(name, price, discountPolicy);
+        final int stock = 100;
+        return new AddProductRequest(name, price, discountPolicy, List.of(), stock);
+    }
+
+    public static AddProductRequest 할인규칙_상품등록요청_생성(){
+        final List<DiscountRule> discountRules = List.of(
+                new PercentageDiscount(10),
+                new TieredQuantityDiscount(List.of(new TieredQuantityDiscount.Tier(10, 20))));
+        return new AddProductRequest("할인 상품", 10000, DiscountPolicy.FIX_1000_AMOUNT, discountRules, 100);
     }
 
     public static ExtractableResponse<Response> 상품조회요청(final Long productId){
-        return RestAssured.given().log().all()
+        return ApiTest.given().log().all()
                 .when()
                 .get("/products/{productId}", productId)
                 .then().log().all()
                 .extract();
     }
 
+    public static ExtractableResponse<Response> 상품목록조회요청(final Map<String, ?> params){
+        return ApiTest.given().log().all()
+                .queryParams(params)
+                .when()
+                .get("/products")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 상품대량등록요청(final String contentType, final String body){
+        return ApiTest.given().log().all()
+                .contentType(contentType + "; charset=UTF-8")
+                .body(body)
+                .when()
+                .post("/products/import")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 상품내보내기요청(final String acceptEncoding){
+        return ApiTest.given().log().all()
+                .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding)
+                .when()
+                .get("/products/export")
+                .then().log().all()
+                .extract();
+    }
+
     public static UpdateProductRequest 상품수정요청_생성(){
         return new UpdateProductRequest("상품 수정", 2000, DiscountPolicy.NONE);
     }
@@ -2,9 +2,12 @@ package com.example.productorderservice.product;
 
 
 import com.example.productorderservice.product.domain.DiscountPolicy;
+import com.example.productorderservice.product.domain.PercentageDiscount;
 import com.example.productorderservice.product.domain.Product;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class ProductTest {
@@ -37,4 +40,41 @@ class ProductTest {
 
         assertThat(discountedPrice).isEqualTo(1000);
     }
-}
\ No newline at end of file
+
+    @Test
+    void discount_rules_stack_on_discount_policy() {
+        final Product product = new Product("상품명", 2000, DiscountPolicy.FIX_1000_AMOUNT, List.of(new PercentageDiscount(10)));
+
+        final int discountedPrice = product.getDiscountedPrice();
+
+        assertThat(discountedPrice).isEqualTo(900);
+    }
+
+    @Test
+    void update_recompiles_discount_rules() {
+        final Product product = new Product("상품명", 1000, DiscountPolicy.NONE, List.of(new PercentageDiscount(10)));
+
+        product.update("상품 수정", 2000, DiscountPolicy.NONE, List.of(new PercentageDiscount(50)));
+
+        assertThat(product.getTotalPrice(2, System.currentTimeMillis())).isEqualTo(2000);
+    }
+
+    @Test
+    void update_without_discount_rules_keeps_existing_rules() {
+        final Product product = new Product("상품명", 1000, DiscountPolicy.NONE, List.of(new PercentageDiscount(10)));
+
+        product.update("상품 수정", 2000, DiscountPolicy.NONE);
+
+        assertThat(product.getDiscountRules()).containsExactly(new PercentageDiscount(10));
+        assertThat(product.getTotalPrice(1, System.currentTimeMillis())).isEqualTo(1800);
+    }
+
+    @Test
+    void update_with_empty_discount_rules_clears_rules() {
+        final Product product = new Product("상품명", 1000, DiscountPolicy.NONE, List.of(new PercentageDiscount(10)));
+
+        product.update("상품 수정", 2000, DiscountPolicy.NONE, List.of());
+
+        assertThat(product.getDiscountRules()).isEmpty();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.productorderservice.product.adapter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductNameIndexTest {
+
+    private final ProductNameIndex index = new ProductNameIndex();
+
+    @Test
+    void 상품명에_검색어가_포함된_상품을_찾는다() {
+        index.index(1L, "무선 키보드");
+        index.index(2L, "유선 키보드");
+        index.index(3L, "무선 마우스");
+
+        assertThat(index.search("키보드", 0, 10)).containsExactly(1L, 2L);
+        assertThat(index.search("무선", 0, 10)).containsExactly(1L, 3L);
+        assertThat(index.search("마", 0, 10)).containsExactly(3L);
+    }
+
+    @Test
+    void 토큰이_모두_있어도_연속되지_않으면_제외한다() {
+        index.index(1L, "abcab");
+
+        assertThat(index.search("abca", 0, 10)).containsExactly(1L);
+        assertThat(index.search("bcabc", 0, 10)).isEmpty();
+        assertThat(index.search("cabc", 0, 10)).isEmpty();
+    }
+
+    @Test
+    void 대소문자를_구분하지_않는다() {
+        index.index(1L, "USB Cable");
+
+        assertThat(index.search("usb c", 0, 10)).containsExactly(1L);
+    }
+
+    @Test
+    void after_이후부터_limit_만큼_조회한다() {
+        for (long id = 1; id <= 10; id++) {
+            index.index(id, "상품" + id);
+        }
+
+        assertThat(index.search("상품", 3, 4)).containsExactly(4L, 5L, 6L, 7L);
+    }
+
+    @Test
+    void 상품명을_수정하면_이전_토큰은_지운다() {
+        index.index(1L, "키보드");
+
+        index.index(1L, "마우스");
+
+        assertThat(index.search("키보드", 0, 10)).isEmpty();
+        assertThat(index.search("마우스", 0, 10)).containsExactly(1L);
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.productorderservice.reactive;
+
+import com.example.productorderservice.ApiTest;
+import com.example.productorderservice.inventory.adapter.InventoryAdapter;
+import com.example.productorderservice.order.OrderSteps;
+import com.example.productorderservice.order.application.service.CreateOrderRequest;
+import com.example.productorderservice.payment.PaymentSteps;
+import com.example.productorderservice.payment.adapter.DecliningPaymentGatewayConfiguration;
+import com.example.productorderservice.payment.adapter.FakePaymentGateway;
+import com.example.productorderservice.payment.application.service.PaymentRequest;
+import com.example.productorderservice.product.ProductSteps;
+import com.example.productorderservice.product.application.service.UpdateProductRequest;
+import com.example.productorderservice.product.domain.DiscountPolicy;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.reactive.DispatcherHandler;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("reactive")
+@Import(DecliningPaymentGatewayConfiguration.class)
+class ReactiveApiTest extends ApiTest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private InventoryAdapter inventoryAdapter;
+
+    @Autowired
+    private FakePaymentGateway paymentGateway;
+
+    @Test
+    void 상품_주문_결제를_WebFlux와_R2DBC로_처리한다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        OrderSteps.상품주문요청(OrderSteps.상품주문요청_생성());
+
+        final var response = PaymentSteps.주문결제요청(PaymentSteps.주문결제요청_생성());
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(applicationContext.getBeanNamesForType(DispatcherHandler.class)).isNotEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM orders WHERE id = 1", String.class)).isEqualTo("PAID");
+        assertThat(jdbcTemplate.queryForObject("SELECT price FROM payments WHERE order_id = 1", Integer.class)).isEqualTo(2000);
+    }
+
+    @Test
+    void 이미_결제된_주문은_다시_결제할_수_없다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        OrderSteps.상품주문요청(OrderSteps.상품주문요청_생성());
+        PaymentSteps.주문결제요청(PaymentSteps.주문결제요청_생성());
+
+        final var response = PaymentSteps.주문결제요청(PaymentSteps.주문결제요청_생성());
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+    }
+
+    @Test
+    void 결제가_거절된_주문은_다른_카드로_다시_결제할_수_있다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        OrderSteps.상품주문요청(OrderSteps.상품주문요청_생성());
+
+        final var declined = PaymentSteps.주문결제요청(new PaymentRequest(1L, FakePaymentGateway.DECLINED_CARD_NUMBER));
+        assertThat(declined.statusCode()).isEqualTo(HttpStatus.PAYMENT_REQUIRED.value());
+
+        final var retried = PaymentSteps.주문결제요청(PaymentSteps.주문결제요청_생성());
+
+        assertThat(retried.statusCode()).isEqualTo(HttpStatus.OK.value());
+        inventoryAdapter.flush();
+        assertThat(jdbcTemplate.queryForObject("SELECT stock FROM products WHERE id = 1", Integer.class)).isEqualTo(98);
+        assertThat(inventoryAdapter.availableStock(1L)).isEqualTo(98);
+    }
+
+    @Test
+    void 재고_예약이_만료된_주문은_PG를_부르지_않고_거절한다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        OrderSteps.상품주문요청(OrderSteps.상품주문요청_생성());
+        inventoryAdapter.release(1L);
+        final int calls = paymentGateway.calls();
+
+        final var response = PaymentSteps.주문결제요청(PaymentSteps.주문결제요청_생성());
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+        assertThat(paymentGateway.calls()).isEqualTo(calls);
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM orders WHERE id = 1", String.class)).isEqualTo("ORDERED");
+    }
+
+    @Test
+    void 재고가_부족하면_주문이_롤백된다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+
+        final var response = OrderSteps.상품주문요청(new CreateOrderRequest(1L, 1_000));
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Integer.class)).isZero();
+    }
+
+    @Test
+    void 이전_버전으로_상품수정하면_실패한다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        final String staleETag = ProductSteps.상품조회요청(1L).header(HttpHeaders.ETAG);
+        assertThat(상품수정요청(staleETag).statusCode()).isEqualTo(HttpStatus.OK.value());
+
+        final ExtractableResponse<Response> response = 상품수정요청(staleETag);
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED.value());
+        assertThat(ProductSteps.상품조회요청(1L).jsonPath().getString("name")).isEqualTo("상품 수정");
+    }
+
+    @Test
+    void 상품명으로_검색한다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        ProductSteps.상품등록요청(ProductSteps.할인규칙_상품등록요청_생성());
+
+        final var response = ProductSteps.상품목록조회요청(Map.of("q", "할인"));
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("products.name", String.class)).containsExactly("할인 상품");
+        assertThat(response.jsonPath().getList("products[0].discountRules")).hasSize(2);
+    }
+
+    private static ExtractableResponse<Response> 상품수정요청(final String eTag) {
+        return ApiTest.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .body(new UpdateProductRequest("상품 수정", 2000, DiscountPolicy.NONE))
+                .when()
+                .patch("/products/{productId}", 1L)
+                .then()
+                .log().all().extract();
+    }
+}
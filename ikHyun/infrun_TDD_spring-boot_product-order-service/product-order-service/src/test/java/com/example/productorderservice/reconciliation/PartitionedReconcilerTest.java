@@ -0,0 +1,79 @@
+package com.example.productorderservice.reconciliation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartitionedReconcilerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 주문_ID로_결제와_정산을_맞춰_불일치를_보고서에_쓴다() throws IOException {
+        final Path reportFile = directory.resolve("report.csv");
+        final ReconciliationResult result;
+        try (PartitionedReconciler reconciler = new PartitionedReconciler(directory.resolve("work"), 4)) {
+            reconciler.addPayment(1L, 10L, 1000);
+            reconciler.addPayment(2L, 20L, 2000);
+            reconciler.addPayment(3L, 30L, 3000);
+            reconciler.addSettlement(10L, 1000);
+            reconciler.addSettlement(20L, 1500);
+            reconciler.addSettlement(40L, 4000);
+            reconciler.addSettlement(40L, 4000);
+            try (ReconciliationReport report = new ReconciliationReport(reportFile)) {
+                result = reconciler.reconcile(report);
+            }
+        }
+
+        assertThat(result.payments()).isEqualTo(3);
+        assertThat(result.settlements()).isEqualTo(4);
+        assertThat(result.matched()).isEqualTo(1);
+        assertThat(result.mismatches(MismatchType.AMOUNT_MISMATCH)).isEqualTo(1);
+        assertThat(result.mismatches(MismatchType.MISSING_SETTLEMENT)).isEqualTo(1);
+        assertThat(result.mismatches(MismatchType.MISSING_PAYMENT)).isEqualTo(1);
+        assertThat(result.mismatches(MismatchType.DUPLICATE_SETTLEMENT)).isEqualTo(1);
+        assertThat(Files.readAllLines(reportFile)).first().isEqualTo(ReconciliationReport.HEADER);
+        assertThat(Files.readAllLines(reportFile)).containsOnlyOnce(
+                "AMOUNT_MISMATCH,20,2,2000,1500",
+                "MISSING_SETTLEMENT,30,3,3000,",
+                "MISSING_PAYMENT,40,,,4000",
+                "DUPLICATE_SETTLEMENT,40,,,4000");
+    }
+
+    @Test
+    void 파티션_수와_관계없이_결과가_같다() throws IOException {
+        for (final int partitions : new int[]{1, 7, 64}) {
+            try (PartitionedReconciler reconciler = new PartitionedReconciler(directory.resolve("work-" + partitions), partitions);
+                 ReconciliationReport report = new ReconciliationReport(directory.resolve("report-" + partitions + ".csv"))) {
+                for (long orderId = 1; orderId <= 10_000; orderId++) {
+                    reconciler.addPayment(orderId, orderId, 1000);
+                    if (orderId % 100 != 0) {
+                        reconciler.addSettlement(orderId, 1000);
+                    }
+                }
+
+                final ReconciliationResult result = reconciler.reconcile(report);
+
+                assertThat(result.matched()).isEqualTo(9_900);
+                assertThat(result.mismatches(MismatchType.MISSING_SETTLEMENT)).isEqualTo(100);
+                assertThat(result.totalMismatches()).isEqualTo(100);
+            }
+        }
+    }
+
+    @Test
+    void 닫으면_파티션_파일을_지운다() throws IOException {
+        final Path work = directory.resolve("work");
+        try (PartitionedReconciler reconciler = new PartitionedReconciler(work, 2)) {
+            reconciler.addPayment(1L, 1L, 1000);
+        }
+
+        assertThat(work).doesNotExist();
+    }
+}
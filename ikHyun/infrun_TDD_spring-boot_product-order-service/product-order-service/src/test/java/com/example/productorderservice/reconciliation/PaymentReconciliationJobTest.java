@@ -0,0 +1,59 @@
+package com.example.productorderservice.reconciliation;
+
+import com.example.productorderservice.ApiTest;
+import com.example.productorderservice.order.OrderSteps;
+import com.example.productorderservice.payment.PaymentSteps;
+import com.example.productorderservice.product.ProductSteps;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PaymentReconciliationJobTest extends ApiTest {
+
+    @Autowired
+    private PaymentReconciliationJob paymentReconciliationJob;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 결제를_정산_파일과_대사해_불일치를_보고서로_남긴다() throws IOException {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        OrderSteps.상품주문요청(OrderSteps.상품주문요청_생성());
+        PaymentSteps.주문결제요청(PaymentSteps.주문결제요청_생성());
+        final Path settlementFile = Files.writeString(directory.resolve("settlement.csv"), """
+                order_id,amount
+                1,1500
+                2,3000
+                """);
+        final Path reportFile = directory.resolve("report.csv");
+
+        final ReconciliationResult result = paymentReconciliationJob.run(settlementFile, reportFile);
+
+        assertThat(result.payments()).isEqualTo(1);
+        assertThat(result.settlements()).isEqualTo(2);
+        assertThat(result.matched()).isZero();
+        assertThat(Files.readAllLines(reportFile)).containsExactlyInAnyOrder(
+                ReconciliationReport.HEADER,
+                "AMOUNT_MISMATCH,1,1,2000,1500",
+                "MISSING_PAYMENT,2,,,3000");
+    }
+
+    @Test
+    void 정산_파일_형식이_틀리면_실패한다() throws IOException {
+        final Path settlementFile = Files.writeString(directory.resolve("settlement.csv"), """
+                order_id,amount
+                1,abc
+                """);
+
+        assertThatThrownBy(() -> paymentReconciliationJob.run(settlementFile, directory.resolve("report.csv")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
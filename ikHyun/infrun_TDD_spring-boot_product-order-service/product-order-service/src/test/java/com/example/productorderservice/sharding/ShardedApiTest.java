@@ -0,0 +1,117 @@
+package com.example.productorderservice.sharding;
+
+import com.example.productorderservice.ApiTest;
+import com.example.productorderservice.order.OrderSteps;
+import com.example.productorderservice.order.application.service.CreateOrderRequest;
+import com.example.productorderservice.payment.PaymentSteps;
+import com.example.productorderservice.payment.adapter.DecliningPaymentGatewayConfiguration;
+import com.example.productorderservice.payment.adapter.FakePaymentGateway;
+import com.example.productorderservice.payment.application.service.PaymentRequest;
+import com.example.productorderservice.product.ProductSteps;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("sharded")
+@TestPropertySource(properties = "sharding.shards=4")
+@Import(DecliningPaymentGatewayConfiguration.class)
+class ShardedApiTest extends ApiTest {
+
+    private static final String CARD_NUMBER = "1234-1234-1234-1234";
+
+    @Autowired
+    private ShardedStore shardedStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 주문은_샤드에_고르게_나뉘고_ID_로_샤드를_찾는다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+
+        final Set<Integer> usedShards = new HashSet<>();
+        for (int i = 0; i < 8; i++) {
+            final long orderId = 주문(new CreateOrderRequest(1L, 1));
+            final int shard = SnowflakeIdGenerator.shardOf(orderId);
+            usedShards.add(shard);
+            assertThat(shardedStore.shard(shard).queryForObject("SELECT COUNT(*) FROM orders WHERE id = ?", Integer.class, orderId))
+                    .isOne();
+        }
+
+        assertThat(usedShards).containsExactlyInAnyOrder(0, 1, 2, 3);
+        for (int shard = 0; shard < shardedStore.shardCount(); shard++) {
+            assertThat(shardedStore.shard(shard).queryForObject("SELECT COUNT(*) FROM orders", Integer.class)).isEqualTo(2);
+        }
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Integer.class)).isZero();
+    }
+
+    @Test
+    void 결제는_주문과_같은_샤드에_저장한다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        주문(OrderSteps.상품주문요청_생성());
+        final long orderId = 주문(OrderSteps.상품주문요청_생성());
+
+        final var response = PaymentSteps.주문결제요청(new PaymentRequest(orderId, CARD_NUMBER));
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        final JdbcTemplate shard = shardedStore.shard(SnowflakeIdGenerator.shardOf(orderId));
+        assertThat(shard.queryForObject("SELECT status FROM orders WHERE id = ?", String.class, orderId)).isEqualTo("PAID");
+        final long paymentId = shard.queryForObject("SELECT id FROM payments WHERE order_id = ?", Long.class, orderId);
+        assertThat(SnowflakeIdGenerator.shardOf(paymentId)).isEqualTo(SnowflakeIdGenerator.shardOf(orderId));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payments", Integer.class)).isZero();
+    }
+
+    @Test
+    void 결제가_거절되면_결제_완료_표시도_샤드에_남지_않는다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        final long orderId = 주문(OrderSteps.상품주문요청_생성());
+
+        final var response = PaymentSteps.주문결제요청(new PaymentRequest(orderId, FakePaymentGateway.DECLINED_CARD_NUMBER));
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.PAYMENT_REQUIRED.value());
+        final JdbcTemplate shard = shardedStore.shard(SnowflakeIdGenerator.shardOf(orderId));
+        assertThat(shard.queryForObject("SELECT status FROM orders WHERE id = ?", String.class, orderId)).isEqualTo("ORDERED");
+        assertThat(shard.queryForObject("SELECT COUNT(*) FROM payments", Integer.class)).isZero();
+        assertThat(PaymentSteps.주문결제요청(new PaymentRequest(orderId, CARD_NUMBER)).statusCode()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    void 이미_결제된_주문은_다시_결제할_수_없다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+        final long orderId = 주문(OrderSteps.상품주문요청_생성());
+        PaymentSteps.주문결제요청(new PaymentRequest(orderId, CARD_NUMBER));
+
+        final var response = PaymentSteps.주문결제요청(new PaymentRequest(orderId, CARD_NUMBER));
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+    }
+
+    @Test
+    void 재고가_부족해서_롤백된_주문은_샤드에_남지_않는다() {
+        ProductSteps.상품등록요청(ProductSteps.상품등록요청_생성());
+
+        final var response = OrderSteps.상품주문요청(new CreateOrderRequest(1L, 1_000));
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+        for (int shard = 0; shard < shardedStore.shardCount(); shard++) {
+            assertThat(shardedStore.shard(shard).queryForObject("SELECT COUNT(*) FROM orders", Integer.class)).isZero();
+        }
+    }
+
+    private static long 주문(final CreateOrderRequest request) {
+        final var response = OrderSteps.상품주문요청(request);
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        final String location = response.header(HttpHeaders.LOCATION);
+        return Long.parseLong(location.substring(location.lastIndexOf('/') + 1));
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.productorderservice.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    void ID_에서_만든_샤드_번호를_다시_꺼낸다() {
+        final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0);
+
+        for (int shard = 0; shard < SnowflakeIdGenerator.MAX_SHARDS; shard++) {
+            assertThat(SnowflakeIdGenerator.shardOf(generator.next(shard))).isEqualTo(shard);
+        }
+    }
+
+    @Test
+    void 같은_밀리초에_순번을_다_쓰면_다음_밀리초로_넘어간다() {
+        final AtomicLong now = new AtomicLong(SnowflakeIdGenerator.EPOCH_MILLIS + 1_000);
+        final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, () -> now.get());
+
+        long previous = -1;
+        for (int i = 0; i < 4096; i++) {
+            final long id = generator.next(3);
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+        final Thread ticker = new Thread(() -> now.incrementAndGet());
+        ticker.start();
+        final long overflowed = generator.next(3);
+
+        assertThat(overflowed).isGreaterThan(previous);
+        assertThat(overflowed >>> 22).isEqualTo(1_001);
+        assertThat(SnowflakeIdGenerator.shardOf(overflowed)).isEqualTo(3);
+    }
+
+    @Test
+    void 시계가_뒤로_가도_ID_는_줄어들지_않는다() {
+        final AtomicLong now = new AtomicLong(SnowflakeIdGenerator.EPOCH_MILLIS + 5_000);
+        final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, () -> now.get());
+
+        final long before = generator.next(0);
+        now.addAndGet(-1_000);
+
+        assertThat(generator.next(0)).isGreaterThan(before);
+    }
+
+    @Test
+    void 워커가_다르면_같은_밀리초_같은_샤드에서도_ID_가_겹치지_않는다() {
+        final AtomicLong now = new AtomicLong(SnowflakeIdGenerator.EPOCH_MILLIS + 1_000);
+        final SnowflakeIdGenerator first = new SnowflakeIdGenerator(1, () -> now.get());
+        final SnowflakeIdGenerator second = new SnowflakeIdGenerator(2, () -> now.get());
+
+        final long a = first.next(5);
+        final long b = second.next(5);
+
+        assertThat(a).isNotEqualTo(b);
+        assertThat(SnowflakeIdGenerator.shardOf(a)).isEqualTo(SnowflakeIdGenerator.shardOf(b)).isEqualTo(5);
+        assertThat(SnowflakeIdGenerator.workerOf(a)).isEqualTo(1);
+        assertThat(SnowflakeIdGenerator.workerOf(b)).isEqualTo(2);
+    }
+
+    @Test
+    void 범위를_벗어난_샤드_번호는_받지_않는다() {
+        final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> generator.next(SnowflakeIdGenerator.MAX_SHARDS));
+    }
+
+    @Test
+    void 범위를_벗어난_워커_번호는_받지_않는다() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_WORKERS));
+    }
+}
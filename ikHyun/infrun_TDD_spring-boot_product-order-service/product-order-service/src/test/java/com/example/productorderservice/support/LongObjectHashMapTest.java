@@ -0,0 +1,35 @@
+package com.example.productorderservice.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongObjectHashMapTest {
+
+    @Test
+    void 무작위_넣기_지우기가_HashMap_과_같은_결과를_낸다() {
+        final LongObjectHashMap<String> map = new LongObjectHashMap<>();
+        final Map<Long, String> expected = new HashMap<>();
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            final long key = random.nextInt(5_000) - 100;
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                final String value = "v" + i;
+                assertThat(map.put(key, value)).isEqualTo(expected.put(key, value));
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+        final Map<Long, String> iterated = new HashMap<>();
+        map.forEach(iterated::put);
+        assertThat(iterated).isEqualTo(expected);
+    }
+}
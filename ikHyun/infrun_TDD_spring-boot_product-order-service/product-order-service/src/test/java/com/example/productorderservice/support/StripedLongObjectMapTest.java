@@ -0,0 +1,50 @@
+package com.example.productorderservice.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedLongObjectMapTest {
+
+    @Test
+    void 여러_스레드가_같은_키를_갱신해도_잃어버리는_값이_없다() throws Exception {
+        final StripedLongObjectMap<Integer> map = new StripedLongObjectMap<>(8, 0);
+        final int threads = 8;
+        final int keys = 1_000;
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (long key = 0; key < keys; key++) {
+                        final long k = key;
+                        map.update(k, stripe -> {
+                            final Integer current = stripe.get(k);
+                            return stripe.put(k, current == null ? 1 : current + 1);
+                        });
+                        map.get(k);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(map.size()).isEqualTo(keys);
+        map.forEach((key, count) -> assertThat(count).isEqualTo(threads));
+    }
+}